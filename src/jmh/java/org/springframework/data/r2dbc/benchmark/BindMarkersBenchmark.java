@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.benchmark.stub.StubConnectionFactory;
+import org.springframework.data.r2dbc.benchmark.stub.StubStatement;
+import org.springframework.data.r2dbc.dialect.BindMarker;
+import org.springframework.data.r2dbc.dialect.BindMarkers;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
+
+/**
+ * Benchmarks for {@link BindMarkersFactory indexed and named bind markers} creating placeholders and binding values to
+ * a {@link StubStatement}. Run with {@code mvn -Pjmh verify -Djmh.include=BindMarkersBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindMarkersBenchmark {
+
+	@Param({ "5", "60" }) int parameterCount;
+
+	StubConnectionFactory connectionFactory;
+	BindMarkersFactory indexed = BindMarkersFactory.indexed("$", 1);
+	BindMarkersFactory named = BindMarkersFactory.named("@", "p", 32);
+
+	@Setup
+	public void setup() {
+		connectionFactory = new StubConnectionFactory(Collections.emptyList(), Collections.emptyList());
+	}
+
+	@Benchmark
+	public void indexedBindMarkers(Blackhole blackhole) {
+		bind(indexed.create(), blackhole);
+	}
+
+	@Benchmark
+	public void namedBindMarkers(Blackhole blackhole) {
+		bind(named.create(), blackhole);
+	}
+
+	private void bind(BindMarkers bindMarkers, Blackhole blackhole) {
+
+		StubStatement statement = StubStatement.of(connectionFactory, "INSERT");
+
+		for (int i = 0; i < parameterCount; i++) {
+
+			BindMarker bindMarker = bindMarkers.next("column");
+			blackhole.consume(bindMarker.getPlaceholder());
+			bindMarker.bindValue(statement, i);
+		}
+
+		blackhole.consume(statement.getBindings());
+	}
+}
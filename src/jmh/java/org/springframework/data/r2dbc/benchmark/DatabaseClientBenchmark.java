@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.benchmark.stub.StubConnectionFactory;
+import org.springframework.data.r2dbc.function.DatabaseClient;
+import org.springframework.data.r2dbc.function.DatabaseClient.GenericExecuteSpec;
+
+/**
+ * Benchmarks for {@link DatabaseClient} running against {@link StubConnectionFactory} to measure the per-query and
+ * per-row overhead of the client without I/O. Run with {@code mvn -Pjmh verify -Djmh.include=DatabaseClientBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseClientBenchmark {
+
+	@Param({ "1", "100" }) int rows;
+
+	DatabaseClient databaseClient;
+	LegoSet legoSet;
+
+	@Setup
+	public void setup() {
+
+		databaseClient = DatabaseClient.create(StubConnectionFactory.rows(LegoSet.COLUMNS, rows, LegoSet.values(42)));
+		legoSet = new LegoSet(null, "SCHAUFELRADBAGGER", 12);
+	}
+
+	@Benchmark
+	public void executeGeneric(Blackhole blackhole) {
+
+		databaseClient.execute().sql("SELECT id, name, manual FROM legoset") //
+				.fetch().all() //
+				.doOnNext(blackhole::consume) //
+				.blockLast();
+	}
+
+	@Benchmark
+	public void executeTyped(Blackhole blackhole) {
+
+		databaseClient.execute().sql("SELECT id, name, manual FROM legoset") //
+				.as(LegoSet.class) //
+				.fetch().all() //
+				.doOnNext(blackhole::consume) //
+				.blockLast();
+	}
+
+	@Benchmark
+	public void selectTyped(Blackhole blackhole) {
+
+		databaseClient.select().from(LegoSet.class) //
+				.fetch().all() //
+				.doOnNext(blackhole::consume) //
+				.blockLast();
+	}
+
+	@Benchmark
+	public Integer executeWithBindings() {
+
+		GenericExecuteSpec spec = databaseClient.execute()
+				.sql("UPDATE legoset SET name = $2, manual = $3, a = $4, b = $5, c = $6, d = $7, e = $8, f = $9 WHERE id = $1");
+
+		for (int i = 0; i < 9; i++) {
+			spec = spec.bind(i, i);
+		}
+
+		return spec.fetch().rowsUpdated().block();
+	}
+
+	@Benchmark
+	public void insertTyped() {
+
+		databaseClient.insert().into(LegoSet.class) //
+				.using(legoSet) //
+				.then() //
+				.block();
+	}
+}
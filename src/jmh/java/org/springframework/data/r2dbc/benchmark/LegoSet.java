@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Entity used by benchmarks.
+ *
+ * @author Mark Paluch
+ */
+@Data
+@Table("legoset")
+@NoArgsConstructor
+@AllArgsConstructor
+public class LegoSet {
+
+	public static final List<String> COLUMNS = Arrays.asList("id", "name", "manual");
+
+	@Id Integer id;
+	String name;
+	Integer manual;
+
+	public static Object[] values(int id) {
+		return new Object[] { id, "SCHAUFELRADBAGGER", 12 };
+	}
+}
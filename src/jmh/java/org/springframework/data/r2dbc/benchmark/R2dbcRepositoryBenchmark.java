@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.benchmark.stub.StubConnectionFactory;
+import org.springframework.data.r2dbc.function.DatabaseClient;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Benchmarks for {@link SimpleR2dbcRepository} running against {@link StubConnectionFactory}. Run with
+ * {@code mvn -Pjmh verify -Djmh.include=R2dbcRepositoryBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class R2dbcRepositoryBenchmark {
+
+	@Param({ "1", "100" }) int rows;
+
+	LegoSetRepository repository;
+	LegoSet newLegoSet;
+	LegoSet existingLegoSet;
+
+	@Setup
+	public void setup() {
+
+		DatabaseClient databaseClient = DatabaseClient
+				.create(StubConnectionFactory.rows(LegoSet.COLUMNS, rows, LegoSet.values(42)));
+
+		R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(databaseClient, new RelationalMappingContext());
+		repository = factory.getRepository(LegoSetRepository.class);
+
+		newLegoSet = new LegoSet(null, "SCHAUFELRADBAGGER", 12);
+		existingLegoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+	}
+
+	@Benchmark
+	public void findAll(Blackhole blackhole) {
+		repository.findAll().doOnNext(blackhole::consume).blockLast();
+	}
+
+	@Benchmark
+	public LegoSet findById() {
+		return repository.findById(42).block();
+	}
+
+	@Benchmark
+	public LegoSet insert() {
+
+		newLegoSet.setId(null);
+		return repository.save(newLegoSet).block();
+	}
+
+	@Benchmark
+	public LegoSet update() {
+		return repository.save(existingLegoSet).block();
+	}
+
+	public interface LegoSetRepository extends ReactiveCrudRepository<LegoSet, Integer> {}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.benchmark.stub.StubRow;
+import org.springframework.data.r2dbc.benchmark.stub.StubRowMetadata;
+import org.springframework.data.r2dbc.function.convert.ColumnMapRowMapper;
+import org.springframework.data.r2dbc.function.convert.EntityRowMapper;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Benchmarks for {@link EntityRowMapper} and {@link ColumnMapRowMapper} mapping in-memory rows. Scores are reported
+ * per row. Run with {@code mvn -Pjmh verify -Djmh.include=RowMapperBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+
+	private static final int ROWS = 1000;
+
+	StubRowMetadata legoSetMetadata;
+	List<StubRow> legoSetRows;
+	EntityRowMapper<LegoSet> legoSetMapper;
+
+	StubRowMetadata wideEntityMetadata;
+	List<StubRow> wideEntityRows;
+	EntityRowMapper<WideEntity> wideEntityMapper;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		RelationalMappingContext mappingContext = new RelationalMappingContext();
+		BasicRelationalConverter converter = new BasicRelationalConverter(mappingContext);
+
+		legoSetMetadata = new StubRowMetadata(LegoSet.COLUMNS);
+		legoSetRows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			legoSetRows.add(new StubRow(legoSetMetadata, LegoSet.values(i)));
+		}
+		legoSetMapper = new EntityRowMapper<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class), converter);
+
+		wideEntityMetadata = new StubRowMetadata(WideEntity.COLUMNS);
+		wideEntityRows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			wideEntityRows.add(new StubRow(wideEntityMetadata, WideEntity.values(i)));
+		}
+		wideEntityMapper = new EntityRowMapper<>(
+				(RelationalPersistentEntity<WideEntity>) mappingContext.getRequiredPersistentEntity(WideEntity.class),
+				converter);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void entityRowMapper(Blackhole blackhole) {
+
+		for (StubRow row : legoSetRows) {
+			blackhole.consume(legoSetMapper.apply(row, legoSetMetadata));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void entityRowMapperWideEntity(Blackhole blackhole) {
+
+		for (StubRow row : wideEntityRows) {
+			blackhole.consume(wideEntityMapper.apply(row, wideEntityMetadata));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void columnMapRowMapper(Blackhole blackhole) {
+
+		for (StubRow row : legoSetRows) {
+			Map<String, Object> map = ColumnMapRowMapper.INSTANCE.apply(row, legoSetMetadata);
+			blackhole.consume(map);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void columnMapRowMapperWideEntity(Blackhole blackhole) {
+
+		for (StubRow row : wideEntityRows) {
+			blackhole.consume(ColumnMapRowMapper.INSTANCE.apply(row, wideEntityMetadata));
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Entity with many columns used by row mapping benchmarks.
+ *
+ * @author Mark Paluch
+ */
+@Data
+@Table("wide_entity")
+public class WideEntity {
+
+	public static final List<String> COLUMNS;
+
+	static {
+
+		List<String> columns = new ArrayList<>();
+		columns.add("id");
+
+		for (int i = 1; i <= 9; i++) {
+			columns.add("text" + i);
+		}
+
+		for (int i = 1; i <= 10; i++) {
+			columns.add("number" + i);
+		}
+
+		COLUMNS = columns;
+	}
+
+	@Id Long id;
+	String text1, text2, text3, text4, text5, text6, text7, text8, text9;
+	Integer number1, number2, number3, number4, number5, number6, number7, number8, number9, number10;
+
+	public static Object[] values(long id) {
+
+		Object[] values = new Object[COLUMNS.size()];
+		values[0] = id;
+
+		for (int i = 1; i <= 9; i++) {
+			values[i] = "text-" + i;
+		}
+
+		for (int i = 10; i < values.length; i++) {
+			values[i] = i;
+		}
+
+		return values;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark.stub;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.IsolationLevel;
+import reactor.core.publisher.Mono;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * In-memory {@link Connection} creating {@link StubStatement}s. Transaction methods complete without performing any
+ * work.
+ *
+ * @author Mark Paluch
+ */
+public class StubConnection implements Connection {
+
+	private final StubConnectionFactory connectionFactory;
+
+	StubConnection(StubConnectionFactory connectionFactory) {
+		this.connectionFactory = connectionFactory;
+	}
+
+	/**
+	 * Create a {@link StubConnection} emitting the rows of {@code connectionFactory}.
+	 *
+	 * @param connectionFactory the connection factory providing canned results.
+	 * @return the {@link StubConnection}.
+	 */
+	public static StubConnection of(StubConnectionFactory connectionFactory) {
+		return new StubConnection(connectionFactory);
+	}
+
+	@Override
+	public Publisher<Void> beginTransaction() {
+		return Mono.empty();
+	}
+
+	@Override
+	public Publisher<Void> close() {
+		return Mono.empty();
+	}
+
+	@Override
+	public Publisher<Void> commitTransaction() {
+		return Mono.empty();
+	}
+
+	@Override
+	public Batch createBatch() {
+		throw new UnsupportedOperationException("Batches are not supported");
+	}
+
+	@Override
+	public Publisher<Void> createSavepoint(String name) {
+		return Mono.empty();
+	}
+
+	@Override
+	public StubStatement createStatement(String sql) {
+		return new StubStatement(connectionFactory, sql);
+	}
+
+	@Override
+	public Publisher<Void> releaseSavepoint(String name) {
+		return Mono.empty();
+	}
+
+	@Override
+	public Publisher<Void> rollbackTransaction() {
+		return Mono.empty();
+	}
+
+	@Override
+	public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+		return Mono.empty();
+	}
+
+	@Override
+	public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+		return Mono.empty();
+	}
+}
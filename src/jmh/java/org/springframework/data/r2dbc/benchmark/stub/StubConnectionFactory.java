@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark.stub;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * In-memory {@link ConnectionFactory} that returns canned rows without performing any I/O. Statements containing
+ * {@code SELECT} or {@code RETURNING} emit all configured rows, other statements report one updated row per bound
+ * parameter set.
+ *
+ * @author Mark Paluch
+ */
+public class StubConnectionFactory implements ConnectionFactory {
+
+	private final StubRowMetadata metadata;
+	private final List<Object[]> rows;
+	private final Mono<Connection> connection;
+
+	/**
+	 * Create a new {@link StubConnectionFactory} emitting {@code rows} for queries.
+	 *
+	 * @param columnNames column names of the result.
+	 * @param rows column values per row. Values are ordered by column index.
+	 */
+	public StubConnectionFactory(List<String> columnNames, List<Object[]> rows) {
+
+		this.metadata = new StubRowMetadata(columnNames);
+		this.rows = rows;
+		this.connection = Mono.just(new StubConnection(this));
+	}
+
+	/**
+	 * Create a new {@link StubConnectionFactory} emitting a single row for queries.
+	 *
+	 * @param columnNames column names of the result.
+	 * @param values column values ordered by column index.
+	 * @return the {@link StubConnectionFactory}.
+	 */
+	public static StubConnectionFactory singleRow(List<String> columnNames, Object... values) {
+		return new StubConnectionFactory(columnNames, Collections.singletonList(values));
+	}
+
+	/**
+	 * Create a new {@link StubConnectionFactory} emitting {@code count} identical rows for queries.
+	 *
+	 * @param columnNames column names of the result.
+	 * @param count number of rows.
+	 * @param values column values ordered by column index.
+	 * @return the {@link StubConnectionFactory}.
+	 */
+	public static StubConnectionFactory rows(List<String> columnNames, int count, Object... values) {
+
+		Object[][] rows = new Object[count][];
+		Arrays.fill(rows, values);
+
+		return new StubConnectionFactory(columnNames, Arrays.asList(rows));
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.ConnectionFactory#create()
+	 */
+	@Override
+	public Publisher<? extends Connection> create() {
+		return connection;
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.ConnectionFactory#getMetadata()
+	 */
+	@Override
+	public ConnectionFactoryMetadata getMetadata() {
+		return StubConnectionFactoryMetadata.INSTANCE;
+	}
+
+	StubResult createResult(String sql, int parameterSets) {
+
+		if (sql.contains("SELECT") || sql.contains("RETURNING")) {
+			return new StubResult(metadata, rows, rows.size());
+		}
+
+		return new StubResult(metadata, Collections.emptyList(), parameterSets);
+	}
+
+	enum StubConnectionFactoryMetadata implements ConnectionFactoryMetadata {
+
+		INSTANCE;
+
+		@Override
+		public String getName() {
+			return "Stub";
+		}
+	}
+}
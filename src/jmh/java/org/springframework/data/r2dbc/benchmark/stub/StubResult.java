@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark.stub;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * In-memory {@link Result} emitting canned rows. All rows share the same {@link StubRowMetadata}.
+ *
+ * @author Mark Paluch
+ */
+public class StubResult implements Result {
+
+	private final StubRowMetadata metadata;
+	private final List<Object[]> rows;
+	private final int rowsUpdated;
+
+	StubResult(StubRowMetadata metadata, List<Object[]> rows, int rowsUpdated) {
+
+		this.metadata = metadata;
+		this.rows = rows;
+		this.rowsUpdated = rowsUpdated;
+	}
+
+	@Override
+	public Publisher<Integer> getRowsUpdated() {
+		return Mono.just(rowsUpdated);
+	}
+
+	@Override
+	public <T> Publisher<T> map(BiFunction<Row, RowMetadata, ? extends T> f) {
+		return Flux.fromIterable(rows).map(values -> f.apply(new StubRow(metadata, values), metadata));
+	}
+}
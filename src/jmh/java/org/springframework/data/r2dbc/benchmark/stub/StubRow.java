@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark.stub;
+
+import io.r2dbc.spi.Row;
+
+/**
+ * In-memory {@link Row} backed by an array of column values. Columns can be accessed by index or by name.
+ *
+ * @author Mark Paluch
+ */
+public class StubRow implements Row {
+
+	private final StubRowMetadata metadata;
+	private final Object[] values;
+
+	/**
+	 * Create a new {@link StubRow}.
+	 *
+	 * @param metadata the row metadata.
+	 * @param values column values ordered by column index.
+	 */
+	public StubRow(StubRowMetadata metadata, Object[] values) {
+
+		this.metadata = metadata;
+		this.values = values;
+	}
+
+	@Override
+	public <T> T get(Object identifier, Class<T> type) {
+
+		int index = identifier instanceof Integer ? (Integer) identifier : metadata.indexOf((String) identifier);
+
+		if (index < 0 || index >= values.length) {
+			throw new IllegalArgumentException(String.format("Column %s does not exist", identifier));
+		}
+
+		return type.cast(values[index]);
+	}
+
+	public Object get(Object identifier) {
+		return get(identifier, Object.class);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark.stub;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.RowMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link RowMetadata} for a fixed list of columns. Column names are resolved case-insensitive.
+ *
+ * @author Mark Paluch
+ */
+public class StubRowMetadata implements RowMetadata {
+
+	private final List<StubColumnMetadata> columns;
+	private final Map<String, Integer> indexes = new HashMap<>();
+
+	/**
+	 * Create a new {@link StubRowMetadata}.
+	 *
+	 * @param columnNames the column names.
+	 */
+	public StubRowMetadata(List<String> columnNames) {
+
+		List<StubColumnMetadata> columns = new ArrayList<>(columnNames.size());
+
+		for (int i = 0; i < columnNames.size(); i++) {
+
+			String columnName = columnNames.get(i);
+			columns.add(new StubColumnMetadata(columnName));
+			indexes.putIfAbsent(columnName.toLowerCase(), i);
+		}
+
+		this.columns = Collections.unmodifiableList(columns);
+	}
+
+	@Override
+	public ColumnMetadata getColumnMetadata(Object identifier) {
+
+		int index = identifier instanceof Integer ? (Integer) identifier : indexOf((String) identifier);
+
+		if (index < 0 || index >= columns.size()) {
+			throw new IllegalArgumentException(String.format("Column %s does not exist", identifier));
+		}
+
+		return columns.get(index);
+	}
+
+	@Override
+	public Iterable<? extends ColumnMetadata> getColumnMetadatas() {
+		return columns;
+	}
+
+	int indexOf(String columnName) {
+
+		Integer index = indexes.get(columnName.toLowerCase());
+		return index != null ? index : -1;
+	}
+}
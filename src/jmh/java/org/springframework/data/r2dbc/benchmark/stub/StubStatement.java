@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.benchmark.stub;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Mono;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * In-memory {@link Statement} that counts bindings and emits a single {@link StubResult} on execution.
+ * <p>
+ * Index-based bind methods are declared for both {@code int} and {@link Integer} indexes so this stub implements the
+ * SPI regardless of the index type declared by the SPI version in use.
+ *
+ * @author Mark Paluch
+ */
+public class StubStatement implements Statement<StubStatement> {
+
+	private final StubConnectionFactory connectionFactory;
+	private final String sql;
+
+	private int bindings;
+	private int parameterSets = 1;
+
+	StubStatement(StubConnectionFactory connectionFactory, String sql) {
+
+		this.connectionFactory = connectionFactory;
+		this.sql = sql;
+	}
+
+	/**
+	 * Create a {@link StubStatement} for {@code sql}.
+	 *
+	 * @param connectionFactory the connection factory providing canned results.
+	 * @param sql the SQL.
+	 * @return the {@link StubStatement}.
+	 */
+	public static StubStatement of(StubConnectionFactory connectionFactory, String sql) {
+		return new StubStatement(connectionFactory, sql);
+	}
+
+	/**
+	 * @return the number of bind calls.
+	 */
+	public int getBindings() {
+		return bindings;
+	}
+
+	@Override
+	public StubStatement add() {
+
+		parameterSets++;
+		return this;
+	}
+
+	@Override
+	public StubStatement bind(Object identifier, Object value) {
+
+		bindings++;
+		return this;
+	}
+
+	public StubStatement bind(int index, Object value) {
+
+		bindings++;
+		return this;
+	}
+
+	public StubStatement bind(Integer index, Object value) {
+		return bind(index.intValue(), value);
+	}
+
+	@Override
+	public StubStatement bindNull(Object identifier, Class<?> type) {
+
+		bindings++;
+		return this;
+	}
+
+	public StubStatement bindNull(int index, Class<?> type) {
+
+		bindings++;
+		return this;
+	}
+
+	public StubStatement bindNull(Integer index, Class<?> type) {
+		return bindNull(index.intValue(), type);
+	}
+
+	@Override
+	public Publisher<? extends Result> execute() {
+		return Mono.just(connectionFactory.createResult(sql, parameterSets));
+	}
+}
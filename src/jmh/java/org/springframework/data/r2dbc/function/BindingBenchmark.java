@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+
+/**
+ * Benchmarks for binding parameters using {@link Bindings} compared to copying a {@link LinkedHashMap} on each bind.
+ * Run with {@code mvn -Pjmh verify -Djmh.include=BindingBenchmark} and compare {@code gc.alloc.rate.norm} to see the
+ * allocations per bound query.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingBenchmark {
+
+	@Param({ "5", "20", "60", "300" }) int parameterCount;
+
+	Object[] values;
+
+	@Setup
+	public void setup() {
+
+		values = new Object[parameterCount];
+
+		for (int i = 0; i < parameterCount; i++) {
+			values[i] = "value-" + i;
+		}
+	}
+
+	@Benchmark
+	public void bindings(Blackhole blackhole) {
+
+		Bindings bindings = Bindings.empty();
+
+		for (int i = 0; i < values.length; i++) {
+			bindings = bindings.and(new SettableValue(i, values[i], null));
+		}
+
+		bindings.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void copyOnBindMap(Blackhole blackhole) {
+
+		Map<Integer, SettableValue> byIndex = Collections.emptyMap();
+
+		for (int i = 0; i < values.length; i++) {
+
+			Map<Integer, SettableValue> copy = new LinkedHashMap<>(byIndex);
+			copy.put(i, new SettableValue(i, values[i], null));
+			byIndex = copy;
+		}
+
+		byIndex.forEach((index, value) -> blackhole.consume(value));
+	}
+}
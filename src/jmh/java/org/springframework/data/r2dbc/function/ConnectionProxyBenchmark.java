@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.r2dbc.benchmark.stub.StubConnection;
+import org.springframework.data.r2dbc.benchmark.stub.StubConnectionFactory;
+import org.springframework.data.r2dbc.function.connectionfactory.ConnectionProxy;
+
+/**
+ * Benchmarks comparing {@link CloseSuppressingConnection} with a reflective {@link Proxy} suppressing close calls.
+ * Run with {@code mvn -Pjmh verify -Djmh.include=ConnectionProxyBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionProxyBenchmark {
+
+	final Connection target = StubConnection
+			.of(new StubConnectionFactory(Collections.emptyList(), Collections.emptyList()));
+	final Connection reflectiveProxy = createReflectiveProxy(target);
+	final Connection delegatingConnection = new CloseSuppressingConnection(target);
+
+	@Benchmark
+	public Connection createReflectiveProxy() {
+		return createReflectiveProxy(target);
+	}
+
+	@Benchmark
+	public Connection createDelegatingConnection() {
+		return new CloseSuppressingConnection(target);
+	}
+
+	@Benchmark
+	public Statement createStatementReflectiveProxy() {
+		return reflectiveProxy.createStatement("SELECT 1");
+	}
+
+	@Benchmark
+	public Statement createStatementDelegatingConnection() {
+		return delegatingConnection.createStatement("SELECT 1");
+	}
+
+	@Benchmark
+	public Statement createStatementReflectiveProxyPerExecution() {
+		return createReflectiveProxy(target).createStatement("SELECT 1");
+	}
+
+	@Benchmark
+	public Statement createStatementDelegatingConnectionPerExecution() {
+		return new CloseSuppressingConnection(target).createStatement("SELECT 1");
+	}
+
+	private static Connection createReflectiveProxy(Connection target) {
+
+		InvocationHandler handler = (proxy, method, args) -> {
+
+			if (method.getName().equals("equals")) {
+				return (proxy == args[0]);
+			} else if (method.getName().equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			} else if (method.getName().equals("unwrap")) {
+				if (((Class<?>) args[0]).isInstance(proxy)) {
+					return proxy;
+				}
+			} else if (method.getName().equals("isWrapperFor")) {
+				if (((Class<?>) args[0]).isInstance(proxy)) {
+					return true;
+				}
+			} else if (method.getName().equals("close")) {
+				return Mono.error(new UnsupportedOperationException("Close is not supported!"));
+			} else if (method.getName().equals("getTargetConnection")) {
+				return target;
+			}
+
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getTargetException();
+			}
+		};
+
+		return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+				new Class<?>[] { ConnectionProxy.class }, handler);
+	}
+}
@@ -32,7 +32,8 @@ public interface BindMarkersFactory {
 	 *
 	 * @param prefix bind parameter prefix that is included in {@link BindMarker#getPlaceholder()} but not the actual
 	 *          identifier.
-	 * @param beginWith the first index to use.
+	 * @param beginWith the first placeholder index to use. Values are bound using zero-based indexes regardless of
+	 *          {@code beginWith}.
 	 * @return a {@link BindMarkersFactory} using {@code prefix} and {@code beginWith}.
 	 * @see io.r2dbc.spi.Statement#bindNull(int, Class)
 	 * @see io.r2dbc.spi.Statement#bind(int, Object)
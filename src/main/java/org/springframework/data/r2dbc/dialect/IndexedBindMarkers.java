@@ -6,7 +6,8 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * Index-based bind marker. This implementation creates indexed bind markers using a numeric index and an optional
- * prefix for bind markers to be represented within the query string.
+ * prefix for bind markers to be represented within the query string. Values are bound using zero-based indexes while
+ * placeholders are numbered starting with {@code beginWith}.
  *
  * @author Mark Paluch
  */
@@ -20,6 +21,8 @@ class IndexedBindMarkers implements BindMarkers {
 
 	private final String prefix;
 
+	private final int offset;
+
 	/**
 	 * Creates a new {@link IndexedBindMarker} instance given {@code prefix} and {@code beginWith}.
 	 *
@@ -27,8 +30,9 @@ class IndexedBindMarkers implements BindMarkers {
 	 * @param beginWith the first index to use.
 	 */
 	IndexedBindMarkers(String prefix, int beginWith) {
-		this.counter = beginWith;
+		this.counter = 0;
 		this.prefix = prefix;
+		this.offset = beginWith;
 	}
 
 	/* 
@@ -40,7 +44,7 @@ class IndexedBindMarkers implements BindMarkers {
 
 		int index = COUNTER_INCREMENTER.getAndIncrement(this);
 
-		return new IndexedBindMarker(prefix + "" + index, index);
+		return new IndexedBindMarker(prefix + "" + (index + offset), index);
 	}
 
 	/**
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, append-only collection of {@link SettableValue bind values}. Adding a value creates a new
+ * {@link Bindings} instance that shares all previously added values with its predecessor so binding {@code n} values
+ * requires {@code n} allocations instead of copying all values on each bind.
+ * <p>
+ * Values are retained in insertion order. Multiple values for the same identifier are retained, consumers applying
+ * values to a {@link io.r2dbc.spi.Statement} in order let the last value win.
+ *
+ * @author Mark Paluch
+ */
+final class Bindings {
+
+	private static final Bindings EMPTY = new Bindings(null, null, 0);
+
+	private final @Nullable Bindings previous;
+	private final @Nullable SettableValue value;
+	private final int size;
+
+	private Bindings(@Nullable Bindings previous, @Nullable SettableValue value, int size) {
+
+		this.previous = previous;
+		this.value = value;
+		this.size = size;
+	}
+
+	/**
+	 * Return empty {@link Bindings}.
+	 *
+	 * @return empty {@link Bindings}.
+	 */
+	static Bindings empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create new {@link Bindings} containing all values of this instance and the given {@link SettableValue}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the new {@link Bindings}.
+	 */
+	Bindings and(SettableValue value) {
+
+		Assert.notNull(value, "SettableValue must not be null!");
+
+		return new Bindings(this, value, size + 1);
+	}
+
+	/**
+	 * @return the number of bound values including values bound multiple times for the same identifier.
+	 */
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Perform the given {@code action} for each {@link SettableValue} in insertion order.
+	 *
+	 * @param action must not be {@literal null}.
+	 */
+	void forEach(Consumer<SettableValue> action) {
+
+		if (size == 0) {
+			return;
+		}
+
+		if (size == 1) {
+			action.accept(value);
+			return;
+		}
+
+		SettableValue[] values = new SettableValue[size];
+		Bindings current = this;
+
+		for (int i = size - 1; i >= 0; i--) {
+			values[i] = current.value;
+			current = current.previous;
+		}
+
+		for (SettableValue settableValue : values) {
+			action.accept(settableValue);
+		}
+	}
+
+	/**
+	 * Return bound values with one value per identifier. The position of an identifier is determined by its first
+	 * binding while the value is determined by its last binding.
+	 *
+	 * @return the distinct values in insertion order.
+	 */
+	List<SettableValue> getDistinctValues() {
+
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+
+		Map<Object, SettableValue> values = new LinkedHashMap<>(size * 2);
+		forEach(it -> values.put(it.getIdentifier(), it));
+
+		return new ArrayList<>(values.values());
+	}
+}
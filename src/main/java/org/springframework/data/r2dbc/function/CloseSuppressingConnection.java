@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection;
+
+/**
+ * {@link Connection} wrapper that suppresses {@link #close()} calls. Connections are closed by
+ * {@link DefaultDatabaseClient} once the callback completes.
+ *
+ * @author Mark Paluch
+ * @see Connection#close()
+ */
+class CloseSuppressingConnection extends DelegatingConnection {
+
+	CloseSuppressingConnection(Connection target) {
+		super(target);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#close()
+	 */
+	@Override
+	public Publisher<Void> close() {
+		return Mono.error(new UnsupportedOperationException("Close is not supported!"));
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection;
+import org.springframework.lang.Nullable;
+
+/**
+ * Session holder binding a {@link Connection} to the subscriber {@link Context} for the duration of
+ * {@link DatabaseClient#inSession(java.util.function.Function)}. The session connection ignores
+ * {@link Connection#close()} calls so that statements executed within the session do not release it. The connection
+ * is released by the session owner.
+ *
+ * @author Mark Paluch
+ */
+class ConnectionSession {
+
+	private final ConnectionFactory connectionFactory;
+	private final SessionConnection connection;
+
+	ConnectionSession(ConnectionFactory connectionFactory, Connection connection) {
+
+		this.connectionFactory = connectionFactory;
+		this.connection = new SessionConnection(connection);
+	}
+
+	/**
+	 * Return the {@link ConnectionSession} for the given {@link ConnectionFactory} if one is bound to the
+	 * {@link Context}.
+	 *
+	 * @param context the subscriber {@link Context}.
+	 * @param connectionFactory the {@link ConnectionFactory} to look up the session for.
+	 * @return the session or {@literal null} if no session is active for {@code connectionFactory}.
+	 */
+	@Nullable
+	static ConnectionSession get(Context context, ConnectionFactory connectionFactory) {
+
+		ConnectionSession session = context.getOrDefault(ConnectionSession.class, null);
+
+		return session != null && session.connectionFactory == connectionFactory ? session : null;
+	}
+
+	/**
+	 * Bind this session to the {@link Context}.
+	 *
+	 * @param context the subscriber {@link Context}.
+	 * @return the updated {@link Context}.
+	 */
+	Context bindTo(Context context) {
+		return context.put(ConnectionSession.class, this);
+	}
+
+	/**
+	 * @return the session {@link Connection} that ignores {@link Connection#close()} calls.
+	 */
+	Connection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * {@link Connection} that keeps the underlying connection open when closed.
+	 */
+	static class SessionConnection extends DelegatingConnection {
+
+		SessionConnection(Connection target) {
+			super(target);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#close()
+		 */
+		@Override
+		public Publisher<Void> close() {
+			return Mono.empty();
+		}
+	}
+}
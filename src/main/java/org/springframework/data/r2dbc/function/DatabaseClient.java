@@ -18,16 +18,20 @@ package org.springframework.data.r2dbc.function;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
 
 /**
@@ -56,6 +60,21 @@ public interface DatabaseClient {
 	 */
 	InsertIntoSpec insert();
 
+	/**
+	 * Run {@code action} within a session that uses a single {@link io.r2dbc.spi.Connection} for all statements. The
+	 * connection is obtained once on subscription and released after the {@link Publisher} returned by {@code action}
+	 * terminates (or the subscription is cancelled). The session is propagated through the subscriber
+	 * {@link reactor.util.context.Context} so that statements issued by any {@link DatabaseClient} using the same
+	 * {@link ConnectionFactory} participate in the session. Nested sessions reuse the outer session connection.
+	 * <p>
+	 * Sessions do not start a transaction. Statements within a session are expected to be issued sequentially, for
+	 * example by composing them with {@code then(…)} or {@code concatMap(…)}.
+	 *
+	 * @param action callback to issue statements, must not be {@literal null}.
+	 * @return the resulting {@link Flux}.
+	 */
+	<T> Flux<T> inSession(Function<DatabaseClient, ? extends Publisher<? extends T>> action);
+
 	/**
 	 * Return a builder to mutate properties of this database client.
 	 */
@@ -106,6 +125,24 @@ public interface DatabaseClient {
 		 */
 		Builder dataAccessStrategy(ReactiveDataAccessStrategy accessStrategy);
 
+		/**
+		 * Configures an {@link ExecutionListener} to observe statement execution. Replaces a previously configured
+		 * listener.
+		 *
+		 * @param executionListener must not be {@literal null}.
+		 * @return {@code this} {@link Builder}.
+		 */
+		Builder executionListener(ExecutionListener executionListener);
+
+		/**
+		 * Configures the {@link BindMarkersFactory} to render bind markers for named parameters ({@code :name}) used in
+		 * SQL passed to {@link SqlSpec#sql(String)}. Defaults to PostgreSQL-style {@code $1, $2, …} markers.
+		 *
+		 * @param bindMarkersFactory must not be {@literal null}.
+		 * @return {@code this} {@link Builder}.
+		 */
+		Builder bindMarkers(BindMarkersFactory bindMarkersFactory);
+
 		/**
 		 * Configures a {@link Consumer} to configure this builder.
 		 *
@@ -126,7 +163,10 @@ public interface DatabaseClient {
 	interface SqlSpec {
 
 		/**
-		 * Specify a static {@code sql} string to execute.
+		 * Specify a static {@code sql} string to execute. The SQL may contain named parameters ({@code :name}) that are
+		 * replaced with bind markers of the configured {@link BindMarkersFactory} and bound to values bound by name.
+		 * Parameters bound to a {@link java.util.Collection} are expanded into a list of bind markers, e.g. for
+		 * {@code IN (:ids)}.
 		 *
 		 * @param sql must not be {@literal null} or empty.
 		 * @return a new {@link GenericExecuteSpec}.
@@ -156,6 +196,15 @@ public interface DatabaseClient {
 		 */
 		<R> TypedExecuteSpec<R> as(Class<R> resultType);
 
+		/**
+		 * Configure a result mapping {@link java.util.function.Function}.
+		 *
+		 * @param mappingFunction must not be {@literal null}.
+		 * @param <R> result type.
+		 * @return
+		 */
+		<R> TypedExecuteSpec<R> extract(BiFunction<Row, RowMetadata, R> mappingFunction);
+
 		/**
 		 * Perform the SQL call and retrieve the result.
 		 */
@@ -167,6 +216,19 @@ public interface DatabaseClient {
 		 * @return a {@code Mono} for the result
 		 */
 		Mono<SqlResult<Map<String, Object>>> exchange();
+
+		/**
+		 * Execute the SQL call once for each binding emitted by {@code bindings}. Bindings are grouped into chunks and
+		 * each chunk is bound to a single {@link io.r2dbc.spi.Statement} using {@link io.r2dbc.spi.Statement#add()}.
+		 * Parameters bound to this spec are applied to each binding. Batches require SQL using native bind markers, named
+		 * parameters ({@code :name}) are not supported.
+		 *
+		 * @param bindings must not be {@literal null}. Keys are parameter names, values are either the value to bind or a
+		 *          {@link SettableValue}. {@literal null} values must be provided as {@link SettableValue} to specify
+		 *          their type.
+		 * @return a new {@link BatchSpec}.
+		 */
+		BatchSpec<Map<String, Object>> batch(Publisher<? extends Map<String, ?>> bindings);
 	}
 
 	/**
@@ -194,6 +256,47 @@ public interface DatabaseClient {
 		 * @return a {@code Mono} for the result
 		 */
 		Mono<SqlResult<T>> exchange();
+
+		/**
+		 * Execute the SQL call once for each binding emitted by {@code bindings}. Bindings are grouped into chunks and
+		 * each chunk is bound to a single {@link io.r2dbc.spi.Statement} using {@link io.r2dbc.spi.Statement#add()}.
+		 * Parameters bound to this spec are applied to each binding. Batches require SQL using native bind markers, named
+		 * parameters ({@code :name}) are not supported.
+		 *
+		 * @param bindings must not be {@literal null}. Keys are parameter names, values are either the value to bind or a
+		 *          {@link SettableValue}. {@literal null} values must be provided as {@link SettableValue} to specify
+		 *          their type.
+		 * @return a new {@link BatchSpec}.
+		 */
+		BatchSpec<T> batch(Publisher<? extends Map<String, ?>> bindings);
+	}
+
+	/**
+	 * Contract for executing a SQL call with multiple parameter bindings.
+	 */
+	interface BatchSpec<T> {
+
+		/**
+		 * Configure the maximal number of bindings that are sent with a single statement execution. Defaults to
+		 * {@code 256}.
+		 *
+		 * @param chunkSize must be greater than zero.
+		 * @return a new {@link BatchSpec}.
+		 */
+		BatchSpec<T> chunkSize(int chunkSize);
+
+		/**
+		 * Perform the SQL call and retrieve the result. {@link FetchSpec#rowsUpdated()} reports the sum of updated rows
+		 * across all chunks.
+		 */
+		FetchSpec<T> fetch();
+
+		/**
+		 * Perform the SQL call and emit the number of updated rows for each executed chunk.
+		 *
+		 * @return a {@link Flux} emitting one update count per chunk.
+		 */
+		Flux<Integer> rowsUpdated();
 	}
 
 	/**
@@ -265,6 +368,18 @@ public interface DatabaseClient {
 		 * @return a {@code Mono} for the result
 		 */
 		Mono<SqlResult<Map<String, Object>>> exchange();
+
+		/**
+		 * Retrieve all rows page by page using keyset pagination. Requires a {@link Sort} configured through
+		 * {@link #orderBy(Sort)} or {@link #after(Sort, Object...)} whose columns identify rows uniquely and do not
+		 * contain {@literal null} values. Sort columns that are not selected are added to the selected fields. Each page
+		 * selects {@code pageSize} rows following the last row of the previous page so that the cost per page remains
+		 * constant.
+		 *
+		 * @param pageSize must be greater than zero.
+		 * @return a {@link Flux} emitting all rows.
+		 */
+		Flux<Map<String, Object>> fetchAllByKeyset(int pageSize);
 	}
 
 	/**
@@ -301,6 +416,18 @@ public interface DatabaseClient {
 		 * @return a {@code Mono} for the result
 		 */
 		Mono<SqlResult<T>> exchange();
+
+		/**
+		 * Retrieve all rows page by page using keyset pagination. Requires a {@link Sort} configured through
+		 * {@link #orderBy(Sort)} or {@link #after(Sort, Object...)} whose columns identify rows uniquely and do not
+		 * contain {@literal null} values. Sort columns that are not selected are added to the selected fields. Each page
+		 * selects {@code pageSize} rows following the last row of the previous page so that the cost per page remains
+		 * constant.
+		 *
+		 * @param pageSize must be greater than zero.
+		 * @return a {@link Flux} emitting all rows.
+		 */
+		Flux<T> fetchAllByKeyset(int pageSize);
 	}
 
 	/**
@@ -328,6 +455,35 @@ public interface DatabaseClient {
 		 * @param page must not be {@literal null}.
 		 */
 		S page(Pageable page);
+
+		/**
+		 * Configure keyset pagination. Selects rows following the row with the given {@code lastRowValues} in the order
+		 * of {@link Sort} by rendering {@code WHERE (k1, k2) > ($1, $2) ORDER BY k1, k2}. Orders with mixed directions
+		 * are expanded into a disjunction of comparisons. Values are matched to the {@link Sort} orders by position and
+		 * must not be {@literal null}. Orders must use {@link Sort.NullHandling#NATIVE native null handling}. Overrides a
+		 * previously configured {@link Sort}. Combine with {@link #limit(int)} to restrict the page size.
+		 *
+		 * @param sort must not be {@literal null} or unsorted.
+		 * @param lastRowValues key values of the last row of the previous page, must not be {@literal null}.
+		 */
+		S after(Sort sort, Object... lastRowValues);
+
+		/**
+		 * Limit the number of rows to select. Takes precedence over {@link #page(Pageable)}.
+		 *
+		 * @param limit must be greater than zero.
+		 */
+		S limit(int limit);
+
+		/**
+		 * Stream results with bounded demand. The select runs as a single statement and requests at most
+		 * {@code fetchSize} rows at a time from the driver so that memory consumption is bounded by the fetch size and
+		 * not by the size of the result. Streaming does not change which rows are selected. Use
+		 * {@code fetchAllByKeyset(int)} to split a sorted select into pages of separate statements.
+		 *
+		 * @param fetchSize must be greater than zero.
+		 */
+		S fetchSize(int fetchSize);
 	}
 
 	/**
@@ -350,6 +506,13 @@ public interface DatabaseClient {
 		 * @param type must not be {@literal null}.
 		 */
 		GenericInsertSpec nullValue(String field, Class<?> type);
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.DatabaseClient.InsertSpec#returning(java.lang.String[])
+		 */
+		@Override
+		GenericInsertSpec returning(String... columns);
 	}
 
 	/**
@@ -374,10 +537,22 @@ public interface DatabaseClient {
 		TypedInsertSpec<T> table(String tableName);
 
 		/**
-		 * Insert the given {@link Publisher} to insert one or more objects.
+		 * Configure the maximal number of objects that are inserted with a single multi-row {@code INSERT} statement.
+		 * Defaults to {@code 256}.
+		 *
+		 * @param chunkSize must be greater than zero.
+		 * @return
+		 */
+		TypedInsertSpec<T> chunkSize(int chunkSize);
+
+		/**
+		 * Insert the given {@link Publisher} to insert one or more objects. Objects are consumed in chunks and each chunk
+		 * is inserted using a single multi-row {@code INSERT} statement. Generated keys are emitted in the order of the
+		 * inserted objects.
 		 *
 		 * @param objectToInsert
 		 * @return
+		 * @see #chunkSize(int)
 		 */
 		InsertSpec using(Publisher<T> objectToInsert);
 	}
@@ -398,6 +573,16 @@ public interface DatabaseClient {
 		 * @return a {@code Mono} for the result
 		 */
 		Mono<SqlResult<Map<String, Object>>> exchange();
+
+		/**
+		 * Restrict the columns returned from the inserted rows to {@code columns}, typically generated keys, by rendering
+		 * {@code RETURNING col1, col2} instead of {@code RETURNING *}. Without columns, the {@code INSERT} statement
+		 * returns no rows and only the number of inserted rows is available.
+		 *
+		 * @param columns must not be {@literal null}.
+		 * @return
+		 */
+		InsertSpec returning(String... columns);
 	}
 
 	/**
@@ -422,7 +607,9 @@ public interface DatabaseClient {
 		S bindNull(int index, Class<?> type);
 
 		/**
-		 * Bind a non-{@literal null} value to a parameter identified by its {@code name}.
+		 * Bind a non-{@literal null} value to a parameter identified by its {@code name}. Refers to a named parameter
+		 * ({@code :name}) if the SQL contains one with the given {@code name}, otherwise the value is bound to the
+		 * driver-specific parameter {@code name}.
 		 *
 		 * @param name must not be {@literal null} or empty.
 		 * @param value must not be {@literal null}.
@@ -26,18 +26,14 @@ import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -47,12 +43,16 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.NullHandling;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.r2dbc.UncategorizedR2dbcException;
-import org.springframework.data.r2dbc.function.connectionfactory.ConnectionProxy;
+import org.springframework.data.r2dbc.dialect.BindMarker;
+import org.springframework.data.r2dbc.dialect.BindMarkers;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
+import org.springframework.data.r2dbc.function.ParsedSql.PreparedSql;
 import org.springframework.data.r2dbc.function.convert.ColumnMapRowMapper;
 import org.springframework.data.r2dbc.function.convert.SettableValue;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
@@ -77,14 +77,23 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
 
+	private final @Nullable ExecutionListener executionListener;
+
+	private final BindMarkersFactory bindMarkersFactory;
+
+	private final NamedParameterExpander namedParameters = new NamedParameterExpander();
+
 	private final DefaultDatabaseClientBuilder builder;
 
 	DefaultDatabaseClient(ConnectionFactory connector, R2dbcExceptionTranslator exceptionTranslator,
-			ReactiveDataAccessStrategy dataAccessStrategy, DefaultDatabaseClientBuilder builder) {
+			ReactiveDataAccessStrategy dataAccessStrategy, @Nullable ExecutionListener executionListener,
+			BindMarkersFactory bindMarkersFactory, DefaultDatabaseClientBuilder builder) {
 
 		this.connector = connector;
 		this.exceptionTranslator = exceptionTranslator;
 		this.dataAccessStrategy = dataAccessStrategy;
+		this.executionListener = executionListener;
+		this.bindMarkersFactory = bindMarkersFactory;
 		this.builder = builder;
 	}
 
@@ -108,6 +117,29 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		return new DefaultInsertIntoSpec();
 	}
 
+	@Override
+	public <T> Flux<T> inSession(Function<DatabaseClient, ? extends Publisher<? extends T>> action) {
+
+		Assert.notNull(action, "Callback object must not be null");
+
+		ConnectionFactory connectionFactory = obtainConnectionFactory();
+
+		return Mono.subscriberContext().flatMapMany(context -> {
+
+			if (ConnectionSession.get(context, connectionFactory) != null) {
+				return Flux.<T> from(action.apply(this));
+			}
+
+			return Flux.usingWhen(Mono.from(connectionFactory.create()), it -> {
+
+				ConnectionSession session = new ConnectionSession(connectionFactory, it);
+
+				return Flux.<T> from(action.apply(this)).subscriberContext(session::bindTo);
+			}, Connection::close, Connection::close, Connection::close) //
+					.onErrorMap(R2dbcException.class, ex -> translateException("inSession", null, ex));
+		});
+	}
+
 	/**
 	 * Execute a callback {@link Function} within a {@link Connection} scope. The function is responsible for creating a
 	 * {@link Mono}. The connection is released after the {@link Mono} terminates (or the subscription is cancelled).
@@ -123,16 +155,38 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 		Assert.notNull(action, "Callback object must not be null");
 
-		Mono<Connection> connectionMono = getConnection();
-		// Create close-suppressing Connection proxy, also preparing returned Statements.
+		ExecutionListener listener = this.executionListener;
 
-		return Mono.usingWhen(connectionMono, it -> {
+		if (listener == null) {
 
-			Connection connectionToUse = createConnectionProxy(it);
+			Mono<Connection> connectionMono = getConnection();
+			// Create close-suppressing Connection proxy, also preparing returned Statements.
 
-			return doInConnection(connectionToUse, action);
-		}, this::closeConnection, this::closeConnection, this::closeConnection) //
-				.onErrorMap(R2dbcException.class, ex -> translateException("execute", getSql(action), ex));
+			return Mono.usingWhen(connectionMono, it -> {
+
+				Connection connectionToUse = createConnectionProxy(it);
+
+				return doInConnection(connectionToUse, action);
+			}, this::closeConnection, this::closeConnection, this::closeConnection) //
+					.onErrorMap(R2dbcException.class, ex -> translateException("execute", getSql(action), ex));
+		}
+
+		String sql = getSql(action);
+		Function<Connection, Publisher<Void>> closeFunction = it -> closeConnection(it, listener, sql);
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			return Mono.usingWhen(getConnection(listener, sql), it -> {
+
+				Connection connectionToUse = createConnectionProxy(it);
+
+				return doInConnection(connectionToUse, action);
+			}, closeFunction, closeFunction, closeFunction) //
+					.onErrorMap(R2dbcException.class, ex -> translateException("execute", sql, ex)) //
+					.doFinally(signal -> listener.afterCompletion(sql, signal, System.nanoTime() - start));
+		});
 	}
 
 	/**
@@ -150,25 +204,56 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 		Assert.notNull(action, "Callback object must not be null");
 
-		Mono<Connection> connectionMono = getConnection();
-		// Create close-suppressing Connection proxy, also preparing returned Statements.
+		ExecutionListener listener = this.executionListener;
+
+		if (listener == null) {
+
+			Mono<Connection> connectionMono = getConnection();
+			// Create close-suppressing Connection proxy, also preparing returned Statements.
+
+			return Flux.usingWhen(connectionMono, it -> {
+
+				Connection connectionToUse = createConnectionProxy(it);
+
+				return doInConnectionMany(connectionToUse, action);
+			}, this::closeConnection, this::closeConnection, this::closeConnection) //
+					.onErrorMap(R2dbcException.class, ex -> translateException("executeMany", getSql(action), ex));
+		}
+
+		String sql = getSql(action);
+		Function<Connection, Publisher<Void>> closeFunction = it -> closeConnection(it, listener, sql);
+
+		return Flux.defer(() -> {
 
-		return Flux.usingWhen(connectionMono, it -> {
+			long start = System.nanoTime();
 
-			Connection connectionToUse = createConnectionProxy(it);
+			return Flux.usingWhen(getConnection(listener, sql), it -> {
 
-			return doInConnectionMany(connectionToUse, action);
-		}, this::closeConnection, this::closeConnection, this::closeConnection) //
-				.onErrorMap(R2dbcException.class, ex -> translateException("executeMany", getSql(action), ex));
+				Connection connectionToUse = createConnectionProxy(it);
+
+				return doInConnectionMany(connectionToUse, action);
+			}, closeFunction, closeFunction, closeFunction) //
+					.onErrorMap(R2dbcException.class, ex -> translateException("executeMany", sql, ex)) //
+					.doFinally(signal -> listener.afterCompletion(sql, signal, System.nanoTime() - start));
+		});
 	}
 
 	/**
-	 * Obtain a {@link Connection}.
+	 * Obtain a {@link Connection}. Returns the session {@link Connection} if called within
+	 * {@link #inSession(Function)}.
 	 *
 	 * @return
 	 */
 	protected Mono<Connection> getConnection() {
-		return Mono.from(obtainConnectionFactory().create());
+
+		ConnectionFactory connectionFactory = obtainConnectionFactory();
+
+		return Mono.subscriberContext().flatMap(it -> {
+
+			ConnectionSession session = ConnectionSession.get(it, connectionFactory);
+
+			return session != null ? Mono.just(session.getConnection()) : Mono.from(connectionFactory.create());
+		});
 	}
 
 	/**
@@ -181,6 +266,34 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		return connection.close();
 	}
 
+	/**
+	 * Obtain a {@link Connection} and notify the {@link ExecutionListener}.
+	 */
+	private Mono<Connection> getConnection(ExecutionListener listener, @Nullable String sql) {
+
+		return Mono.defer(() -> {
+
+			listener.beforeAcquire(sql);
+			long start = System.nanoTime();
+
+			return getConnection().doOnNext(it -> listener.afterAcquire(sql, System.nanoTime() - start));
+		});
+	}
+
+	/**
+	 * Release the {@link Connection} and notify the {@link ExecutionListener}.
+	 */
+	private Publisher<Void> closeConnection(Connection connection, ExecutionListener listener, @Nullable String sql) {
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			return Mono.from(closeConnection(connection))
+					.doFinally(signal -> listener.afterRelease(sql, System.nanoTime() - start));
+		});
+	}
+
 	/**
 	 * Obtain the {@link ConnectionFactory} for actual use.
 	 *
@@ -198,8 +311,12 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	 * @return the Connection proxy
 	 */
 	protected Connection createConnectionProxy(Connection con) {
-		return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
-				new Class<?>[] { ConnectionProxy.class }, new CloseSuppressingInvocationHandler(con));
+
+		if (con instanceof CloseSuppressingConnection) {
+			return con;
+		}
+
+		return new CloseSuppressingConnection(con);
 	}
 
 	/**
@@ -219,17 +336,24 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	/**
 	 * Customization hook.
 	 */
-	protected <T> DefaultTypedExecuteSpec<T> createTypedExecuteSpec(Map<Integer, SettableValue> byIndex,
-			Map<String, SettableValue> byName, Supplier<String> sqlSupplier, Class<T> typeToRead) {
-		return new DefaultTypedExecuteSpec<>(byIndex, byName, sqlSupplier, typeToRead);
+	protected <T> DefaultTypedExecuteSpec<T> createTypedExecuteSpec(Bindings bindings, Supplier<String> sqlSupplier,
+			Class<T> typeToRead) {
+		return createTypedExecuteSpec(bindings, sqlSupplier, dataAccessStrategy.getRowMapper(typeToRead));
+	}
+
+	/**
+	 * Customization hook.
+	 */
+	protected <T> DefaultTypedExecuteSpec<T> createTypedExecuteSpec(Bindings bindings, Supplier<String> sqlSupplier,
+			BiFunction<Row, RowMetadata, T> mappingFunction) {
+		return new DefaultTypedExecuteSpec<>(bindings, sqlSupplier, mappingFunction);
 	}
 
 	/**
 	 * Customization hook.
 	 */
-	protected ExecuteSpecSupport createGenericExecuteSpec(Map<Integer, SettableValue> byIndex,
-			Map<String, SettableValue> byName, Supplier<String> sqlSupplier) {
-		return new DefaultGenericExecuteSpec(byIndex, byName, sqlSupplier);
+	protected ExecuteSpecSupport createGenericExecuteSpec(Bindings bindings, Supplier<String> sqlSupplier) {
+		return new DefaultGenericExecuteSpec(bindings, sqlSupplier);
 	}
 
 	/**
@@ -239,24 +363,89 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		return new DefaultGenericExecuteSpec(sqlSupplier);
 	}
 
-	private static void doBind(Statement statement, Map<String, SettableValue> byName,
-			Map<Integer, SettableValue> byIndex) {
+	/**
+	 * Create a {@link Statement} for {@code sql}, apply bindings using {@code binder} and execute it. Notifies the
+	 * {@link ExecutionListener} if one is registered.
+	 *
+	 * @param connection the {@link Connection} to use.
+	 * @param sql the SQL to execute.
+	 * @param bindCount number of values bound by {@code binder}.
+	 * @param binder callback to apply bindings.
+	 * @return the {@link Result} stream.
+	 */
+	Flux<Result> execute(Connection connection, String sql, int bindCount, Consumer<Statement> binder) {
+
+		ExecutionListener listener = this.executionListener;
+
+		if (listener == null) {
+
+			Statement statement = connection.createStatement(sql);
+			binder.accept(statement);
+
+			return Flux.from(statement.execute());
+		}
+
+		long start = System.nanoTime();
+
+		Statement statement = connection.createStatement(sql);
+		binder.accept(statement);
+
+		listener.beforeExecute(sql, bindCount, System.nanoTime() - start);
+
+		long executeStart = System.nanoTime();
+
+		return Flux.from(statement.execute()) //
+				.doOnNext(it -> listener.onResult(sql, it, System.nanoTime() - executeStart)) //
+				.doFinally(signal -> listener.afterExecute(sql, bindCount, signal, System.nanoTime() - executeStart));
+	}
+
+	private static void doBind(Statement statement, Bindings bindings) {
+		bindings.forEach(it -> doBind(statement, it));
+	}
+
+	private static void doBind(Statement statement, SettableValue settable) {
+
+		Object identifier = settable.getIdentifier();
+
+		if (identifier instanceof Integer) {
 
-		byIndex.forEach((i, o) -> {
+			int index = (Integer) identifier;
 
-			if (o.getValue() != null) {
-				statement.bind(i.intValue(), o.getValue());
+			if (settable.getValue() != null) {
+				statement.bind(index, settable.getValue());
 			} else {
-				statement.bindNull(i.intValue(), o.getType());
+				statement.bindNull(index, settable.getType());
 			}
-		});
+		} else {
+
+			String name = (String) identifier;
+
+			if (settable.getValue() != null) {
+				statement.bind(name, settable.getValue());
+			} else {
+				statement.bindNull(name, settable.getType());
+			}
+		}
+	}
 
-		byName.forEach((name, o) -> {
+	private static void doBind(Statement statement, Map<String, ?> bindings) {
 
-			if (o.getValue() != null) {
-				statement.bind(name, o.getValue());
+		bindings.forEach((name, o) -> {
+
+			if (o instanceof SettableValue) {
+
+				SettableValue settable = (SettableValue) o;
+
+				if (settable.getValue() != null) {
+					statement.bind(name, settable.getValue());
+				} else {
+					statement.bindNull(name, settable.getType());
+				}
+			} else if (o != null) {
+				statement.bind(name, o);
 			} else {
-				statement.bindNull(name, o.getType());
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"No type available to bind null value for parameter '%s'. Use SettableValue to bind null values.", name));
 			}
 		});
 	}
@@ -288,14 +477,12 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	@RequiredArgsConstructor
 	class ExecuteSpecSupport {
 
-		final Map<Integer, SettableValue> byIndex;
-		final Map<String, SettableValue> byName;
+		final Bindings bindings;
 		final Supplier<String> sqlSupplier;
 
 		ExecuteSpecSupport(Supplier<String> sqlSupplier) {
 
-			this.byIndex = Collections.emptyMap();
-			this.byName = Collections.emptyMap();
+			this.bindings = Bindings.empty();
 			this.sqlSupplier = sqlSupplier;
 		}
 
@@ -308,20 +495,21 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 		<T> SqlResult<T> exchange(String sql, BiFunction<Row, RowMetadata, T> mappingFunction) {
 
-			Function<Connection, Statement> executeFunction = it -> {
+			ParsedSql parsedSql = namedParameters.getParsedSql(sql);
+
+			if (parsedSql.hasParameters()) {
+				return exchange(namedParameters.expand(parsedSql, bindMarkersFactory, bindings), parsedSql, mappingFunction);
+			}
+
+			Function<Connection, Flux<Result>> resultFunction = it -> {
 
 				if (logger.isDebugEnabled()) {
 					logger.debug("Executing SQL statement [" + sql + "]");
 				}
 
-				Statement statement = it.createStatement(sql);
-				doBind(statement, byName, byIndex);
-
-				return statement;
+				return execute(it, sql, bindings.size(), statement -> doBind(statement, bindings));
 			};
 
-			Function<Connection, Flux<Result>> resultFunction = it -> Flux.from(executeFunction.apply(it).execute());
-
 			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
 					sql, //
 					resultFunction, //
@@ -329,45 +517,74 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 					mappingFunction);
 		}
 
-		public ExecuteSpecSupport bind(int index, Object value) {
+		/**
+		 * Execute SQL with expanded named parameters. Bindings that do not refer to a named parameter of
+		 * {@code parsedSql} are bound as-is.
+		 */
+		private <T> SqlResult<T> exchange(PreparedSql preparedSql, ParsedSql parsedSql,
+				BiFunction<Row, RowMetadata, T> mappingFunction) {
+
+			String sql = preparedSql.getSql();
+
+			Function<Connection, Flux<Result>> resultFunction = it -> {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Executing SQL statement [" + sql + "]");
+				}
+
+				return execute(it, sql, preparedSql.getBindCount(), statement -> {
+
+					preparedSql.bindTo(statement);
+					bindings.forEach(settable -> {
 
-			Map<Integer, SettableValue> byIndex = new LinkedHashMap<>(this.byIndex);
-			byIndex.put(index, new SettableValue(index, value, null));
+						Object identifier = settable.getIdentifier();
+						if (!(identifier instanceof String && parsedSql.hasParameter((String) identifier))) {
+							doBind(statement, settable);
+						}
+					});
+				});
+			};
 
-			return createInstance(byIndex, this.byName, this.sqlSupplier);
+			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
+					sql, //
+					resultFunction, //
+					it -> resultFunction.apply(it).flatMap(Result::getRowsUpdated).next(), //
+					mappingFunction);
 		}
 
-		public ExecuteSpecSupport bindNull(int index, Class<?> type) {
+		<T> DefaultBatchSpec<T> batch(Publisher<? extends Map<String, ?>> bindings,
+				BiFunction<Row, RowMetadata, T> mappingFunction) {
+
+			Assert.notNull(bindings, "Bindings must not be null!");
+
+			return new DefaultBatchSpec<>(this.bindings, sqlSupplier, bindings, DefaultBatchSpec.DEFAULT_CHUNK_SIZE,
+					mappingFunction);
+		}
 
-			Map<Integer, SettableValue> byIndex = new LinkedHashMap<>(this.byIndex);
-			byIndex.put(index, new SettableValue(index, null, type));
+		public ExecuteSpecSupport bind(int index, Object value) {
+			return createInstance(this.bindings.and(new SettableValue(index, value, null)), this.sqlSupplier);
+		}
 
-			return createInstance(byIndex, this.byName, this.sqlSupplier);
+		public ExecuteSpecSupport bindNull(int index, Class<?> type) {
+			return createInstance(this.bindings.and(new SettableValue(index, null, type)), this.sqlSupplier);
 		}
 
 		public ExecuteSpecSupport bind(String name, Object value) {
 
 			Assert.hasText(name, "Parameter name must not be null or empty!");
 
-			Map<String, SettableValue> byName = new LinkedHashMap<>(this.byName);
-			byName.put(name, new SettableValue(name, value, null));
-
-			return createInstance(this.byIndex, byName, this.sqlSupplier);
+			return createInstance(this.bindings.and(new SettableValue(name, value, null)), this.sqlSupplier);
 		}
 
 		public ExecuteSpecSupport bindNull(String name, Class<?> type) {
 
 			Assert.hasText(name, "Parameter name must not be null or empty!");
 
-			Map<String, SettableValue> byName = new LinkedHashMap<>(this.byName);
-			byName.put(name, new SettableValue(name, null, type));
-
-			return createInstance(this.byIndex, byName, this.sqlSupplier);
+			return createInstance(this.bindings.and(new SettableValue(name, null, type)), this.sqlSupplier);
 		}
 
-		protected ExecuteSpecSupport createInstance(Map<Integer, SettableValue> byIndex, Map<String, SettableValue> byName,
-				Supplier<String> sqlSupplier) {
-			return new ExecuteSpecSupport(byIndex, byName, sqlSupplier);
+		protected ExecuteSpecSupport createInstance(Bindings bindings, Supplier<String> sqlSupplier) {
+			return new ExecuteSpecSupport(bindings, sqlSupplier);
 		}
 
 		public ExecuteSpecSupport bind(Object bean) {
@@ -383,9 +600,8 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	 */
 	protected class DefaultGenericExecuteSpec extends ExecuteSpecSupport implements GenericExecuteSpec {
 
-		DefaultGenericExecuteSpec(Map<Integer, SettableValue> byIndex, Map<String, SettableValue> byName,
-				Supplier<String> sqlSupplier) {
-			super(byIndex, byName, sqlSupplier);
+		DefaultGenericExecuteSpec(Bindings bindings, Supplier<String> sqlSupplier) {
+			super(bindings, sqlSupplier);
 		}
 
 		DefaultGenericExecuteSpec(Supplier<String> sqlSupplier) {
@@ -397,7 +613,15 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(resultType, "Result type must not be null!");
 
-			return createTypedExecuteSpec(this.byIndex, this.byName, this.sqlSupplier, resultType);
+			return createTypedExecuteSpec(this.bindings, this.sqlSupplier, resultType);
+		}
+
+		@Override
+		public <R> TypedExecuteSpec<R> extract(BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+			Assert.notNull(mappingFunction, "Mapping function must not be null!");
+
+			return createTypedExecuteSpec(this.bindings, this.sqlSupplier, mappingFunction);
 		}
 
 		@Override
@@ -410,6 +634,11 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return Mono.just(exchange(getSql(), ColumnMapRowMapper.INSTANCE));
 		}
 
+		@Override
+		public BatchSpec<Map<String, Object>> batch(Publisher<? extends Map<String, ?>> bindings) {
+			return batch(bindings, ColumnMapRowMapper.INSTANCE);
+		}
+
 		@Override
 		public DefaultGenericExecuteSpec bind(int index, Object value) {
 			return (DefaultGenericExecuteSpec) super.bind(index, value);
@@ -436,9 +665,8 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		}
 
 		@Override
-		protected ExecuteSpecSupport createInstance(Map<Integer, SettableValue> byIndex, Map<String, SettableValue> byName,
-				Supplier<String> sqlSupplier) {
-			return createGenericExecuteSpec(byIndex, byName, sqlSupplier);
+		protected ExecuteSpecSupport createInstance(Bindings bindings, Supplier<String> sqlSupplier) {
+			return createGenericExecuteSpec(bindings, sqlSupplier);
 		}
 	}
 
@@ -448,16 +676,14 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	@SuppressWarnings("unchecked")
 	protected class DefaultTypedExecuteSpec<T> extends ExecuteSpecSupport implements TypedExecuteSpec<T> {
 
-		private final Class<T> typeToRead;
 		private final BiFunction<Row, RowMetadata, T> mappingFunction;
 
-		DefaultTypedExecuteSpec(Map<Integer, SettableValue> byIndex, Map<String, SettableValue> byName,
-				Supplier<String> sqlSupplier, Class<T> typeToRead) {
+		DefaultTypedExecuteSpec(Bindings bindings, Supplier<String> sqlSupplier,
+				BiFunction<Row, RowMetadata, T> mappingFunction) {
 
-			super(byIndex, byName, sqlSupplier);
+			super(bindings, sqlSupplier);
 
-			this.typeToRead = typeToRead;
-			this.mappingFunction = dataAccessStrategy.getRowMapper(typeToRead);
+			this.mappingFunction = mappingFunction;
 		}
 
 		@Override
@@ -465,7 +691,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(resultType, "Result type must not be null!");
 
-			return createTypedExecuteSpec(this.byIndex, this.byName, this.sqlSupplier, resultType);
+			return createTypedExecuteSpec(this.bindings, this.sqlSupplier, resultType);
 		}
 
 		@Override
@@ -478,6 +704,11 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return Mono.just(exchange(getSql(), mappingFunction));
 		}
 
+		@Override
+		public BatchSpec<T> batch(Publisher<? extends Map<String, ?>> bindings) {
+			return batch(bindings, mappingFunction);
+		}
+
 		@Override
 		public DefaultTypedExecuteSpec<T> bind(int index, Object value) {
 			return (DefaultTypedExecuteSpec<T>) super.bind(index, value);
@@ -504,9 +735,121 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		}
 
 		@Override
-		protected DefaultTypedExecuteSpec<T> createInstance(Map<Integer, SettableValue> byIndex,
-				Map<String, SettableValue> byName, Supplier<String> sqlSupplier) {
-			return createTypedExecuteSpec(byIndex, byName, sqlSupplier, typeToRead);
+		protected DefaultTypedExecuteSpec<T> createInstance(Bindings bindings, Supplier<String> sqlSupplier) {
+			return createTypedExecuteSpec(bindings, sqlSupplier, mappingFunction);
+		}
+	}
+
+	/**
+	 * Default {@link DatabaseClient.BatchSpec} implementation. Bindings are buffered into chunks of {@code chunkSize}
+	 * elements and each chunk is executed as a single {@link Statement} using {@link Statement#add()}. Chunks are
+	 * executed sequentially on the same {@link Connection} and the upstream is requested chunk by chunk.
+	 */
+	class DefaultBatchSpec<T> implements BatchSpec<T> {
+
+		static final int DEFAULT_CHUNK_SIZE = 256;
+
+		private final Bindings parameters;
+		private final Supplier<String> sqlSupplier;
+		private final Publisher<? extends Map<String, ?>> bindings;
+		private final int chunkSize;
+		private final BiFunction<Row, RowMetadata, T> mappingFunction;
+
+		DefaultBatchSpec(Bindings parameters, Supplier<String> sqlSupplier, Publisher<? extends Map<String, ?>> bindings,
+				int chunkSize, BiFunction<Row, RowMetadata, T> mappingFunction) {
+
+			this.parameters = parameters;
+			this.sqlSupplier = sqlSupplier;
+			this.bindings = bindings;
+			this.chunkSize = chunkSize;
+			this.mappingFunction = mappingFunction;
+		}
+
+		@Override
+		public DefaultBatchSpec<T> chunkSize(int chunkSize) {
+
+			Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+			return new DefaultBatchSpec<>(parameters, sqlSupplier, bindings, chunkSize, mappingFunction);
+		}
+
+		@Override
+		public FetchSpec<T> fetch() {
+
+			String sql = getSql();
+			Function<Connection, Flux<Result>> resultFunction = it -> getChunks(it, sql).concatMap(Function.identity(), 1);
+
+			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
+					sql, //
+					resultFunction, //
+					it -> resultFunction.apply(it).flatMap(Result::getRowsUpdated).reduce(0, Integer::sum), //
+					mappingFunction);
+		}
+
+		@Override
+		public Flux<Integer> rowsUpdated() {
+
+			String sql = getSql();
+
+			return inConnectionMany(new DefaultSqlResult.SqlFunction<Connection, Flux<Integer>>() {
+
+				@Override
+				public Flux<Integer> apply(Connection connection) {
+					return getChunks(connection, sql)
+							.concatMap(results -> results.flatMap(Result::getRowsUpdated).reduce(0, Integer::sum), 1);
+				}
+
+				@Override
+				public String getSql() {
+					return sql;
+				}
+			});
+		}
+
+		/**
+		 * Returns a {@link Flux} of chunk executions. Each chunk is executed once the returned inner {@link Flux} gets
+		 * subscribed.
+		 */
+		private Flux<Flux<Result>> getChunks(Connection connection, String sql) {
+			return Flux.from(bindings).buffer(chunkSize).map(chunk -> Flux.defer(() -> execute(connection, sql, chunk)));
+		}
+
+		private Flux<Result> execute(Connection connection, String sql, List<? extends Map<String, ?>> chunk) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing SQL statement [" + sql + "] with " + chunk.size() + " bindings");
+			}
+
+			int bindCount = parameters.size() * chunk.size();
+			for (Map<String, ?> binding : chunk) {
+				bindCount += binding.size();
+			}
+
+			return DefaultDatabaseClient.this.execute(connection, sql, bindCount, statement -> {
+
+				for (int i = 0; i < chunk.size(); i++) {
+
+					if (i != 0) {
+						statement.add();
+					}
+
+					doBind(statement, parameters);
+					doBind(statement, chunk.get(i));
+				}
+			});
+		}
+
+		private String getSql() {
+
+			String sql = sqlSupplier.get();
+			Assert.state(sql != null, "SQL supplier returned null!");
+
+			if (namedParameters.getParsedSql(sql).hasParameters()) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Batch execution does not support named parameters. Use native bind markers in [%s].", sql));
+			}
+
+			return sql;
 		}
 	}
 
@@ -536,6 +879,9 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		final List<String> projectedFields;
 		final Sort sort;
 		final Pageable page;
+		final @Nullable List<Object> keyset;
+		final int limit;
+		final int fetchSize;
 
 		DefaultSelectSpecSupport(String table) {
 
@@ -545,6 +891,9 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			this.projectedFields = Collections.emptyList();
 			this.sort = Sort.unsorted();
 			this.page = Pageable.unpaged();
+			this.keyset = null;
+			this.limit = -1;
+			this.fetchSize = -1;
 		}
 
 		public DefaultSelectSpecSupport project(String... selectedFields) {
@@ -554,21 +903,48 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			projectedFields.addAll(this.projectedFields);
 			projectedFields.addAll(Arrays.asList(selectedFields));
 
-			return createInstance(table, projectedFields, sort, page);
+			return createInstance(table, projectedFields, sort, page, keyset, limit, fetchSize);
 		}
 
 		public DefaultSelectSpecSupport orderBy(Sort sort) {
 
 			Assert.notNull(sort, "Sort must not be null!");
 
-			return createInstance(table, projectedFields, sort, page);
+			return createInstance(table, projectedFields, sort, page, keyset, limit, fetchSize);
 		}
 
 		public DefaultSelectSpecSupport page(Pageable page) {
 
 			Assert.notNull(page, "Pageable must not be null!");
 
-			return createInstance(table, projectedFields, sort, page);
+			return createInstance(table, projectedFields, sort, page, keyset, limit, fetchSize);
+		}
+
+		public DefaultSelectSpecSupport after(Sort sort, Object... lastRowValues) {
+
+			Assert.notNull(sort, "Sort must not be null!");
+			Assert.isTrue(sort.isSorted(), "Sort must not be unsorted!");
+			Assert.notNull(lastRowValues, "Last row values must not be null!");
+			Assert.isTrue(sort.stream().count() == lastRowValues.length,
+					"Number of last row values must match the number of sort orders!");
+			Assert.noNullElements(lastRowValues, "Last row values must not contain null elements!");
+
+			return createInstance(table, projectedFields, sort, page, Arrays.asList(lastRowValues), limit,
+					fetchSize);
+		}
+
+		public DefaultSelectSpecSupport limit(int limit) {
+
+			Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+			return createInstance(table, projectedFields, sort, page, keyset, limit, fetchSize);
+		}
+
+		public DefaultSelectSpecSupport fetchSize(int fetchSize) {
+
+			Assert.isTrue(fetchSize > 0, "Fetch size must be greater than zero!");
+
+			return createInstance(table, projectedFields, sort, page, keyset, limit, fetchSize);
 		}
 
 		StringBuilder getLimitOffset(Pageable pageable) {
@@ -599,50 +975,403 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return sortClause;
 		}
 
-		<R> SqlResult<R> execute(String sql, BiFunction<Row, RowMetadata, R> mappingFunction) {
+		/**
+		 * Render a predicate selecting rows that follow the key values of a row in the order of {@code sort}. Bind markers
+		 * are obtained from the configured {@link BindMarkersFactory}. Uses a row value comparison if all orders share the
+		 * same direction and expands the comparison into a disjunction otherwise. Orders with explicit
+		 * {@link NullHandling} are rejected as the comparison does not match {@literal null} keys.
+		 */
+		KeysetPredicate getKeysetPredicate(Sort sort) {
+
+			List<Order> orders = sort.stream().collect(Collectors.toList());
 
-			Function<Connection, Statement> selectFunction = it -> {
+			for (Order order : orders) {
 
-				if (logger.isDebugEnabled()) {
-					logger.debug("Executing SQL statement [" + sql + "]");
+				if (order.getNullHandling() != NullHandling.NATIVE) {
+					throw new InvalidDataAccessApiUsageException(
+							String.format("Keyset pagination does not support %s for property '%s'!", order.getNullHandling(),
+									order.getProperty()));
 				}
+			}
 
-				return it.createStatement(sql);
-			};
+			boolean ascending = orders.get(0).isAscending();
+			boolean sameDirection = orders.stream().allMatch(it -> it.isAscending() == ascending);
 
-			Function<Connection, Flux<Result>> resultFunction = it -> Flux.from(selectFunction.apply(it).execute());
+			BindMarkers bindMarkers = bindMarkersFactory.create();
+			KeysetPredicate predicate = new KeysetPredicate();
 
-			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
-					sql, //
-					resultFunction, //
-					it -> Mono.error(new UnsupportedOperationException("Not available for SELECT")), //
-					mappingFunction);
-		}
+			if (sameDirection) {
 
-		protected abstract DefaultSelectSpecSupport createInstance(String table, List<String> projectedFields, Sort sort,
-				Pageable page);
-	}
+				String operator = ascending ? " > " : " < ";
 
-	private class DefaultGenericSelectSpec extends DefaultSelectSpecSupport implements GenericSelectSpec {
+				if (orders.size() == 1) {
+					return predicate.append(orders.get(0).getProperty()).append(operator).appendMarker(bindMarkers, 0);
+				}
 
-		public DefaultGenericSelectSpec(String table, List<String> projectedFields, Sort sort, Pageable page) {
-			super(table, projectedFields, sort, page);
-		}
+				predicate.append("(");
+				for (int i = 0; i < orders.size(); i++) {
 
-		DefaultGenericSelectSpec(String table) {
-			super(table);
-		}
+					if (i != 0) {
+						predicate.append(", ");
+					}
+					predicate.append(orders.get(i).getProperty());
+				}
 
-		@Override
-		public <R> TypedSelectSpec<R> as(Class<R> resultType) {
-			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, resultType,
-					dataAccessStrategy.getRowMapper(resultType));
-		}
+				predicate.append(")").append(operator).append("(");
+				for (int i = 0; i < orders.size(); i++) {
 
-		@Override
-		public DefaultGenericSelectSpec project(String... selectedFields) {
-			return (DefaultGenericSelectSpec) super.project(selectedFields);
-		}
+					if (i != 0) {
+						predicate.append(", ");
+					}
+					predicate.appendMarker(bindMarkers, i);
+				}
+
+				return predicate.append(")");
+			}
+
+			predicate.append("(");
+			for (int i = 0; i < orders.size(); i++) {
+
+				if (i != 0) {
+					predicate.append(" OR ");
+				}
+
+				predicate.append("(");
+				for (int j = 0; j < i; j++) {
+					predicate.append(orders.get(j).getProperty()).append(" = ").appendMarker(bindMarkers, j).append(" AND ");
+				}
+
+				Order order = orders.get(i);
+				predicate.append(order.getProperty()).append(order.isAscending() ? " > " : " < ")
+						.appendMarker(bindMarkers, i).append(")");
+			}
+
+			return predicate.append(")");
+		}
+
+		String getSql(List<String> selectFields, Sort mappedSort, @Nullable KeysetPredicate keysetPredicate, int limit) {
+
+			StringBuilder selectBuilder = new StringBuilder();
+			selectBuilder.append("SELECT").append(' ') //
+					.append(StringUtils.collectionToDelimitedString(selectFields, ", ")).append(' ') //
+					.append("FROM").append(' ').append(table);
+
+			if (keysetPredicate != null) {
+				selectBuilder.append(' ').append("WHERE").append(' ').append(keysetPredicate.getSql());
+			}
+
+			if (mappedSort.isSorted()) {
+				selectBuilder.append(' ').append("ORDER BY").append(' ').append(getSortClause(mappedSort));
+			}
+
+			if (limit > 0) {
+				selectBuilder.append(' ').append("LIMIT").append(' ').append(limit);
+			} else if (page.isPaged()) {
+				selectBuilder.append(' ').append(getLimitOffset(page));
+			}
+
+			return selectBuilder.toString();
+		}
+
+		<R> SqlResult<R> exchange(BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+			if (fetchSize > 0) {
+				return new StreamingSqlResult<>(mappingFunction);
+			}
+
+			Sort mappedSort = getMappedSort(sort);
+			KeysetPredicate keysetPredicate = keyset != null ? getKeysetPredicate(mappedSort) : null;
+			String sql = getSql(getSelectFields(), mappedSort, keysetPredicate, limit);
+
+			return execute(sql, keysetPredicate, keyset, mappingFunction);
+		}
+
+		/**
+		 * Walk all rows page by page using keyset pagination. Each page is selected with a predicate on the key values of
+		 * the last row of the previous page so that the cost per page does not depend on its position.
+		 */
+		<R> Flux<R> fetchAllByKeyset(int pageSize, BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+			Assert.isTrue(pageSize > 0, "Page size must be greater than zero!");
+			Assert.state(sort.isSorted(), "Keyset pagination requires a Sort!");
+
+			return inConnectionMany(it -> fetchByKeyset(it, pageSize, mappingFunction));
+		}
+
+		/**
+		 * Select rows in pages of {@code pageSize} on the given {@link Connection}. The next page is selected once the
+		 * previous page was received so that at most two pages are held in memory. Key columns are added to the selected
+		 * fields if not selected already. Rows with a {@literal null} key terminate the {@link Flux} with an error as
+		 * the key comparison cannot select the rows following them.
+		 */
+		<R> Flux<R> fetchByKeyset(Connection connection, int pageSize, BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+			Sort mappedSort = getMappedSort(sort);
+			List<String> keyColumns = mappedSort.stream().map(Order::getProperty).collect(Collectors.toList());
+			List<String> selectFields = getKeysetSelectFields(keyColumns);
+
+			KeysetPredicate keysetPredicate = getKeysetPredicate(mappedSort);
+			String firstPageSql = getSql(selectFields, mappedSort, keyset != null ? keysetPredicate : null, pageSize);
+			String nextPageSql = getSql(selectFields, mappedSort, keysetPredicate, pageSize);
+
+			BiFunction<Row, RowMetadata, KeysetRow<R>> keysetMappingFunction = (row, metadata) -> {
+
+				Object[] keys = new Object[keyColumns.size()];
+				for (int i = 0; i < keys.length; i++) {
+
+					keys[i] = row.get(keyColumns.get(i));
+
+					if (keys[i] == null) {
+						throw new InvalidDataAccessApiUsageException(String.format(
+								"Keyset pagination requires non-null keys but column '%s' is null!", keyColumns.get(i)));
+					}
+				}
+
+				return new KeysetRow<>(keys, mappingFunction.apply(row, metadata));
+			};
+
+			Mono<List<KeysetRow<R>>> firstPage = execute(connection, firstPageSql, keysetPredicate, keyset) //
+					.flatMap(result -> result.map(keysetMappingFunction)) //
+					.collectList();
+
+			return firstPage.expand(page -> {
+
+				if (page.size() < pageSize) {
+					return Mono.empty();
+				}
+
+				List<Object> lastRowKeys = Arrays.asList(page.get(page.size() - 1).keys);
+
+				return execute(connection, nextPageSql, keysetPredicate, lastRowKeys) //
+						.flatMap(result -> result.map(keysetMappingFunction)) //
+						.collectList();
+			}).concatMapIterable(Function.identity(), 1).map(it -> it.value);
+		}
+
+		/**
+		 * Stream rows with bounded demand. The select runs as a single statement requesting at most {@code fetchSize} rows
+		 * at a time from the driver. Sorted selects are not split into keyset pages as keyset pages skip rows sharing
+		 * the key values of the last row of a page if the sort is not unique.
+		 */
+		<R> Flux<R> stream(Connection connection, BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+			Sort mappedSort = getMappedSort(sort);
+			KeysetPredicate keysetPredicate = keyset != null ? getKeysetPredicate(mappedSort) : null;
+			String sql = getSql(getSelectFields(), mappedSort, keysetPredicate, limit);
+
+			return execute(connection, sql, keysetPredicate, keyset) //
+					.concatMap(result -> Flux.from(result.map(mappingFunction)).limitRate(fetchSize), 1);
+		}
+
+		/**
+		 * @return the fields to select extended by {@code keyColumns} that are not selected.
+		 */
+		private List<String> getKeysetSelectFields(List<String> keyColumns) {
+
+			List<String> selectFields = getSelectFields();
+
+			if (selectFields.contains("*")) {
+				return selectFields;
+			}
+
+			List<String> keysetSelectFields = new ArrayList<>(selectFields);
+
+			for (String keyColumn : keyColumns) {
+
+				if (keysetSelectFields.stream().noneMatch(keyColumn::equalsIgnoreCase)) {
+					keysetSelectFields.add(keyColumn);
+				}
+			}
+
+			return keysetSelectFields;
+		}
+
+		Flux<Result> execute(Connection connection, String sql, @Nullable KeysetPredicate keysetPredicate,
+				@Nullable List<Object> keys) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing SQL statement [" + sql + "]");
+			}
+
+			if (keysetPredicate == null || keys == null) {
+				return DefaultDatabaseClient.this.execute(connection, sql, 0, statement -> {});
+			}
+
+			return DefaultDatabaseClient.this.execute(connection, sql, keysetPredicate.getBindCount(),
+					statement -> keysetPredicate.bind(statement, keys));
+		}
+
+		<R> SqlResult<R> execute(String sql, @Nullable KeysetPredicate keysetPredicate, @Nullable List<Object> keys,
+				BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+			Function<Connection, Flux<Result>> resultFunction = it -> execute(it, sql, keysetPredicate, keys);
+
+			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
+					sql, //
+					resultFunction, //
+					it -> Mono.error(new UnsupportedOperationException("Not available for SELECT")), //
+					mappingFunction);
+		}
+
+		/**
+		 * @return the fields to select.
+		 */
+		protected abstract List<String> getSelectFields();
+
+		/**
+		 * @return {@code sort} mapped to column names.
+		 */
+		protected abstract Sort getMappedSort(Sort sort);
+
+		protected abstract DefaultSelectSpecSupport createInstance(String table, List<String> projectedFields, Sort sort,
+				Pageable page, @Nullable List<Object> keyset, int limit, int fetchSize);
+
+		/**
+		 * {@link SqlResult} streaming rows with bounded demand through {@link #stream(Connection, BiFunction)}.
+		 */
+		class StreamingSqlResult<R> implements SqlResult<R> {
+
+			private final FetchSpec<R> fetchSpec;
+
+			StreamingSqlResult(BiFunction<Row, RowMetadata, R> mappingFunction) {
+
+				this.fetchSpec = new DefaultFetchSpec<>(DefaultDatabaseClient.this,
+						getSql(getSelectFields(), getMappedSort(sort),
+								keyset != null ? getKeysetPredicate(getMappedSort(sort)) : null, limit), //
+						it -> stream(it, mappingFunction), //
+						it -> Mono.error(new UnsupportedOperationException("Not available for SELECT")), //
+						it -> Mono.error(new UnsupportedOperationException("Not available for streaming SELECT")));
+			}
+
+			/* (non-Javadoc)
+			 * @see org.springframework.data.r2dbc.function.SqlResult#extract(java.util.function.BiFunction)
+			 */
+			@Override
+			public <T> SqlResult<T> extract(BiFunction<Row, RowMetadata, T> mappingFunction) {
+				return new StreamingSqlResult<>(mappingFunction);
+			}
+
+			/* (non-Javadoc)
+			 * @see org.springframework.data.r2dbc.function.FetchSpec#one()
+			 */
+			@Override
+			public Mono<R> one() {
+				return fetchSpec.one();
+			}
+
+			/* (non-Javadoc)
+			 * @see org.springframework.data.r2dbc.function.FetchSpec#first()
+			 */
+			@Override
+			public Mono<R> first() {
+				return fetchSpec.first();
+			}
+
+			/* (non-Javadoc)
+			 * @see org.springframework.data.r2dbc.function.FetchSpec#all()
+			 */
+			@Override
+			public Flux<R> all() {
+				return fetchSpec.all();
+			}
+
+			/* (non-Javadoc)
+			 * @see org.springframework.data.r2dbc.function.FetchSpec#rowsUpdated()
+			 */
+			@Override
+			public Mono<Integer> rowsUpdated() {
+				return fetchSpec.rowsUpdated();
+			}
+
+			/* (non-Javadoc)
+			 * @see org.springframework.data.r2dbc.function.FetchSpec#allWithRowsUpdated()
+			 */
+			@Override
+			public Mono<RowsAndCount<R>> allWithRowsUpdated() {
+				return fetchSpec.allWithRowsUpdated();
+			}
+		}
+	}
+
+	/**
+	 * Mapped row along with the key values used for keyset pagination.
+	 */
+	private static class KeysetRow<R> {
+
+		final Object[] keys;
+		final R value;
+
+		KeysetRow(Object[] keys, R value) {
+
+			this.keys = keys;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Keyset predicate SQL along with its {@link BindMarker}s. Each marker is bound to the key value at the position of
+	 * its key so that keys referenced multiple times are bound to each of their markers.
+	 */
+	private static class KeysetPredicate {
+
+		private final StringBuilder sql = new StringBuilder();
+		private final List<BindMarker> markers = new ArrayList<>();
+		private final List<Integer> keyIndexes = new ArrayList<>();
+
+		KeysetPredicate append(String sqlFragment) {
+
+			sql.append(sqlFragment);
+			return this;
+		}
+
+		KeysetPredicate appendMarker(BindMarkers bindMarkers, int keyIndex) {
+
+			BindMarker marker = bindMarkers.next();
+
+			sql.append(marker.getPlaceholder());
+			markers.add(marker);
+			keyIndexes.add(keyIndex);
+
+			return this;
+		}
+
+		String getSql() {
+			return sql.toString();
+		}
+
+		int getBindCount() {
+			return markers.size();
+		}
+
+		void bind(Statement statement, List<Object> keys) {
+
+			for (int i = 0; i < markers.size(); i++) {
+				markers.get(i).bindValue(statement, keys.get(keyIndexes.get(i)));
+			}
+		}
+	}
+
+	private class DefaultGenericSelectSpec extends DefaultSelectSpecSupport implements GenericSelectSpec {
+
+		public DefaultGenericSelectSpec(String table, List<String> projectedFields, Sort sort, Pageable page,
+				@Nullable List<Object> keyset, int limit, int fetchSize) {
+			super(table, projectedFields, sort, page, keyset, limit, fetchSize);
+		}
+
+		DefaultGenericSelectSpec(String table) {
+			super(table);
+		}
+
+		@Override
+		public <R> TypedSelectSpec<R> as(Class<R> resultType) {
+			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, keyset, limit, fetchSize, resultType,
+					dataAccessStrategy.getRowMapper(resultType));
+		}
+
+		@Override
+		public DefaultGenericSelectSpec project(String... selectedFields) {
+			return (DefaultGenericSelectSpec) super.project(selectedFields);
+		}
 
 		@Override
 		public DefaultGenericSelectSpec orderBy(Sort sort) {
@@ -654,6 +1383,21 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return (DefaultGenericSelectSpec) super.page(page);
 		}
 
+		@Override
+		public DefaultGenericSelectSpec after(Sort sort, Object... lastRowValues) {
+			return (DefaultGenericSelectSpec) super.after(sort, lastRowValues);
+		}
+
+		@Override
+		public DefaultGenericSelectSpec limit(int limit) {
+			return (DefaultGenericSelectSpec) super.limit(limit);
+		}
+
+		@Override
+		public DefaultGenericSelectSpec fetchSize(int fetchSize) {
+			return (DefaultGenericSelectSpec) super.fetchSize(fetchSize);
+		}
+
 		@Override
 		public FetchSpec<Map<String, Object>> fetch() {
 			return exchange(ColumnMapRowMapper.INSTANCE);
@@ -664,36 +1408,25 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return Mono.just(exchange(ColumnMapRowMapper.INSTANCE));
 		}
 
-		private <R> SqlResult<R> exchange(BiFunction<Row, RowMetadata, R> mappingFunction) {
-
-			List<String> projectedFields;
-
-			if (this.projectedFields.isEmpty()) {
-				projectedFields = Collections.singletonList("*");
-			} else {
-				projectedFields = this.projectedFields;
-			}
-
-			StringBuilder selectBuilder = new StringBuilder();
-			selectBuilder.append("SELECT").append(' ') //
-					.append(StringUtils.collectionToDelimitedString(projectedFields, ", ")).append(' ') //
-					.append("FROM").append(' ').append(table);
-
-			if (sort.isSorted()) {
-				selectBuilder.append(' ').append("ORDER BY").append(' ').append(getSortClause(sort));
-			}
+		@Override
+		public Flux<Map<String, Object>> fetchAllByKeyset(int pageSize) {
+			return fetchAllByKeyset(pageSize, ColumnMapRowMapper.INSTANCE);
+		}
 
-			if (page.isPaged()) {
-				selectBuilder.append(' ').append(getLimitOffset(page));
-			}
+		@Override
+		protected List<String> getSelectFields() {
+			return this.projectedFields.isEmpty() ? Collections.singletonList("*") : this.projectedFields;
+		}
 
-			return execute(selectBuilder.toString(), mappingFunction);
+		@Override
+		protected Sort getMappedSort(Sort sort) {
+			return sort;
 		}
 
 		@Override
 		protected DefaultGenericSelectSpec createInstance(String table, List<String> projectedFields, Sort sort,
-				Pageable page) {
-			return new DefaultGenericSelectSpec(table, projectedFields, sort, page);
+				Pageable page, @Nullable List<Object> keyset, int limit, int fetchSize) {
+			return new DefaultGenericSelectSpec(table, projectedFields, sort, page, keyset, limit, fetchSize);
 		}
 	}
 
@@ -714,9 +1447,10 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			this.mappingFunction = dataAccessStrategy.getRowMapper(typeToRead);
 		}
 
-		DefaultTypedSelectSpec(String table, List<String> projectedFields, Sort sort, Pageable page, Class<?> typeToRead,
+		DefaultTypedSelectSpec(String table, List<String> projectedFields, Sort sort, Pageable page,
+				@Nullable List<Object> keyset, int limit, int fetchSize, Class<?> typeToRead,
 				BiFunction<Row, RowMetadata, T> mappingFunction) {
-			super(table, projectedFields, sort, page);
+			super(table, projectedFields, sort, page, keyset, limit, fetchSize);
 			this.typeToRead = typeToRead;
 			this.mappingFunction = mappingFunction;
 		}
@@ -726,7 +1460,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(resultType, "Result type must not be null!");
 
-			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, typeToRead,
+			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, keyset, limit, fetchSize, typeToRead,
 					dataAccessStrategy.getRowMapper(resultType));
 		}
 
@@ -735,7 +1469,8 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(mappingFunction, "Mapping function must not be null!");
 
-			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, typeToRead, mappingFunction);
+			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, keyset, limit, fetchSize, typeToRead,
+					mappingFunction);
 		}
 
 		@Override
@@ -753,6 +1488,21 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return (DefaultTypedSelectSpec<T>) super.page(page);
 		}
 
+		@Override
+		public DefaultTypedSelectSpec<T> after(Sort sort, Object... lastRowValues) {
+			return (DefaultTypedSelectSpec<T>) super.after(sort, lastRowValues);
+		}
+
+		@Override
+		public DefaultTypedSelectSpec<T> limit(int limit) {
+			return (DefaultTypedSelectSpec<T>) super.limit(limit);
+		}
+
+		@Override
+		public DefaultTypedSelectSpec<T> fetchSize(int fetchSize) {
+			return (DefaultTypedSelectSpec<T>) super.fetchSize(fetchSize);
+		}
+
 		@Override
 		public FetchSpec<T> fetch() {
 			return exchange(mappingFunction);
@@ -763,38 +1513,26 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return Mono.just(exchange(mappingFunction));
 		}
 
-		private <R> SqlResult<R> exchange(BiFunction<Row, RowMetadata, R> mappingFunction) {
-
-			List<String> projectedFields;
-
-			if (this.projectedFields.isEmpty()) {
-				projectedFields = dataAccessStrategy.getAllFields(typeToRead);
-			} else {
-				projectedFields = this.projectedFields;
-			}
-
-			StringBuilder selectBuilder = new StringBuilder();
-			selectBuilder.append("SELECT").append(' ') //
-					.append(StringUtils.collectionToDelimitedString(projectedFields, ", ")).append(' ') //
-					.append("FROM").append(' ').append(table);
-
-			if (sort.isSorted()) {
-
-				Sort mappedSort = dataAccessStrategy.getMappedSort(typeToRead, sort);
-				selectBuilder.append(' ').append("ORDER BY").append(' ').append(getSortClause(mappedSort));
-			}
+		@Override
+		public Flux<T> fetchAllByKeyset(int pageSize) {
+			return fetchAllByKeyset(pageSize, mappingFunction);
+		}
 
-			if (page.isPaged()) {
-				selectBuilder.append(' ').append(getLimitOffset(page));
-			}
+		@Override
+		protected List<String> getSelectFields() {
+			return this.projectedFields.isEmpty() ? dataAccessStrategy.getAllFields(typeToRead) : this.projectedFields;
+		}
 
-			return execute(selectBuilder.toString(), mappingFunction);
+		@Override
+		protected Sort getMappedSort(Sort sort) {
+			return sort.isSorted() ? dataAccessStrategy.getMappedSort(typeToRead, sort) : sort;
 		}
 
 		@Override
 		protected DefaultTypedSelectSpec<T> createInstance(String table, List<String> projectedFields, Sort sort,
-				Pageable page) {
-			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, typeToRead, mappingFunction);
+				Pageable page, @Nullable List<Object> keyset, int limit, int fetchSize) {
+			return new DefaultTypedSelectSpec<>(table, projectedFields, sort, page, keyset, limit, fetchSize, typeToRead,
+					mappingFunction);
 		}
 	}
 
@@ -805,7 +1543,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 		@Override
 		public GenericInsertSpec into(String table) {
-			return new DefaultGenericInsertSpec(table, Collections.emptyMap());
+			return new DefaultGenericInsertSpec(table, Bindings.empty(), null);
 		}
 
 		@Override
@@ -821,17 +1559,16 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	class DefaultGenericInsertSpec implements GenericInsertSpec {
 
 		private final String table;
-		private final Map<String, SettableValue> byName;
+		private final Bindings byName;
+		private final @Nullable List<String> returning;
 
 		@Override
 		public GenericInsertSpec value(String field, Object value) {
 
 			Assert.notNull(field, "Field must not be null!");
 
-			Map<String, SettableValue> byName = new LinkedHashMap<>(this.byName);
-			byName.put(field, new SettableValue(field, value, null));
-
-			return new DefaultGenericInsertSpec(this.table, byName);
+			return new DefaultGenericInsertSpec(this.table, this.byName.and(new SettableValue(field, value, null)),
+					this.returning);
 		}
 
 		@Override
@@ -839,15 +1576,22 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(field, "Field must not be null!");
 
-			Map<String, SettableValue> byName = new LinkedHashMap<>(this.byName);
-			byName.put(field, new SettableValue(field, null, type));
+			return new DefaultGenericInsertSpec(this.table, this.byName.and(new SettableValue(field, null, type)),
+					this.returning);
+		}
+
+		@Override
+		public GenericInsertSpec returning(String... columns) {
 
-			return new DefaultGenericInsertSpec(this.table, byName);
+			Assert.notNull(columns, "Columns must not be null!");
+
+			return new DefaultGenericInsertSpec(this.table, this.byName, Arrays.asList(columns));
 		}
 
 		@Override
 		public Mono<Void> then() {
-			return exchange((row, md) -> row).all().then();
+			return new DefaultGenericInsertSpec(this.table, this.byName, Collections.emptyList())
+					.exchange((row, md) -> row).rowsUpdated().then();
 		}
 
 		@Override
@@ -861,27 +1605,26 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 				throw new IllegalStateException("Insert fields is empty!");
 			}
 
+			List<SettableValue> values = byName.getDistinctValues();
+
 			StringBuilder builder = new StringBuilder();
-			String fieldNames = byName.keySet().stream().collect(Collectors.joining(","));
-			String placeholders = IntStream.range(0, byName.size()).mapToObj(i -> "$" + (i + 1))
+			String fieldNames = values.stream().map(SettableValue::getIdentifier).map(Object::toString)
+					.collect(Collectors.joining(","));
+			String placeholders = IntStream.range(0, values.size()).mapToObj(i -> "$" + (i + 1))
 					.collect(Collectors.joining(","));
 
 			builder.append("INSERT INTO ").append(table).append(" (").append(fieldNames).append(") ").append(" VALUES(")
-					.append(placeholders).append(") RETURNING *");
+					.append(placeholders).append(")").append(getReturningClause(returning));
 
 			String sql = builder.toString();
-			Function<Connection, Statement> insertFunction = it -> {
+			Function<Connection, Flux<Result>> resultFunction = it -> {
 
 				if (logger.isDebugEnabled()) {
 					logger.debug("Executing SQL statement [" + sql + "]");
 				}
-				Statement statement = it.createStatement(sql);
-				doBind(statement);
-				return statement;
-			};
 
-			Function<Connection, Flux<Result>> resultFunction = it -> Flux
-					.from(insertFunction.apply(it).execute());
+				return execute(it, sql, values.size(), statement -> doBind(statement, values));
+			};
 
 			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
 					sql, //
@@ -894,12 +1637,13 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		 * PostgreSQL-specific bind.
 		 *
 		 * @param statement
+		 * @param values
 		 */
-		private void doBind(Statement statement) {
+		private void doBind(Statement statement, List<SettableValue> values) {
 
 			AtomicInteger index = new AtomicInteger();
 
-			for (SettableValue value : byName.values()) {
+			for (SettableValue value : values) {
 
 				if (value.getValue() != null) {
 					statement.bind(index.getAndIncrement(), value.getValue());
@@ -911,20 +1655,29 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 	}
 
 	/**
-	 * Default implementation of {@link DatabaseClient.TypedInsertSpec}.
+	 * Default implementation of {@link DatabaseClient.TypedInsertSpec}. Objects emitted by the {@link Publisher} are
+	 * buffered into chunks of {@code chunkSize} elements. Each chunk is inserted using a multi-row
+	 * {@code INSERT … VALUES (…), (…)} statement. Chunks are inserted sequentially so that the upstream is requested
+	 * chunk by chunk and generated keys are emitted in the order of the inserted objects.
 	 */
 	@RequiredArgsConstructor
 	class DefaultTypedInsertSpec<T> implements TypedInsertSpec<T>, InsertSpec {
 
+		static final int DEFAULT_CHUNK_SIZE = 256;
+
 		private final Class<?> typeToInsert;
 		private final String table;
 		private final Publisher<T> objectToInsert;
+		private final int chunkSize;
+		private final @Nullable List<String> returning;
 
 		DefaultTypedInsertSpec(Class<?> typeToInsert) {
 
 			this.typeToInsert = typeToInsert;
 			this.table = dataAccessStrategy.getTableName(typeToInsert);
 			this.objectToInsert = Mono.empty();
+			this.chunkSize = DEFAULT_CHUNK_SIZE;
+			this.returning = null;
 		}
 
 		@Override
@@ -932,7 +1685,15 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.hasText(tableName, "Table name must not be null or empty!");
 
-			return new DefaultTypedInsertSpec<>(typeToInsert, tableName, objectToInsert);
+			return new DefaultTypedInsertSpec<>(typeToInsert, tableName, objectToInsert, chunkSize, returning);
+		}
+
+		@Override
+		public TypedInsertSpec<T> chunkSize(int chunkSize) {
+
+			Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+			return new DefaultTypedInsertSpec<>(typeToInsert, table, objectToInsert, chunkSize, returning);
 		}
 
 		@Override
@@ -940,7 +1701,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(objectToInsert, "Object to insert must not be null!");
 
-			return new DefaultTypedInsertSpec<>(typeToInsert, table, Mono.just(objectToInsert));
+			return new DefaultTypedInsertSpec<>(typeToInsert, table, Mono.just(objectToInsert), chunkSize, returning);
 		}
 
 		@Override
@@ -948,66 +1709,156 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(objectToInsert, "Publisher to insert must not be null!");
 
-			return new DefaultTypedInsertSpec<>(typeToInsert, table, objectToInsert);
+			return new DefaultTypedInsertSpec<>(typeToInsert, table, objectToInsert, chunkSize, returning);
+		}
+
+		@Override
+		public InsertSpec returning(String... columns) {
+
+			Assert.notNull(columns, "Columns must not be null!");
+
+			return new DefaultTypedInsertSpec<>(typeToInsert, table, objectToInsert, chunkSize, Arrays.asList(columns));
 		}
 
 		@Override
 		public Mono<Void> then() {
-			return Mono.from(objectToInsert).flatMapMany(toInsert -> exchange(toInsert, (row, md) -> row).all()).then();
+			return new DefaultTypedInsertSpec<>(typeToInsert, table, objectToInsert, chunkSize, Collections.emptyList())
+					.exchange((row, md) -> row).rowsUpdated().then();
 		}
 
 		@Override
 		public Mono<SqlResult<Map<String, Object>>> exchange() {
-			return Mono.from(objectToInsert).map(toInsert -> exchange(toInsert, ColumnMapRowMapper.INSTANCE));
+			return Mono.just(exchange(ColumnMapRowMapper.INSTANCE));
 		}
 
-		private <R> SqlResult<R> exchange(Object toInsert, BiFunction<Row, RowMetadata, R> mappingFunction) {
+		private <R> SqlResult<R> exchange(BiFunction<Row, RowMetadata, R> mappingFunction) {
 
-			StringBuilder builder = new StringBuilder();
+			String sql = "INSERT INTO " + table + " VALUES(...)" + getReturningClause(returning);
 
-			List<SettableValue> insertValues = dataAccessStrategy.getInsert(toInsert);
-			String fieldNames = insertValues.stream().map(SettableValue::getIdentifier).map(Object::toString)
-					.collect(Collectors.joining(","));
-			String placeholders = IntStream.range(0, insertValues.size()).mapToObj(i -> "$" + (i + 1))
-					.collect(Collectors.joining(","));
+			Function<Connection, Flux<Result>> resultFunction = it -> Flux.from(objectToInsert) //
+					.buffer(chunkSize) //
+					.concatMap(chunk -> Flux.defer(() -> insertChunk(it, chunk)), 1);
 
-			builder.append("INSERT INTO ").append(table).append(" (").append(fieldNames).append(") ").append(" VALUES(")
-					.append(placeholders).append(") RETURNING *");
+			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
+					sql, //
+					resultFunction, //
+					it -> resultFunction.apply(it).flatMap(Result::getRowsUpdated).reduce(0, Integer::sum), //
+					mappingFunction);
+		}
 
-			String sql = builder.toString();
+		/**
+		 * Insert a chunk of objects. Objects are grouped into runs of consecutive objects sharing the same set of
+		 * non-{@literal null} columns. Each run is inserted with a single statement.
+		 */
+		private Flux<Result> insertChunk(Connection connection, List<T> chunk) {
+
+			List<List<SettableValue>> run = new ArrayList<>(chunk.size());
+			List<Flux<Result>> statements = new ArrayList<>();
 
-			Function<Connection, Statement> insertFunction = it -> {
+			for (T toInsert : chunk) {
+
+				List<SettableValue> insertValues = dataAccessStrategy.getInsert(toInsert);
+
+				if (!run.isEmpty() && !hasSameColumns(run.get(0), insertValues)) {
+					statements.add(insertRun(connection, run));
+					run = new ArrayList<>(chunk.size());
+				}
+
+				run.add(insertValues);
+			}
+
+			if (!run.isEmpty()) {
+				statements.add(insertRun(connection, run));
+			}
+
+			return Flux.concat(statements);
+		}
+
+		private Flux<Result> insertRun(Connection connection, List<List<SettableValue>> rows) {
+
+			return Flux.defer(() -> {
+
+				List<SettableValue> columns = rows.get(0);
+				String fieldNames = columns.stream().map(SettableValue::getIdentifier).map(Object::toString)
+						.collect(Collectors.joining(","));
+
+				StringBuilder builder = new StringBuilder();
+				builder.append("INSERT INTO ").append(table).append(" (").append(fieldNames).append(") ").append(" VALUES");
+
+				int index = 0;
+				for (int i = 0; i < rows.size(); i++) {
+
+					if (i != 0) {
+						builder.append(',');
+					}
+
+					builder.append('(');
+					for (int j = 0; j < columns.size(); j++) {
+
+						if (j != 0) {
+							builder.append(',');
+						}
+						builder.append('$').append(++index);
+					}
+					builder.append(')');
+				}
+
+				builder.append(getReturningClause(returning));
+
+				String sql = builder.toString();
 
 				if (logger.isDebugEnabled()) {
 					logger.debug("Executing SQL statement [" + sql + "]");
 				}
 
-				Statement statement = it.createStatement(sql);
+				return execute(connection, sql, index, statement -> {
 
-				AtomicInteger index = new AtomicInteger();
+					int bindIndex = 0;
+					for (List<SettableValue> row : rows) {
+						for (SettableValue settable : row) {
 
-				for (SettableValue settable : insertValues) {
+							if (settable.getValue() != null) {
+								statement.bind(bindIndex, settable.getValue());
+							} else {
+								statement.bindNull("$" + (bindIndex + 1), settable.getType());
+							}
 
-					if (settable.getValue() != null) {
-						statement.bind(index.getAndIncrement(), settable.getValue());
-					} else {
-						statement.bindNull("$" + (index.getAndIncrement() + 1), settable.getType());
+							bindIndex++;
+						}
 					}
+				});
+			});
+		}
+
+		private boolean hasSameColumns(List<SettableValue> left, List<SettableValue> right) {
+
+			if (left.size() != right.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < left.size(); i++) {
+				if (!left.get(i).getIdentifier().equals(right.get(i).getIdentifier())) {
+					return false;
 				}
+			}
 
-				return statement;
-			};
+			return true;
+		}
+	}
 
-			Function<Connection, Flux<Result>> resultFunction = it -> {
-				return Flux.from(insertFunction.apply(it).execute());
-			};
+	/**
+	 * Render the {@code RETURNING} clause for an {@code INSERT} statement.
+	 *
+	 * @param columns the columns to return. {@literal null} returns all columns, an empty list returns no rows.
+	 * @return the {@code RETURNING} clause including a leading space or an empty {@link String}.
+	 */
+	private static String getReturningClause(@Nullable List<String> columns) {
 
-			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
-					sql, //
-					resultFunction, //
-					it -> resultFunction.apply(it).flatMap(Result::getRowsUpdated).next(), //
-					mappingFunction);
+		if (columns == null) {
+			return " RETURNING *";
 		}
+
+		return columns.isEmpty() ? "" : " RETURNING " + StringUtils.collectionToDelimitedString(columns, ", ");
 	}
 
 	private static <T> Flux<T> doInConnectionMany(Connection connection, Function<Connection, Flux<T>> action) {
@@ -1048,56 +1899,4 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			return null;
 		}
 	}
-
-	/**
-	 * Invocation handler that suppresses close calls on R2DBC Connections. Also prepares returned Statement
-	 * (Prepared/CallbackStatement) objects.
-	 *
-	 * @see Connection#close()
-	 */
-	private class CloseSuppressingInvocationHandler implements InvocationHandler {
-
-		private final Connection target;
-
-		CloseSuppressingInvocationHandler(Connection target) {
-			this.target = target;
-		}
-
-		@Override
-		@Nullable
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			// Invocation on ConnectionProxy interface coming in...
-
-			if (method.getName().equals("equals")) {
-				// Only consider equal when proxies are identical.
-				return (proxy == args[0]);
-			} else if (method.getName().equals("hashCode")) {
-				// Use hashCode of PersistenceManager proxy.
-				return System.identityHashCode(proxy);
-			} else if (method.getName().equals("unwrap")) {
-				if (((Class<?>) args[0]).isInstance(proxy)) {
-					return proxy;
-				}
-			} else if (method.getName().equals("isWrapperFor")) {
-				if (((Class<?>) args[0]).isInstance(proxy)) {
-					return true;
-				}
-			} else if (method.getName().equals("close")) {
-				// Handle close method: suppress, not valid.
-				return Mono.error(new UnsupportedOperationException("Close is not supported!"));
-			} else if (method.getName().equals("getTargetConnection")) {
-				// Handle getTargetConnection method: return underlying Connection.
-				return this.target;
-			}
-
-			// Invoke method on target Connection.
-			try {
-				Object retVal = method.invoke(this.target, args);
-
-				return retVal;
-			} catch (InvocationTargetException ex) {
-				throw ex.getTargetException();
-			}
-		}
-	}
 }
@@ -20,6 +20,7 @@ import io.r2dbc.spi.ConnectionFactory;
 
 import java.util.function.Consumer;
 
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
 import org.springframework.data.r2dbc.function.DatabaseClient.Builder;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
 import org.springframework.data.r2dbc.support.SqlErrorCodeR2dbcExceptionTranslator;
@@ -36,6 +37,8 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 	private @Nullable ConnectionFactory connector;
 	private @Nullable R2dbcExceptionTranslator exceptionTranslator;
 	private ReactiveDataAccessStrategy accessStrategy = new DefaultReactiveDataAccessStrategy();
+	private @Nullable ExecutionListener executionListener;
+	private BindMarkersFactory bindMarkersFactory = BindMarkersFactory.indexed("$", 1);
 
 	DefaultDatabaseClientBuilder() {}
 
@@ -46,6 +49,8 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 		this.connector = other.connector;
 		this.exceptionTranslator = other.exceptionTranslator;
 		this.accessStrategy = other.accessStrategy;
+		this.executionListener = other.executionListener;
+		this.bindMarkersFactory = other.bindMarkersFactory;
 	}
 
 	@Override
@@ -75,6 +80,24 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 		return this;
 	}
 
+	@Override
+	public Builder executionListener(ExecutionListener executionListener) {
+
+		Assert.notNull(executionListener, "ExecutionListener must not be null!");
+
+		this.executionListener = executionListener;
+		return this;
+	}
+
+	@Override
+	public Builder bindMarkers(BindMarkersFactory bindMarkersFactory) {
+
+		Assert.notNull(bindMarkersFactory, "BindMarkersFactory must not be null!");
+
+		this.bindMarkersFactory = bindMarkersFactory;
+		return this;
+	}
+
 	@Override
 	public DatabaseClient build() {
 
@@ -84,12 +107,15 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 			exceptionTranslator = new SqlErrorCodeR2dbcExceptionTranslator(connector);
 		}
 
-		return doBuild(this.connector, exceptionTranslator, this.accessStrategy, new DefaultDatabaseClientBuilder(this));
+		return doBuild(this.connector, exceptionTranslator, this.accessStrategy, this.executionListener,
+				this.bindMarkersFactory, new DefaultDatabaseClientBuilder(this));
 	}
 
 	protected DatabaseClient doBuild(ConnectionFactory connector, R2dbcExceptionTranslator exceptionTranslator,
-			ReactiveDataAccessStrategy accessStrategy, DefaultDatabaseClientBuilder builder) {
-		return new DefaultDatabaseClient(connector, exceptionTranslator, accessStrategy, builder);
+			ReactiveDataAccessStrategy accessStrategy, @Nullable ExecutionListener executionListener,
+			BindMarkersFactory bindMarkersFactory, DefaultDatabaseClientBuilder builder) {
+		return new DefaultDatabaseClient(connector, exceptionTranslator, accessStrategy, executionListener,
+				bindMarkersFactory, builder);
 	}
 
 	@Override
@@ -36,6 +36,7 @@ class DefaultFetchSpec<T> implements FetchSpec<T> {
 	private final String sql;
 	private final Function<Connection, Flux<T>> resultFunction;
 	private final Function<Connection, Mono<Integer>> updatedRowsFunction;
+	private final Function<Connection, Mono<RowsAndCount<T>>> rowsAndCountFunction;
 
 	/* (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.function.FetchSpec#one()
@@ -82,4 +83,12 @@ class DefaultFetchSpec<T> implements FetchSpec<T> {
 	public Mono<Integer> rowsUpdated() {
 		return connectionAccessor.inConnection(updatedRowsFunction);
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#allWithRowsUpdated()
+	 */
+	@Override
+	public Mono<RowsAndCount<T>> allWithRowsUpdated() {
+		return connectionAccessor.inConnection(rowsAndCountFunction);
+	}
 }
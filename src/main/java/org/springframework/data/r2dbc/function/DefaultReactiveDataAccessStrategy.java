@@ -21,11 +21,13 @@ import io.r2dbc.spi.RowMetadata;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.r2dbc.function.convert.EntityRowMapper;
 import org.springframework.data.r2dbc.function.convert.SettableValue;
@@ -34,16 +36,21 @@ import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
-import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 /**
+ * Default {@link ReactiveDataAccessStrategy} implementation. Mapping metadata (column lists, insert properties, row
+ * mappers and mapped {@link Sort sorts}) is computed once per type and cached for subsequent calls.
+ *
  * @author Mark Paluch
  */
 public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStrategy {
 
+	private static final int SORT_CACHE_SIZE = 64;
+
 	private final RelationalConverter relationalConverter;
+	private final Map<Class<?>, TypeMetadata> typeMetadata = new ConcurrentHashMap<>();
 
 	public DefaultReactiveDataAccessStrategy() {
 		this(new BasicRelationalConverter(new RelationalMappingContext()));
@@ -55,16 +62,7 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 
 	@Override
 	public List<String> getAllFields(Class<?> typeToRead) {
-
-		RelationalPersistentEntity<?> persistentEntity = getPersistentEntity(typeToRead);
-
-		if (persistentEntity == null) {
-			return Collections.singletonList("*");
-		}
-
-		return StreamUtils.createStreamFromIterator(persistentEntity.iterator()) //
-				.map(RelationalPersistentProperty::getColumnName) //
-				.collect(Collectors.toList());
+		return getTypeMetadata(typeToRead).fields;
 	}
 
 	@Override
@@ -72,12 +70,13 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 
 		Class<?> userClass = ClassUtils.getUserClass(object);
 
-		RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(userClass);
+		TypeMetadata metadata = getTypeMetadata(userClass);
+		RelationalPersistentEntity<?> entity = metadata.getRequiredEntity();
 		PersistentPropertyAccessor propertyAccessor = entity.getPropertyAccessor(object);
 
-		List<SettableValue> values = new ArrayList<>();
+		List<SettableValue> values = new ArrayList<>(metadata.properties.size());
 
-		for (RelationalPersistentProperty property : entity) {
+		for (RelationalPersistentProperty property : metadata.properties) {
 
 			Object value = propertyAccessor.getProperty(property);
 
@@ -94,11 +93,44 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 	@Override
 	public Sort getMappedSort(Class<?> typeToRead, Sort sort) {
 
-		RelationalPersistentEntity<?> entity = getPersistentEntity(typeToRead);
-		if (entity == null) {
+		TypeMetadata metadata = getTypeMetadata(typeToRead);
+
+		if (metadata.entity == null || sort.isUnsorted()) {
 			return sort;
 		}
 
+		Sort mappedSort = metadata.sorts.get(sort);
+
+		if (mappedSort != null) {
+			return mappedSort;
+		}
+
+		mappedSort = getMappedSort(metadata.entity, sort);
+
+		if (metadata.sorts.size() < SORT_CACHE_SIZE) {
+			metadata.sorts.put(sort, mappedSort);
+		}
+
+		return mappedSort;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> BiFunction<Row, RowMetadata, T> getRowMapper(Class<T> typeToRead) {
+		return (BiFunction<Row, RowMetadata, T>) getTypeMetadata(typeToRead).getRowMapper();
+	}
+
+	@Override
+	public String getTableName(Class<?> type) {
+		return getTypeMetadata(type).getRequiredEntity().getTableName();
+	}
+
+	private TypeMetadata getTypeMetadata(Class<?> type) {
+		return typeMetadata.computeIfAbsent(type, it -> new TypeMetadata(it, getPersistentEntity(it)));
+	}
+
+	private static Sort getMappedSort(RelationalPersistentEntity<?> entity, Sort sort) {
+
 		List<Order> mappedOrder = new ArrayList<>();
 
 		for (Order order : sort) {
@@ -115,23 +147,69 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 		return Sort.by(mappedOrder);
 	}
 
-	@Override
-	public <T> BiFunction<Row, RowMetadata, T> getRowMapper(Class<T> typeToRead) {
-		return new EntityRowMapper<T>((RelationalPersistentEntity) getRequiredPersistentEntity(typeToRead),
-				relationalConverter);
+	@Nullable
+	private RelationalPersistentEntity<?> getPersistentEntity(Class<?> typeToRead) {
+		return relationalConverter.getMappingContext().getPersistentEntity(typeToRead);
 	}
 
-	@Override
-	public String getTableName(Class<?> type) {
-		return getRequiredPersistentEntity(type).getTableName();
-	}
+	/**
+	 * Cached mapping metadata for a single type. Instances are safely published through the {@link ConcurrentHashMap}.
+	 */
+	private class TypeMetadata {
 
-	private RelationalPersistentEntity<?> getRequiredPersistentEntity(Class<?> typeToRead) {
-		return relationalConverter.getMappingContext().getRequiredPersistentEntity(typeToRead);
-	}
+		private final Class<?> type;
+		private final @Nullable RelationalPersistentEntity<?> entity;
+		private final List<String> fields;
+		private final List<RelationalPersistentProperty> properties;
+		private final Map<Sort, Sort> sorts = new ConcurrentHashMap<>();
 
-	@Nullable
-	private RelationalPersistentEntity<?> getPersistentEntity(Class<?> typeToRead) {
-		return relationalConverter.getMappingContext().getPersistentEntity(typeToRead);
+		private volatile @Nullable BiFunction<Row, RowMetadata, ?> rowMapper;
+
+		TypeMetadata(Class<?> type, @Nullable RelationalPersistentEntity<?> entity) {
+
+			this.type = type;
+			this.entity = entity;
+
+			if (entity == null) {
+				this.fields = Collections.singletonList("*");
+				this.properties = Collections.emptyList();
+				return;
+			}
+
+			List<String> fields = new ArrayList<>();
+			List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+			for (RelationalPersistentProperty property : entity) {
+
+				fields.add(property.getColumnName());
+				properties.add(property);
+			}
+
+			this.fields = Collections.unmodifiableList(fields);
+			this.properties = Collections.unmodifiableList(properties);
+		}
+
+		RelationalPersistentEntity<?> getRequiredEntity() {
+
+			if (entity == null) {
+				throw new MappingException(String.format("Couldn't find PersistentEntity for type %s!", type));
+			}
+
+			return entity;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		BiFunction<Row, RowMetadata, ?> getRowMapper() {
+
+			BiFunction<Row, RowMetadata, ?> rowMapper = this.rowMapper;
+
+			if (rowMapper == null) {
+
+				rowMapper = new EntityRowMapper(getRequiredEntity(), relationalConverter);
+				this.rowMapper = rowMapper;
+			}
+
+			return rowMapper;
+		}
 	}
 }
@@ -22,6 +22,8 @@ import io.r2dbc.spi.RowMetadata;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -64,6 +66,27 @@ class DefaultSqlResult<T> implements SqlResult<T> {
 				return updatedRowsFunction.apply(connection);
 			}
 
+			@Override
+			public String getSql() {
+				return sql;
+			}
+		}, new SqlFunction<Connection, Mono<RowsAndCount<T>>>() {
+			@Override
+			public Mono<RowsAndCount<T>> apply(Connection connection) {
+
+				return Mono.defer(() -> {
+
+					List<T> rows = new ArrayList<>();
+
+					return resultFunction.apply(connection) //
+							.concatMap(result -> Flux.from(result.map(mappingFunction)) //
+									.doOnNext(rows::add) //
+									.then(Mono.from(result.getRowsUpdated()).defaultIfEmpty(0))) //
+							.reduce(0, Integer::sum) //
+							.map(rowsUpdated -> new RowsAndCount<>(rows, rowsUpdated));
+				});
+			}
+
 			@Override
 			public String getSql() {
 				return sql;
@@ -111,6 +134,14 @@ class DefaultSqlResult<T> implements SqlResult<T> {
 		return fetchSpec.rowsUpdated();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#allWithRowsUpdated()
+	 */
+	@Override
+	public Mono<RowsAndCount<T>> allWithRowsUpdated() {
+		return fetchSpec.allWithRowsUpdated();
+	}
+
 	/**
 	 * Union type combining {@link Function} and {@link SqlProvider} to expose the SQL that is related to the underlying
 	 * action.
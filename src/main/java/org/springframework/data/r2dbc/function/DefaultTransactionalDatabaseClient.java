@@ -27,8 +27,10 @@ import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import org.springframework.data.r2dbc.function.connectionfactory.ConnectionFactoryUtils;
 import org.springframework.data.r2dbc.function.connectionfactory.ReactiveTransactionSynchronization;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
 import org.springframework.data.r2dbc.function.connectionfactory.TransactionResources;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.NoTransactionException;
 
 /**
@@ -39,8 +41,9 @@ import org.springframework.transaction.NoTransactionException;
 class DefaultTransactionalDatabaseClient extends DefaultDatabaseClient implements TransactionalDatabaseClient {
 
 	DefaultTransactionalDatabaseClient(ConnectionFactory connector, R2dbcExceptionTranslator exceptionTranslator,
-			ReactiveDataAccessStrategy dataAccessStrategy, DefaultDatabaseClientBuilder builder) {
-		super(connector, exceptionTranslator, dataAccessStrategy, builder);
+			ReactiveDataAccessStrategy dataAccessStrategy, @Nullable ExecutionListener executionListener,
+			BindMarkersFactory bindMarkersFactory, DefaultDatabaseClientBuilder builder) {
+		super(connector, exceptionTranslator, dataAccessStrategy, executionListener, bindMarkersFactory, builder);
 	}
 
 	@Override
@@ -19,8 +19,10 @@ import io.r2dbc.spi.ConnectionFactory;
 
 import java.util.function.Consumer;
 
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
 import org.springframework.data.r2dbc.function.DatabaseClient.Builder;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -72,6 +74,21 @@ class DefaultTransactionalDatabaseClientBuilder extends DefaultDatabaseClientBui
 	/* (non-Javadoc)
 	 * @see org.springframework.data.r2dbc.function.DefaultDatabaseClientBuilder#apply(java.util.function.Consumer)
 	 */
+	@Override
+	public TransactionalDatabaseClient.Builder executionListener(ExecutionListener executionListener) {
+		super.executionListener(executionListener);
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.DefaultDatabaseClientBuilder#bindMarkers(org.springframework.data.r2dbc.dialect.BindMarkersFactory)
+	 */
+	@Override
+	public TransactionalDatabaseClient.Builder bindMarkers(BindMarkersFactory bindMarkersFactory) {
+		super.bindMarkers(bindMarkersFactory);
+		return this;
+	}
+
 	@Override
 	public TransactionalDatabaseClient.Builder apply(Consumer<Builder> builderConsumer) {
 		super.apply(builderConsumer);
@@ -91,7 +108,9 @@ class DefaultTransactionalDatabaseClientBuilder extends DefaultDatabaseClientBui
 	 */
 	@Override
 	protected DatabaseClient doBuild(ConnectionFactory connector, R2dbcExceptionTranslator exceptionTranslator,
-			ReactiveDataAccessStrategy accessStrategy, DefaultDatabaseClientBuilder builder) {
-		return new DefaultTransactionalDatabaseClient(connector, exceptionTranslator, accessStrategy, builder);
+			ReactiveDataAccessStrategy accessStrategy, @Nullable ExecutionListener executionListener,
+			BindMarkersFactory bindMarkersFactory, DefaultDatabaseClientBuilder builder) {
+		return new DefaultTransactionalDatabaseClient(connector, exceptionTranslator, accessStrategy, executionListener,
+				bindMarkersFactory, builder);
 	}
 }
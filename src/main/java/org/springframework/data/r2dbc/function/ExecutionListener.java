@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.SignalType;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Callback interface to observe the execution of SQL statements issued through {@link DatabaseClient}. Listeners are
+ * registered through {@link DatabaseClient.Builder#executionListener(ExecutionListener)} and receive callbacks for
+ * {@link Connection} acquisition and release, {@link Statement} preparation and execution, each emitted
+ * {@link Result} and the termination of the whole operation. All durations are reported in nanoseconds.
+ * <p>
+ * Callbacks are invoked on the thread that emits the corresponding signal and must not block. SQL is reported as
+ * issued to the driver, i.e. with bind markers instead of values, so it can serve as template key. The SQL is
+ * {@literal null} for connection-scoped callbacks of operations that are not associated with a single SQL statement.
+ * <p>
+ * {@link DatabaseClient} does not invoke any callbacks and does not take timestamps if no listener is registered.
+ *
+ * @author Mark Paluch
+ * @see LatencyHistogramExecutionListener
+ */
+public interface ExecutionListener {
+
+	/**
+	 * Callback before obtaining a {@link Connection}.
+	 *
+	 * @param sql the SQL to run with the connection, can be {@literal null}.
+	 */
+	default void beforeAcquire(@Nullable String sql) {}
+
+	/**
+	 * Callback after a {@link Connection} was obtained.
+	 *
+	 * @param sql the SQL to run with the connection, can be {@literal null}.
+	 * @param acquireNanos time spent obtaining the connection.
+	 */
+	default void afterAcquire(@Nullable String sql, long acquireNanos) {}
+
+	/**
+	 * Callback after a {@link Statement} was created and all bindings were applied, right before the statement gets
+	 * executed.
+	 *
+	 * @param sql the SQL to execute.
+	 * @param bindCount number of bound values.
+	 * @param prepareNanos time spent creating the statement and applying bindings.
+	 */
+	default void beforeExecute(String sql, int bindCount, long prepareNanos) {}
+
+	/**
+	 * Callback for each {@link Result} emitted by an executed {@link Statement}.
+	 *
+	 * @param sql the executed SQL.
+	 * @param result the emitted {@link Result}.
+	 * @param elapsedNanos time since the statement was executed.
+	 */
+	default void onResult(String sql, Result result, long elapsedNanos) {}
+
+	/**
+	 * Callback after the {@link Result} stream of a {@link Statement} terminated.
+	 *
+	 * @param sql the executed SQL.
+	 * @param bindCount number of bound values.
+	 * @param signalType {@link SignalType#ON_COMPLETE}, {@link SignalType#ON_ERROR} or {@link SignalType#CANCEL}.
+	 * @param elapsedNanos time since the statement was executed.
+	 */
+	default void afterExecute(String sql, int bindCount, SignalType signalType, long elapsedNanos) {}
+
+	/**
+	 * Callback after a {@link Connection} was released.
+	 *
+	 * @param sql the SQL that was run with the connection, can be {@literal null}.
+	 * @param releaseNanos time spent releasing the connection.
+	 */
+	default void afterRelease(@Nullable String sql, long releaseNanos) {}
+
+	/**
+	 * Callback after an operation terminated. The elapsed time spans connection acquisition, statement execution,
+	 * consumption of all results including row mapping and connection release.
+	 *
+	 * @param sql the executed SQL, can be {@literal null}.
+	 * @param signalType {@link SignalType#ON_COMPLETE}, {@link SignalType#ON_ERROR} or {@link SignalType#CANCEL}.
+	 * @param elapsedNanos time since the operation was subscribed.
+	 */
+	default void afterCompletion(@Nullable String sql, SignalType signalType, long elapsedNanos) {}
+}
@@ -53,4 +53,13 @@ public interface FetchSpec<T> {
 	 * @return {@link Mono} emitting the number of updated rows. Never {@literal null}.
 	 */
 	Mono<Integer> rowsUpdated();
+
+	/**
+	 * Get all matching elements along with the number of updated rows. Executes the statement once and consumes each
+	 * {@link io.r2dbc.spi.Result} once, draining its rows before obtaining its update count. Use this method instead of
+	 * calling {@link #all()} and {@link #rowsUpdated()} for statements such as {@code UPDATE … RETURNING}.
+	 *
+	 * @return {@link Mono} emitting the mapped rows and the total number of updated rows. Never {@literal null}.
+	 */
+	Mono<RowsAndCount<T>> allWithRowsUpdated();
 }
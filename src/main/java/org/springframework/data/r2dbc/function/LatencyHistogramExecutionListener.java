@@ -0,0 +1,283 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import reactor.core.publisher.SignalType;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ExecutionListener} recording latency histograms per SQL template. Each histogram records the latency of
+ * operations from subscription to termination, including connection acquisition, row mapping and connection release.
+ * Latencies are recorded into power-of-two nanosecond buckets so that recording does not allocate and does not
+ * require locking.
+ * <p>
+ * The number of tracked SQL templates is limited to protect against unbounded growth when SQL is rendered with
+ * literal values. Operations for SQL exceeding the limit are counted as {@link #getDiscardedCount() discarded}.
+ *
+ * @author Mark Paluch
+ */
+public class LatencyHistogramExecutionListener implements ExecutionListener {
+
+	static final int DEFAULT_MAX_TEMPLATES = 1024;
+
+	private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+	private final LongAdder discarded = new LongAdder();
+
+	private final int maxTemplates;
+
+	/**
+	 * Creates a new {@link LatencyHistogramExecutionListener} tracking up to {@code 1024} SQL templates.
+	 */
+	public LatencyHistogramExecutionListener() {
+		this(DEFAULT_MAX_TEMPLATES);
+	}
+
+	/**
+	 * Creates a new {@link LatencyHistogramExecutionListener} tracking up to {@code maxTemplates} SQL templates.
+	 *
+	 * @param maxTemplates maximum number of SQL templates, must be greater than zero.
+	 */
+	public LatencyHistogramExecutionListener(int maxTemplates) {
+
+		Assert.isTrue(maxTemplates > 0, "Maximum number of templates must be greater than zero!");
+
+		this.maxTemplates = maxTemplates;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.ExecutionListener#afterCompletion(java.lang.String, reactor.core.publisher.SignalType, long)
+	 */
+	@Override
+	public void afterCompletion(@Nullable String sql, SignalType signalType, long elapsedNanos) {
+
+		if (sql == null) {
+			return;
+		}
+
+		LatencyHistogram histogram = histograms.get(sql);
+
+		if (histogram == null) {
+
+			if (histograms.size() >= maxTemplates) {
+				discarded.increment();
+				return;
+			}
+
+			histogram = histograms.computeIfAbsent(sql, it -> new LatencyHistogram());
+		}
+
+		histogram.record(elapsedNanos, signalType);
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} for the given SQL template.
+	 *
+	 * @param sql the SQL template.
+	 * @return the {@link LatencyHistogram} or {@literal null} if no operation was recorded for {@code sql}.
+	 */
+	@Nullable
+	public LatencyHistogram getHistogram(String sql) {
+		return histograms.get(sql);
+	}
+
+	/**
+	 * Returns an unmodifiable view of all {@link LatencyHistogram histograms} keyed by SQL template.
+	 *
+	 * @return the histograms.
+	 */
+	public Map<String, LatencyHistogram> getHistograms() {
+		return Collections.unmodifiableMap(histograms);
+	}
+
+	/**
+	 * Returns the number of operations that were not recorded because the maximum number of SQL templates was reached.
+	 *
+	 * @return the number of discarded operations.
+	 */
+	public long getDiscardedCount() {
+		return discarded.sum();
+	}
+
+	/**
+	 * Removes all recorded histograms.
+	 */
+	public void reset() {
+
+		histograms.clear();
+		discarded.reset();
+	}
+
+	/**
+	 * Latency histogram using power-of-two nanosecond buckets. Bucket {@code i} counts latencies in the range
+	 * {@code [2^(i-1), 2^i)} nanoseconds, bucket {@code 0} counts zero latencies.
+	 */
+	public static final class LatencyHistogram {
+
+		static final int BUCKETS = 64;
+
+		private final LongAdder[] buckets = new LongAdder[BUCKETS];
+		private final LongAdder count = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder cancellations = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+		LatencyHistogram() {
+
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		void record(long nanos, SignalType signalType) {
+
+			long value = Math.max(nanos, 0);
+
+			buckets[bucketIndex(value)].increment();
+			count.increment();
+			totalNanos.add(value);
+			maxNanos.accumulate(value);
+
+			if (signalType == SignalType.ON_ERROR) {
+				errors.increment();
+			} else if (signalType == SignalType.CANCEL) {
+				cancellations.increment();
+			}
+		}
+
+		/**
+		 * @return the number of recorded operations.
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * @return the number of operations that terminated with an error.
+		 */
+		public long getErrorCount() {
+			return errors.sum();
+		}
+
+		/**
+		 * @return the number of operations that were cancelled.
+		 */
+		public long getCancellationCount() {
+			return cancellations.sum();
+		}
+
+		/**
+		 * @return the sum of all recorded latencies in nanoseconds.
+		 */
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		/**
+		 * @return the maximum recorded latency in nanoseconds.
+		 */
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		/**
+		 * @return the mean latency in nanoseconds or {@code 0} if no operation was recorded.
+		 */
+		public long getMeanNanos() {
+
+			long count = getCount();
+			return count == 0 ? 0 : getTotalNanos() / count;
+		}
+
+		/**
+		 * Returns the upper bound of the bucket containing the given percentile. The value is capped by the
+		 * {@link #getMaxNanos() maximum recorded latency}.
+		 *
+		 * @param percentile the percentile between {@code 0} and {@code 1}, e.g. {@code 0.99}.
+		 * @return the latency in nanoseconds or {@code 0} if no operation was recorded.
+		 */
+		public long getPercentileNanos(double percentile) {
+
+			Assert.isTrue(percentile >= 0 && percentile <= 1, "Percentile must be between 0 and 1!");
+
+			long[] counts = getBucketCounts();
+			long total = 0;
+
+			for (long bucketCount : counts) {
+				total += bucketCount;
+			}
+
+			if (total == 0) {
+				return 0;
+			}
+
+			long threshold = Math.max(1, (long) Math.ceil(percentile * total));
+			long cumulative = 0;
+
+			for (int i = 0; i < counts.length; i++) {
+
+				cumulative += counts[i];
+
+				if (cumulative >= threshold) {
+					return Math.min(upperBound(i), getMaxNanos());
+				}
+			}
+
+			return getMaxNanos();
+		}
+
+		/**
+		 * @return a snapshot of the bucket counts.
+		 */
+		public long[] getBucketCounts() {
+
+			long[] counts = new long[BUCKETS];
+
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] = buckets[i].sum();
+			}
+
+			return counts;
+		}
+
+		static int bucketIndex(long nanos) {
+			return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+		}
+
+		static long upperBound(int bucketIndex) {
+			return bucketIndex == 0 ? 0 : bucketIndex >= 63 ? Long.MAX_VALUE : (1L << bucketIndex) - 1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("LatencyHistogram [count=%d, mean=%dns, p50=%dns, p99=%dns, max=%dns]", getCount(),
+					getMeanNanos(), getPercentileNanos(0.5), getPercentileNanos(0.99), getMaxNanos());
+		}
+	}
+}
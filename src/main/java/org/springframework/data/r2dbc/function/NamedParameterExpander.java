@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
+import org.springframework.data.r2dbc.function.ParsedSql.PreparedSql;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+import org.springframework.util.Assert;
+
+/**
+ * Expands SQL containing named parameters ({@code :name}) into SQL using bind markers of a {@link BindMarkersFactory}.
+ * Parsed SQL is cached by its SQL {@link String} so that repeated executions of the same statement only render bind
+ * markers. The cache is a {@link ConcurrentHashMap} that does not block concurrent readers. Once the cache is full,
+ * an arbitrary entry is evicted for each newly parsed statement.
+ * <p>
+ * Named parameters are recognized outside of quoted literals, quoted identifiers, PostgreSQL dollar-quoted strings
+ * ({@code $$…$$}, {@code $tag$…$tag$}), and comments. PostgreSQL-style casts ({@code ::type}) are not considered
+ * parameters.
+ *
+ * @author Mark Paluch
+ * @see ParsedSql
+ */
+class NamedParameterExpander {
+
+	/**
+	 * Default maximum number of entries for the SQL cache: 256.
+	 */
+	static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private static final ParsedSql NO_PARAMETERS = new ParsedSql("", new String[] { "" }, new String[0]);
+
+	private final int cacheLimit;
+
+	/** Cache of original SQL String to ParsedSql representation. */
+	private final Map<String, ParsedSql> parsedSqlCache = new ConcurrentHashMap<>(DEFAULT_CACHE_LIMIT);
+
+	/**
+	 * Creates a new {@link NamedParameterExpander} using {@link #DEFAULT_CACHE_LIMIT}.
+	 */
+	NamedParameterExpander() {
+		this(DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@link NamedParameterExpander} caching up to {@code cacheLimit} parsed statements.
+	 *
+	 * @param cacheLimit maximum number of cached statements. {@literal 0} disables caching.
+	 */
+	NamedParameterExpander(int cacheLimit) {
+
+		Assert.isTrue(cacheLimit >= 0, "Cache limit must not be negative!");
+
+		this.cacheLimit = cacheLimit;
+	}
+
+	/**
+	 * Expand named parameters in {@link ParsedSql} using values from {@link Bindings}. Values are matched by name, the
+	 * last value bound to a name wins.
+	 *
+	 * @param parsedSql the parsed SQL to expand.
+	 * @param bindMarkersFactory the factory to create bind markers.
+	 * @param bindings the bound values.
+	 * @return the {@link PreparedSql}.
+	 */
+	PreparedSql expand(ParsedSql parsedSql, BindMarkersFactory bindMarkersFactory, Bindings bindings) {
+
+		Map<String, SettableValue> values = new LinkedHashMap<>(bindings.size() * 2);
+		bindings.forEach(it -> {
+
+			if (it.getIdentifier() instanceof String) {
+				values.put((String) it.getIdentifier(), it);
+			}
+		});
+
+		return parsedSql.expand(bindMarkersFactory, values::get);
+	}
+
+	/**
+	 * Obtain a parsed representation of the given SQL statement. Statements without a colon are not parsed and not
+	 * cached.
+	 *
+	 * @param sql the original SQL statement.
+	 * @return the parsed SQL.
+	 */
+	ParsedSql getParsedSql(String sql) {
+
+		if (sql.indexOf(':') == -1) {
+			return NO_PARAMETERS;
+		}
+
+		if (cacheLimit <= 0) {
+			return parseSqlStatement(sql);
+		}
+
+		ParsedSql parsedSql = parsedSqlCache.get(sql);
+
+		if (parsedSql != null) {
+			return parsedSql;
+		}
+
+		parsedSql = parseSqlStatement(sql);
+
+		if (parsedSqlCache.size() >= cacheLimit) {
+			evictOne();
+		}
+
+		ParsedSql existing = parsedSqlCache.putIfAbsent(sql, parsedSql);
+
+		return existing != null ? existing : parsedSql;
+	}
+
+	private void evictOne() {
+
+		Iterator<String> iterator = parsedSqlCache.keySet().iterator();
+
+		if (iterator.hasNext()) {
+
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Parse the SQL statement and locate any placeholders or named parameters.
+	 *
+	 * @param sql the SQL statement.
+	 * @return the parsed statement.
+	 */
+	static ParsedSql parseSqlStatement(String sql) {
+
+		Assert.notNull(sql, "SQL must not be null!");
+
+		List<String> fragments = new ArrayList<>();
+		List<String> parameterNames = new ArrayList<>();
+
+		int length = sql.length();
+		int fragmentStart = 0;
+		int i = 0;
+
+		while (i < length) {
+
+			char c = sql.charAt(i);
+
+			if (c == '\'' || c == '"') {
+				i = skipQuoted(sql, i, c);
+				continue;
+			}
+
+			if (c == '$') {
+
+				int tagEnd = getDollarQuoteTagEnd(sql, i);
+
+				if (tagEnd != -1) {
+					i = skipUntil(sql, tagEnd + 1, sql.substring(i, tagEnd + 1));
+					continue;
+				}
+			}
+
+			if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+				i = skipUntil(sql, i + 2, "\n");
+				continue;
+			}
+
+			if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+				i = skipUntil(sql, i + 2, "*/");
+				continue;
+			}
+
+			if (c == ':') {
+
+				if (i + 1 < length && sql.charAt(i + 1) == ':') {
+					i += 2;
+					continue;
+				}
+
+				int nameEnd = i + 1;
+				if (nameEnd < length && Character.isJavaIdentifierStart(sql.charAt(nameEnd))) {
+
+					while (nameEnd < length && Character.isJavaIdentifierPart(sql.charAt(nameEnd))) {
+						nameEnd++;
+					}
+
+					fragments.add(sql.substring(fragmentStart, i));
+					parameterNames.add(sql.substring(i + 1, nameEnd));
+					fragmentStart = nameEnd;
+					i = nameEnd;
+					continue;
+				}
+			}
+
+			i++;
+		}
+
+		fragments.add(sql.substring(fragmentStart));
+
+		return new ParsedSql(sql, fragments.toArray(new String[0]), parameterNames.toArray(new String[0]));
+	}
+
+	private static int skipQuoted(String sql, int start, char quote) {
+
+		int i = start + 1;
+
+		while (i < sql.length()) {
+
+			if (sql.charAt(i) == quote) {
+
+				// escaped quote ('' or "")
+				if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+
+				return i + 1;
+			}
+
+			i++;
+		}
+
+		return sql.length();
+	}
+
+	/**
+	 * Determine the end of a PostgreSQL dollar-quote tag ({@code $$} or {@code $tag$}) starting at {@code start}. Bind
+	 * markers such as {@code $1} and dollar signs within identifiers do not start a tag.
+	 *
+	 * @return the position of the closing {@code $} of the tag or {@literal -1} if {@code start} does not start a tag.
+	 */
+	private static int getDollarQuoteTagEnd(String sql, int start) {
+
+		if (start > 0 && Character.isJavaIdentifierPart(sql.charAt(start - 1))) {
+			return -1;
+		}
+
+		int i = start + 1;
+
+		if (i < sql.length() && sql.charAt(i) == '$') {
+			return i;
+		}
+
+		if (i == sql.length() || !(Character.isLetter(sql.charAt(i)) || sql.charAt(i) == '_')) {
+			return -1;
+		}
+
+		while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_')) {
+			i++;
+		}
+
+		return i < sql.length() && sql.charAt(i) == '$' ? i : -1;
+	}
+
+	private static int skipUntil(String sql, int start, String terminator) {
+
+		int end = sql.indexOf(terminator, start);
+
+		return end == -1 ? sql.length() : end + terminator.length();
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import io.r2dbc.spi.Statement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.r2dbc.dialect.BindMarker;
+import org.springframework.data.r2dbc.dialect.BindMarkers;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable template of a SQL statement containing named parameters ({@code :name}). The SQL is split into literal
+ * fragments and parameter occurrences once so that rendering a statement only concatenates fragments and bind marker
+ * placeholders.
+ *
+ * @author Mark Paluch
+ * @see NamedParameterExpander
+ */
+final class ParsedSql {
+
+	private final String sql;
+	private final String[] fragments;
+	private final String[] parameterNames;
+	private final Set<String> distinctParameterNames;
+
+	/**
+	 * Creates a new {@link ParsedSql}.
+	 *
+	 * @param sql the original SQL.
+	 * @param fragments literal SQL fragments surrounding the parameters. Contains one more element than
+	 *          {@code parameterNames}.
+	 * @param parameterNames parameter names in the order of their occurrence.
+	 */
+	ParsedSql(String sql, String[] fragments, String[] parameterNames) {
+
+		this.sql = sql;
+		this.fragments = fragments;
+		this.parameterNames = parameterNames;
+		this.distinctParameterNames = new HashSet<>(Arrays.asList(parameterNames));
+	}
+
+	/**
+	 * @return the original SQL.
+	 */
+	String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return {@literal true} if the SQL contains at least one named parameter.
+	 */
+	boolean hasParameters() {
+		return parameterNames.length != 0;
+	}
+
+	/**
+	 * @param name the parameter name.
+	 * @return {@literal true} if the SQL contains the named parameter {@code name}.
+	 */
+	boolean hasParameter(String name) {
+		return distinctParameterNames.contains(name);
+	}
+
+	/**
+	 * @return the number of parameter occurrences.
+	 */
+	int getParameterCount() {
+		return parameterNames.length;
+	}
+
+	/**
+	 * Render the SQL by replacing each named parameter with bind markers obtained from {@link BindMarkersFactory}.
+	 * Parameters bound to a {@link Collection} are expanded into a comma-separated list of bind markers, one per element.
+	 * Elements that are {@code Object[]} are rendered as a tuple {@code (…)} of bind markers.
+	 *
+	 * @param bindMarkersFactory the factory to create bind markers.
+	 * @param values function resolving a parameter name to its value. The function returns {@literal null} if no value
+	 *          is bound.
+	 * @return the {@link PreparedSql}.
+	 * @throws InvalidDataAccessApiUsageException if a parameter has no value bound or binds an empty collection.
+	 */
+	PreparedSql expand(BindMarkersFactory bindMarkersFactory, Function<String, SettableValue> values) {
+
+		BindMarkers bindMarkers = bindMarkersFactory.create();
+		StringBuilder builder = new StringBuilder(sql.length() + parameterNames.length * 4);
+		PreparedSql.Builder bindings = new PreparedSql.Builder(parameterNames.length);
+
+		for (int i = 0; i < parameterNames.length; i++) {
+
+			String name = parameterNames[i];
+			SettableValue settable = values.apply(name);
+
+			if (settable == null) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("No value supplied for the SQL parameter '%s' in [%s]", name, sql));
+			}
+
+			builder.append(fragments[i]);
+
+			Object value = settable.getValue();
+
+			if (value instanceof Collection) {
+
+				Collection<?> elements = (Collection<?>) value;
+
+				if (elements.isEmpty()) {
+					throw new InvalidDataAccessApiUsageException(
+							String.format("SQL parameter '%s' in [%s] is bound to an empty collection", name, sql));
+				}
+
+				boolean first = true;
+				for (Object element : elements) {
+
+					if (!first) {
+						builder.append(',').append(' ');
+					}
+					first = false;
+
+					if (element instanceof Object[]) {
+
+						Object[] tuple = (Object[]) element;
+
+						builder.append('(');
+						for (int j = 0; j < tuple.length; j++) {
+
+							if (j != 0) {
+								builder.append(',').append(' ');
+							}
+							appendMarker(builder, bindings, bindMarkers.next(name), tuple[j], Object.class);
+						}
+						builder.append(')');
+					} else {
+						appendMarker(builder, bindings, bindMarkers.next(name), element, Object.class);
+					}
+				}
+			} else {
+				appendMarker(builder, bindings, bindMarkers.next(name), value, settable.getType());
+			}
+		}
+
+		builder.append(fragments[parameterNames.length]);
+
+		return bindings.build(builder.toString());
+	}
+
+	private static void appendMarker(StringBuilder builder, PreparedSql.Builder bindings, BindMarker marker,
+			@Nullable Object value, @Nullable Class<?> type) {
+
+		builder.append(marker.getPlaceholder());
+		bindings.add(marker, value, type != null ? type : Object.class);
+	}
+
+	/**
+	 * Rendered SQL along with the bind markers and values to apply to a {@link Statement}.
+	 */
+	static final class PreparedSql {
+
+		private final String sql;
+		private final BindMarker[] markers;
+		private final Object[] values;
+		private final Class<?>[] types;
+		private final int size;
+
+		private PreparedSql(String sql, BindMarker[] markers, Object[] values, Class<?>[] types, int size) {
+
+			this.sql = sql;
+			this.markers = markers;
+			this.values = values;
+			this.types = types;
+			this.size = size;
+		}
+
+		/**
+		 * @return the rendered SQL.
+		 */
+		String getSql() {
+			return sql;
+		}
+
+		/**
+		 * @return the number of bind markers.
+		 */
+		int getBindCount() {
+			return size;
+		}
+
+		/**
+		 * Bind all values to the given {@link Statement}.
+		 *
+		 * @param statement the statement to bind values to.
+		 */
+		void bindTo(Statement<?> statement) {
+
+			for (int i = 0; i < size; i++) {
+
+				if (values[i] != null) {
+					markers[i].bindValue(statement, values[i]);
+				} else {
+					markers[i].bindNull(statement, types[i]);
+				}
+			}
+		}
+
+		/**
+		 * Builder collecting bind markers into arrays that grow on demand.
+		 */
+		static class Builder {
+
+			private BindMarker[] markers;
+			private Object[] values;
+			private Class<?>[] types;
+			private int size;
+
+			Builder(int capacity) {
+
+				this.markers = new BindMarker[capacity];
+				this.values = new Object[capacity];
+				this.types = new Class<?>[capacity];
+			}
+
+			void add(BindMarker marker, @Nullable Object value, Class<?> type) {
+
+				if (size == markers.length) {
+
+					int capacity = Math.max(4, size * 2);
+					markers = Arrays.copyOf(markers, capacity);
+					values = Arrays.copyOf(values, capacity);
+					types = Arrays.copyOf(types, capacity);
+				}
+
+				markers[size] = marker;
+				values[size] = value;
+				types[size] = type;
+				size++;
+			}
+
+			PreparedSql build(String sql) {
+				return new PreparedSql(sql, markers, values, types, size);
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object holding the mapped rows and the number of updated rows of a single statement execution, e.g. for
+ * {@code UPDATE … RETURNING} statements.
+ *
+ * @author Mark Paluch
+ * @see FetchSpec#allWithRowsUpdated()
+ */
+public final class RowsAndCount<T> {
+
+	private final List<T> rows;
+	private final int rowsUpdated;
+
+	/**
+	 * Creates a new {@link RowsAndCount}.
+	 *
+	 * @param rows must not be {@literal null}.
+	 * @param rowsUpdated number of updated rows.
+	 */
+	public RowsAndCount(List<T> rows, int rowsUpdated) {
+
+		Assert.notNull(rows, "Rows must not be null!");
+
+		this.rows = Collections.unmodifiableList(rows);
+		this.rowsUpdated = rowsUpdated;
+	}
+
+	/**
+	 * @return the mapped rows in the order emitted by the database. Never {@literal null}.
+	 */
+	public List<T> getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return the number of updated rows.
+	 */
+	public int getRowsUpdated() {
+		return rowsUpdated;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof RowsAndCount)) {
+			return false;
+		}
+
+		RowsAndCount<?> that = (RowsAndCount<?>) o;
+		return rowsUpdated == that.rowsUpdated && rows.equals(that.rows);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * rows.hashCode() + rowsUpdated;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "RowsAndCount [rows=" + rows + ", rowsUpdated=" + rowsUpdated + "]";
+	}
+}
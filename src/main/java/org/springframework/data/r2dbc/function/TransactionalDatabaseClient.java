@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
 import org.springframework.data.r2dbc.function.connectionfactory.TransactionResources;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
 import org.springframework.util.Assert;
@@ -188,6 +189,23 @@ public interface TransactionalDatabaseClient extends DatabaseClient {
 		 */
 		Builder dataAccessStrategy(ReactiveDataAccessStrategy accessStrategy);
 
+		/**
+		 * Configures an {@link ExecutionListener} to observe statement execution. Replaces a previously configured
+		 * listener.
+		 *
+		 * @param executionListener must not be {@literal null}.
+		 * @return {@code this} {@link DatabaseClient.Builder}.
+		 */
+		Builder executionListener(ExecutionListener executionListener);
+
+		/**
+		 * Configures the {@link BindMarkersFactory} to render bind markers for named parameters ({@code :name}).
+		 *
+		 * @param bindMarkersFactory must not be {@literal null}.
+		 * @return {@code this} {@link Builder}.
+		 */
+		Builder bindMarkers(BindMarkersFactory bindMarkersFactory);
+
 		/**
 		 * Configures a {@link Consumer} to configure this builder.
 		 *
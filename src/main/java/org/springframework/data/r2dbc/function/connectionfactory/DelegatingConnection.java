@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function.connectionfactory;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Statement;
+
+import java.sql.SQLException;
+import java.sql.Wrapper;
+
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConnectionProxy} implementation that delegates all calls to a given target {@link Connection}. Subclasses
+ * override methods to decorate the target {@link Connection} without the overhead of a reflective proxy. Calls are
+ * delegated to {@link #getTargetConnection()} so that subclasses can guard access to the target.
+ *
+ * @author Mark Paluch
+ */
+public abstract class DelegatingConnection implements ConnectionProxy {
+
+	private final Connection target;
+
+	/**
+	 * Create a new {@link DelegatingConnection} for the given target {@link Connection}.
+	 *
+	 * @param target the target {@link Connection}, must not be {@literal null}.
+	 */
+	protected DelegatingConnection(Connection target) {
+
+		Assert.notNull(target, "Target Connection must not be null!");
+
+		this.target = target;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.connectionfactory.ConnectionProxy#getTargetConnection()
+	 */
+	@Override
+	public Connection getTargetConnection() {
+		return target;
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#beginTransaction()
+	 */
+	@Override
+	public Publisher<Void> beginTransaction() {
+		return getTargetConnection().beginTransaction();
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#close()
+	 */
+	@Override
+	public Publisher<Void> close() {
+		return getTargetConnection().close();
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#commitTransaction()
+	 */
+	@Override
+	public Publisher<Void> commitTransaction() {
+		return getTargetConnection().commitTransaction();
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#createBatch()
+	 */
+	@Override
+	public Batch createBatch() {
+		return getTargetConnection().createBatch();
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#createSavepoint(java.lang.String)
+	 */
+	@Override
+	public Publisher<Void> createSavepoint(String name) {
+		return getTargetConnection().createSavepoint(name);
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#createStatement(java.lang.String)
+	 */
+	@Override
+	public Statement createStatement(String sql) {
+		return getTargetConnection().createStatement(sql);
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#releaseSavepoint(java.lang.String)
+	 */
+	@Override
+	public Publisher<Void> releaseSavepoint(String name) {
+		return getTargetConnection().releaseSavepoint(name);
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#rollbackTransaction()
+	 */
+	@Override
+	public Publisher<Void> rollbackTransaction() {
+		return getTargetConnection().rollbackTransaction();
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#rollbackTransactionToSavepoint(java.lang.String)
+	 */
+	@Override
+	public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+		return getTargetConnection().rollbackTransactionToSavepoint(name);
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.Connection#setTransactionIsolationLevel(io.r2dbc.spi.IsolationLevel)
+	 */
+	@Override
+	public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+		return getTargetConnection().setTransactionIsolationLevel(isolationLevel);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.sql.Wrapper#unwrap(java.lang.Class)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+
+		if (iface.isInstance(this)) {
+			return (T) this;
+		}
+
+		if (iface.isInstance(target)) {
+			return (T) target;
+		}
+
+		if (target instanceof Wrapper) {
+			return ((Wrapper) target).unwrap(iface);
+		}
+
+		throw new SQLException("Connection does not wrap " + iface.getName());
+	}
+
+	/* (non-Javadoc)
+	 * @see java.sql.Wrapper#isWrapperFor(java.lang.Class)
+	 */
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+
+		if (iface.isInstance(this) || iface.isInstance(target)) {
+			return true;
+		}
+
+		return target instanceof Wrapper && ((Wrapper) target).isWrapperFor(iface);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [" + target + "]";
+	}
+}
@@ -0,0 +1,886 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function.connectionfactory;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Result;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConnectionFactory} that pools {@link Connection}s obtained from a target {@link ConnectionFactory}.
+ * {@link Connection}s returned by {@link #create()} return to the pool when they are {@link Connection#close()
+ * closed}.
+ * <p>
+ * The pool is bounded by {@link Builder#maxSize(int) maxSize}. Subscribers requesting a {@link Connection} while all
+ * connections are in use are queued without blocking and fail with {@link DataAccessResourceFailureException} if no
+ * connection becomes available within {@link Builder#acquireTimeout(Duration) acquireTimeout}. Idle connections are
+ * evicted after {@link Builder#maxIdleTime(Duration) maxIdleTime}, connections exceeding
+ * {@link Builder#maxLifeTime(Duration) maxLifeTime} are closed instead of being returned to the pool. An optional
+ * {@link Builder#validationQuery(String) validation query} validates idle connections before handing them out.
+ * <p>
+ * Closing a handed out {@link Connection} rolls back a transaction that was started and not completed through the
+ * handle. Connections whose transaction isolation level was changed or that fail to roll back are closed instead of
+ * being returned to the pool. A closed handle rejects further calls.
+ * <p>
+ * The pool allocates {@link Builder#initialSize(int) initialSize} connections in the background when the first
+ * {@link Connection} is requested. Use {@link #warmup()} to allocate them upfront. The pool is closed by
+ * {@link #dispose()} which is also called when the pool is registered as bean in a Spring container.
+ *
+ * @author Mark Paluch
+ */
+public class PooledConnectionFactory implements ConnectionFactory, Disposable, DisposableBean {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ConnectionFactory targetConnectionFactory;
+	private final int maxSize;
+	private final int initialSize;
+	private final Duration acquireTimeout;
+	private final long maxIdleNanos;
+	private final long maxLifeNanos;
+	private final @Nullable String validationQuery;
+	private final Scheduler scheduler;
+	private final Disposable evictionTask;
+
+	private final Object monitor = new Object();
+	private final Deque<PooledConnection> idle = new ArrayDeque<>();
+	private final Deque<Borrower> pending = new ArrayDeque<>();
+	private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+	private int allocated;
+	private int active;
+	private boolean closed;
+
+	private PooledConnectionFactory(Builder builder) {
+
+		this.targetConnectionFactory = builder.targetConnectionFactory;
+		this.maxSize = builder.maxSize;
+		this.initialSize = builder.initialSize;
+		this.acquireTimeout = builder.acquireTimeout;
+		this.maxIdleNanos = builder.maxIdleTime != null ? builder.maxIdleTime.toNanos() : 0;
+		this.maxLifeNanos = builder.maxLifeTime != null ? builder.maxLifeTime.toNanos() : 0;
+		this.validationQuery = builder.validationQuery;
+		this.scheduler = builder.scheduler;
+
+		if (this.maxIdleNanos > 0 || this.maxLifeNanos > 0) {
+
+			long interval = builder.evictionInterval.toMillis();
+			this.evictionTask = this.scheduler.schedulePeriodically(this::evict, interval, interval, TimeUnit.MILLISECONDS);
+		} else {
+			this.evictionTask = Disposables.disposed();
+		}
+	}
+
+	/**
+	 * Creates a new {@link Builder} to configure a {@link PooledConnectionFactory} for the given target
+	 * {@link ConnectionFactory}.
+	 *
+	 * @param targetConnectionFactory the {@link ConnectionFactory} to obtain physical connections from, must not be
+	 *          {@literal null}.
+	 * @return a new {@link Builder}.
+	 */
+	public static Builder builder(ConnectionFactory targetConnectionFactory) {
+
+		Assert.notNull(targetConnectionFactory, "Target ConnectionFactory must not be null!");
+
+		return new Builder(targetConnectionFactory);
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.ConnectionFactory#create()
+	 */
+	@Override
+	public Mono<Connection> create() {
+
+		return Mono.create(sink -> {
+
+			acquire(new Borrower(sink));
+
+			if (initialSize > 0 && warmedUp.compareAndSet(false, true)) {
+
+				allocateInitial().subscribe(null, e -> {
+
+					if (logger.isDebugEnabled()) {
+						logger.debug("Could not allocate initial R2DBC Connections", e);
+					}
+				});
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see io.r2dbc.spi.ConnectionFactory#getMetadata()
+	 */
+	@Override
+	public ConnectionFactoryMetadata getMetadata() {
+		return targetConnectionFactory.getMetadata();
+	}
+
+	/**
+	 * Allocate connections until the pool holds {@link Builder#initialSize(int) initialSize} connections and put these
+	 * into the pool. Connections are created sequentially.
+	 *
+	 * @return a {@link Mono} emitting the number of created connections.
+	 */
+	public Mono<Integer> warmup() {
+
+		warmedUp.set(true);
+
+		return allocateInitial();
+	}
+
+	/**
+	 * @return the {@link ConnectionFactory} to obtain physical connections from.
+	 */
+	public ConnectionFactory getTargetConnectionFactory() {
+		return targetConnectionFactory;
+	}
+
+	/**
+	 * @return the maximum number of connections.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of connections currently handed out, including connections that are being created for a
+	 *         subscriber.
+	 */
+	public int getActiveCount() {
+
+		synchronized (monitor) {
+			return active;
+		}
+	}
+
+	/**
+	 * @return the number of idle connections in the pool.
+	 */
+	public int getIdleCount() {
+
+		synchronized (monitor) {
+			return idle.size();
+		}
+	}
+
+	/**
+	 * @return the number of subscribers waiting for a connection.
+	 */
+	public int getPendingCount() {
+
+		synchronized (monitor) {
+			return pending.size();
+		}
+	}
+
+	/**
+	 * @return the number of allocated physical connections, active and idle.
+	 */
+	public int getAllocatedCount() {
+
+		synchronized (monitor) {
+			return allocated;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see reactor.core.Disposable#dispose()
+	 */
+	@Override
+	public void dispose() {
+
+		List<PooledConnection> toClose;
+		List<Borrower> toFail;
+
+		synchronized (monitor) {
+
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+			toClose = new ArrayList<>(idle);
+			toFail = new ArrayList<>(pending);
+			allocated -= idle.size();
+			idle.clear();
+			pending.clear();
+		}
+
+		evictionTask.dispose();
+
+		for (Borrower borrower : toFail) {
+			borrower.fail(new DataAccessResourceFailureException("Connection pool is closed!"));
+		}
+
+		for (PooledConnection connection : toClose) {
+			closeTarget(connection);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see reactor.core.Disposable#isDisposed()
+	 */
+	@Override
+	public boolean isDisposed() {
+
+		synchronized (monitor) {
+			return closed;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		dispose();
+	}
+
+	private void acquire(Borrower borrower) {
+
+		if (borrower.isDone()) {
+			return;
+		}
+
+		PooledConnection connection;
+		boolean allocate = false;
+
+		synchronized (monitor) {
+
+			if (closed) {
+				connection = null;
+			} else {
+
+				connection = idle.pollFirst();
+
+				if (connection != null) {
+					active++;
+				} else if (allocated < maxSize) {
+					allocated++;
+					active++;
+					allocate = true;
+				} else {
+
+					pending.addLast(borrower);
+					borrower.scheduleTimeout();
+					return;
+				}
+			}
+		}
+
+		if (connection != null) {
+			deliverIdle(connection, borrower);
+		} else if (allocate) {
+			allocate(borrower);
+		} else {
+			borrower.fail(new DataAccessResourceFailureException("Connection pool is closed!"));
+		}
+	}
+
+	/**
+	 * Create a physical connection for {@code borrower}. Requires a reserved slot.
+	 */
+	private void allocate(Borrower borrower) {
+
+		Mono.from(targetConnectionFactory.create()).subscribe(it -> handOut(new PooledConnection(it), borrower), e -> {
+
+			discardSlot();
+			borrower.fail(new DataAccessResourceFailureException("Failed to obtain R2DBC Connection", e));
+		});
+	}
+
+	private Mono<Integer> allocateInitial() {
+
+		return Flux.range(0, initialSize) //
+				.concatMap(it -> allocateIdle()) //
+				.count() //
+				.map(Long::intValue);
+	}
+
+	/**
+	 * Create a physical connection and return it to the pool unless the pool holds already
+	 * {@link Builder#initialSize(int) initialSize} connections.
+	 */
+	private Mono<PooledConnection> allocateIdle() {
+
+		synchronized (monitor) {
+
+			if (closed || allocated >= initialSize || allocated >= maxSize) {
+				return Mono.empty();
+			}
+
+			allocated++;
+			active++;
+		}
+
+		return Mono.from(targetConnectionFactory.create()) //
+				.map(PooledConnection::new) //
+				.doOnNext(this::release) //
+				.doOnError(e -> discardSlot()) //
+				.onErrorMap(e -> new DataAccessResourceFailureException("Failed to obtain R2DBC Connection", e));
+	}
+
+	/**
+	 * Hand out an idle connection after checking its age and validity.
+	 */
+	private void deliverIdle(PooledConnection connection, Borrower borrower) {
+
+		long now = System.nanoTime();
+
+		if (isExpired(connection, now) || isIdleTooLong(connection, now)) {
+
+			discard(connection);
+			acquire(borrower);
+			return;
+		}
+
+		if (validationQuery == null) {
+			handOut(connection, borrower);
+			return;
+		}
+
+		validate(connection.target).subscribe(valid -> {
+
+			if (valid) {
+				handOut(connection, borrower);
+			} else {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Discarding R2DBC Connection that failed validation");
+				}
+
+				discard(connection);
+				acquire(borrower);
+			}
+		});
+	}
+
+	private Mono<Boolean> validate(Connection connection) {
+
+		return Flux.from(connection.createStatement(validationQuery).execute()) //
+				.flatMap(Result::getRowsUpdated) //
+				.then(Mono.just(true)) //
+				.onErrorReturn(false);
+	}
+
+	private void handOut(PooledConnection connection, Borrower borrower) {
+
+		if (!borrower.complete(connection)) {
+			release(connection);
+		}
+	}
+
+	/**
+	 * Return an active connection to the pool or hand it out to the next pending subscriber.
+	 */
+	private void release(PooledConnection connection) {
+
+		if (isExpired(connection, System.nanoTime())) {
+			discard(connection);
+			return;
+		}
+
+		Borrower next;
+
+		synchronized (monitor) {
+
+			if (closed) {
+				next = null;
+			} else {
+
+				next = pollPending();
+
+				if (next == null) {
+
+					active--;
+					connection.idleSince = System.nanoTime();
+					idle.addFirst(connection);
+					return;
+				}
+			}
+		}
+
+		if (next != null) {
+			handOut(connection, next);
+		} else {
+			discard(connection);
+		}
+	}
+
+	/**
+	 * Close an active connection and allocate a replacement if a subscriber is waiting.
+	 */
+	private void discard(PooledConnection connection) {
+
+		discardSlot();
+		closeTarget(connection);
+	}
+
+	private void discardSlot() {
+
+		Borrower next = null;
+
+		synchronized (monitor) {
+
+			allocated--;
+			active--;
+
+			if (!closed && allocated < maxSize) {
+
+				next = pollPending();
+
+				if (next != null) {
+					allocated++;
+					active++;
+				}
+			}
+		}
+
+		if (next != null) {
+			allocate(next);
+		}
+	}
+
+	@Nullable
+	private Borrower pollPending() {
+
+		Borrower borrower;
+
+		while ((borrower = pending.pollFirst()) != null) {
+			if (!borrower.isDone()) {
+				return borrower;
+			}
+		}
+
+		return null;
+	}
+
+	private void evict() {
+
+		List<PooledConnection> toClose = new ArrayList<>();
+		long now = System.nanoTime();
+
+		synchronized (monitor) {
+
+			Iterator<PooledConnection> iterator = idle.iterator();
+
+			while (iterator.hasNext()) {
+
+				PooledConnection connection = iterator.next();
+
+				if (isExpired(connection, now) || isIdleTooLong(connection, now)) {
+
+					iterator.remove();
+					allocated--;
+					toClose.add(connection);
+				}
+			}
+		}
+
+		if (!toClose.isEmpty() && logger.isDebugEnabled()) {
+			logger.debug(String.format("Evicting %d idle R2DBC Connection(s)", toClose.size()));
+		}
+
+		for (PooledConnection connection : toClose) {
+			closeTarget(connection);
+		}
+	}
+
+	private boolean isExpired(PooledConnection connection, long now) {
+		return maxLifeNanos > 0 && now - connection.createdAt >= maxLifeNanos;
+	}
+
+	private boolean isIdleTooLong(PooledConnection connection, long now) {
+		return maxIdleNanos > 0 && now - connection.idleSince >= maxIdleNanos;
+	}
+
+	private void closeTarget(PooledConnection connection) {
+
+		Mono.from(connection.target.close()).subscribe(null, e -> {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Could not close R2DBC Connection", e);
+			}
+		});
+	}
+
+	/**
+	 * Physical {@link Connection} along with its pool bookkeeping.
+	 */
+	static class PooledConnection {
+
+		final Connection target;
+		final long createdAt;
+		volatile long idleSince;
+
+		PooledConnection(Connection target) {
+
+			this.target = target;
+			this.createdAt = System.nanoTime();
+			this.idleSince = this.createdAt;
+		}
+	}
+
+	/**
+	 * {@link Connection} handed out to subscribers. Closing the handle resets the physical connection and returns it to
+	 * the pool.
+	 */
+	class PooledConnectionHandle extends DelegatingConnection {
+
+		private final PooledConnection connection;
+		private final AtomicBoolean handleClosed = new AtomicBoolean();
+
+		private volatile boolean transactionActive;
+		private volatile boolean isolationLevelChanged;
+
+		PooledConnectionHandle(PooledConnection connection) {
+
+			super(connection.target);
+
+			this.connection = connection;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#getTargetConnection()
+		 */
+		@Override
+		public Connection getTargetConnection() {
+
+			if (handleClosed.get()) {
+				throw new IllegalStateException("Connection handle already closed!");
+			}
+
+			return super.getTargetConnection();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#beginTransaction()
+		 */
+		@Override
+		public Publisher<Void> beginTransaction() {
+			return Mono.from(super.beginTransaction()).doOnSubscribe(it -> transactionActive = true);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#commitTransaction()
+		 */
+		@Override
+		public Publisher<Void> commitTransaction() {
+			return Mono.from(super.commitTransaction()).doOnSuccess(it -> transactionActive = false);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#rollbackTransaction()
+		 */
+		@Override
+		public Publisher<Void> rollbackTransaction() {
+			return Mono.from(super.rollbackTransaction()).doOnSuccess(it -> transactionActive = false);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.function.connectionfactory.DelegatingConnection#setTransactionIsolationLevel(io.r2dbc.spi.IsolationLevel)
+		 */
+		@Override
+		public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+			return Mono.from(super.setTransactionIsolationLevel(isolationLevel))
+					.doOnSubscribe(it -> isolationLevelChanged = true);
+		}
+
+		/**
+		 * Roll back an active transaction and return the physical connection to the pool. The R2DBC SPI does not expose
+		 * the default isolation level so connections with a changed isolation level are closed instead.
+		 */
+		@Override
+		public Publisher<Void> close() {
+
+			return Mono.defer(() -> {
+
+				if (!handleClosed.compareAndSet(false, true)) {
+					return Mono.empty();
+				}
+
+				if (!transactionActive) {
+
+					releaseOrDiscard();
+					return Mono.empty();
+				}
+
+				return Mono.from(connection.target.rollbackTransaction()) //
+						.doOnSuccess(it -> releaseOrDiscard()) //
+						.onErrorResume(e -> {
+
+							if (logger.isDebugEnabled()) {
+								logger.debug("Could not roll back R2DBC Connection on release", e);
+							}
+
+							discard(connection);
+							return Mono.empty();
+						});
+			});
+		}
+
+		private void releaseOrDiscard() {
+
+			if (isolationLevelChanged) {
+				discard(connection);
+			} else {
+				release(connection);
+			}
+		}
+	}
+
+	/**
+	 * Subscriber waiting for a {@link Connection}. Completes exactly once, either with a {@link Connection}, an error or
+	 * by cancellation.
+	 */
+	class Borrower {
+
+		private final MonoSink<Connection> sink;
+		private final AtomicBoolean done = new AtomicBoolean();
+		private volatile Disposable timeout = Disposables.disposed();
+
+		Borrower(MonoSink<Connection> sink) {
+
+			this.sink = sink;
+
+			sink.onCancel(() -> {
+
+				if (done.compareAndSet(false, true)) {
+
+					timeout.dispose();
+
+					synchronized (monitor) {
+						pending.remove(this);
+					}
+				}
+			});
+		}
+
+		void scheduleTimeout() {
+
+			this.timeout = scheduler.schedule(() -> {
+
+				synchronized (monitor) {
+					pending.remove(this);
+				}
+
+				fail(new DataAccessResourceFailureException(
+						String.format("Timeout acquiring R2DBC Connection after %d ms", acquireTimeout.toMillis())));
+			}, acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		boolean complete(PooledConnection connection) {
+
+			if (done.compareAndSet(false, true)) {
+
+				timeout.dispose();
+				sink.success(new PooledConnectionHandle(connection));
+				return true;
+			}
+
+			return false;
+		}
+
+		void fail(Throwable throwable) {
+
+			if (done.compareAndSet(false, true)) {
+
+				timeout.dispose();
+				sink.error(throwable);
+			}
+		}
+
+		boolean isDone() {
+			return done.get();
+		}
+	}
+
+	/**
+	 * Builder for {@link PooledConnectionFactory}.
+	 */
+	public static class Builder {
+
+		private final ConnectionFactory targetConnectionFactory;
+		private int maxSize = 10;
+		private int initialSize = 0;
+		private Duration acquireTimeout = Duration.ofSeconds(30);
+		private @Nullable Duration maxIdleTime = Duration.ofMinutes(30);
+		private @Nullable Duration maxLifeTime;
+		private Duration evictionInterval = Duration.ofSeconds(30);
+		private @Nullable String validationQuery;
+		private Scheduler scheduler = Schedulers.parallel();
+
+		private Builder(ConnectionFactory targetConnectionFactory) {
+			this.targetConnectionFactory = targetConnectionFactory;
+		}
+
+		/**
+		 * Configure the maximum number of connections. Defaults to {@code 10}.
+		 *
+		 * @param maxSize must be greater than zero.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder maxSize(int maxSize) {
+
+			Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Configure the number of connections to create on {@link PooledConnectionFactory#warmup()}. Defaults to
+		 * {@code 0}.
+		 *
+		 * @param initialSize must not be negative.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder initialSize(int initialSize) {
+
+			Assert.isTrue(initialSize >= 0, "Initial size must not be negative!");
+
+			this.initialSize = initialSize;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum time to wait for a connection if all connections are in use. Defaults to 30 seconds.
+		 *
+		 * @param acquireTimeout must not be {@literal null} or negative.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder acquireTimeout(Duration acquireTimeout) {
+
+			Assert.notNull(acquireTimeout, "Acquire timeout must not be null!");
+			Assert.isTrue(!acquireTimeout.isNegative(), "Acquire timeout must not be negative!");
+
+			this.acquireTimeout = acquireTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the time after which idle connections are evicted. Defaults to 30 minutes.
+		 *
+		 * @param maxIdleTime the maximum idle time, {@literal null} to keep idle connections.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder maxIdleTime(@Nullable Duration maxIdleTime) {
+
+			Assert.isTrue(maxIdleTime == null || !maxIdleTime.isNegative(), "Max idle time must not be negative!");
+
+			this.maxIdleTime = maxIdleTime;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum lifetime of a connection. Connections are closed when they return to the pool after
+		 * exceeding their lifetime. Not limited by default.
+		 *
+		 * @param maxLifeTime the maximum lifetime, {@literal null} for unlimited.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder maxLifeTime(@Nullable Duration maxLifeTime) {
+
+			Assert.isTrue(maxLifeTime == null || !maxLifeTime.isNegative(), "Max life time must not be negative!");
+
+			this.maxLifeTime = maxLifeTime;
+			return this;
+		}
+
+		/**
+		 * Configure the interval to check idle connections for eviction. Defaults to 30 seconds.
+		 *
+		 * @param evictionInterval must not be {@literal null} and must be positive.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder evictionInterval(Duration evictionInterval) {
+
+			Assert.notNull(evictionInterval, "Eviction interval must not be null!");
+			Assert.isTrue(!evictionInterval.isNegative() && !evictionInterval.isZero(),
+					"Eviction interval must be positive!");
+
+			this.evictionInterval = evictionInterval;
+			return this;
+		}
+
+		/**
+		 * Configure a SQL query to validate idle connections before handing them out, e.g. {@code SELECT 1}.
+		 * Connections failing validation are closed. Not validated by default.
+		 *
+		 * @param validationQuery the validation query, {@literal null} to disable validation.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder validationQuery(@Nullable String validationQuery) {
+
+			this.validationQuery = validationQuery;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Scheduler} to run acquire timeouts and eviction. Defaults to
+		 * {@link Schedulers#parallel()}.
+		 *
+		 * @param scheduler must not be {@literal null}.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder scheduler(Scheduler scheduler) {
+
+			Assert.notNull(scheduler, "Scheduler must not be null!");
+
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Builds the {@link PooledConnectionFactory}.
+		 *
+		 * @return the {@link PooledConnectionFactory}.
+		 */
+		public PooledConnectionFactory build() {
+
+			Assert.isTrue(initialSize <= maxSize, "Initial size must not exceed max size!");
+
+			return new PooledConnectionFactory(this);
+		}
+	}
+}
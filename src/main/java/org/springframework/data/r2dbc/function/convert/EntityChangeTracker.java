@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function.convert;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Tracks the persistent state of entities to compute the columns modified since an entity was loaded or last saved.
+ * Snapshots are keyed by entity type and identifier so that immutable entities are tracked across copies. Snapshots are
+ * held through soft references and may be discarded under memory pressure, in which case all columns are considered
+ * modified.
+ * <p>
+ * Values are compared using {@link ObjectUtils#nullSafeEquals(Object, Object)}. Modifications applied in place to
+ * mutable property values (such as arrays or {@link java.util.Date}) after loading an entity are not detected.
+ * <p>
+ * Snapshots are not bound to transactions. Entities read within a transaction that is rolled back keep their snapshot
+ * although the database state may differ. Repositories therefore do not snapshot updates issued within a transaction.
+ *
+ * @author Mark Paluch
+ * @see MappingR2dbcConverter#getFieldsToUpdate(Object)
+ */
+public class EntityChangeTracker {
+
+	private final Map<SnapshotKey, Map<String, Object>> snapshots = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Capture the current state of {@code instance}. Instances without an identifier are not tracked.
+	 *
+	 * @param entity the {@link RelationalPersistentEntity} describing {@code instance}.
+	 * @param instance the entity instance.
+	 */
+	public void snapshot(RelationalPersistentEntity<?> entity, Object instance) {
+
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null!");
+		Assert.notNull(instance, "Entity instance must not be null!");
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+		Object id = idProperty != null ? accessor.getProperty(idProperty) : null;
+
+		if (id == null) {
+			return;
+		}
+
+		Map<String, Object> state = new HashMap<>();
+
+		for (RelationalPersistentProperty property : entity) {
+			state.put(property.getColumnName(), accessor.getProperty(property));
+		}
+
+		snapshots.put(new SnapshotKey(entity.getType(), id), state);
+	}
+
+	/**
+	 * Capture the given {@code fields} as the current state of the entity identified by {@code type} and {@code id}.
+	 *
+	 * @param type the entity type.
+	 * @param id the entity identifier.
+	 * @param fields column names mapped to their values as obtained from
+	 *          {@link MappingR2dbcConverter#getFieldsToUpdate(Object)}.
+	 */
+	public void snapshot(Class<?> type, Object id, Map<String, SettableValue> fields) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(fields, "Fields must not be null!");
+
+		Map<String, Object> state = new HashMap<>(fields.size() * 2);
+		fields.forEach((column, value) -> state.put(column, value.getValue()));
+
+		snapshots.put(new SnapshotKey(ClassUtils.getUserClass(type), id), state);
+	}
+
+	/**
+	 * Return the subset of {@code fields} whose values differ from the last snapshot of the entity identified by
+	 * {@code type} and {@code id}. Returns {@code fields} unchanged if no snapshot is available.
+	 *
+	 * @param type the entity type.
+	 * @param id the entity identifier.
+	 * @param fields column names mapped to their current values.
+	 * @return the modified columns. An empty {@link Map} if the entity is unchanged.
+	 */
+	public Map<String, SettableValue> getChangedFields(Class<?> type, Object id, Map<String, SettableValue> fields) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(fields, "Fields must not be null!");
+
+		Map<String, Object> state = snapshots.get(new SnapshotKey(ClassUtils.getUserClass(type), id));
+
+		if (state == null) {
+			return fields;
+		}
+
+		Map<String, SettableValue> changed = new LinkedHashMap<>();
+
+		fields.forEach((column, value) -> {
+
+			if (!state.containsKey(column) || !ObjectUtils.nullSafeEquals(state.get(column), value.getValue())) {
+				changed.put(column, value);
+			}
+		});
+
+		return changed;
+	}
+
+	/**
+	 * Discard the snapshot of the entity identified by {@code type} and {@code id}.
+	 *
+	 * @param type the entity type.
+	 * @param id the entity identifier.
+	 */
+	public void evict(Class<?> type, Object id) {
+		snapshots.remove(new SnapshotKey(ClassUtils.getUserClass(type), id));
+	}
+
+	/**
+	 * Discard the snapshots of all entities of the given {@code type}.
+	 *
+	 * @param type the entity type.
+	 */
+	public void evictAll(Class<?> type) {
+
+		Class<?> userClass = ClassUtils.getUserClass(type);
+
+		snapshots.keySet().removeIf(it -> it.type.equals(userClass));
+	}
+
+	/**
+	 * Key of a snapshot composed of entity type and identifier.
+	 */
+	private static final class SnapshotKey {
+
+		private final Class<?> type;
+		private final Object id;
+
+		SnapshotKey(Class<?> type, Object id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof SnapshotKey)) {
+				return false;
+			}
+
+			SnapshotKey that = (SnapshotKey) o;
+			return type.equals(that.type) && id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + id.hashCode();
+		}
+	}
+}
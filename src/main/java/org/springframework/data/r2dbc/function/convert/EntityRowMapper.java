@@ -15,149 +15,432 @@
  */
 package org.springframework.data.r2dbc.function.convert;
 
+import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
-import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.MappingException;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PreferredConstructor.Parameter;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
-import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
  * Maps a {@link io.r2dbc.spi.Row} to an entity of type {@code T}, including entities referenced.
+ * <p>
+ * The mapping plan (column names, target types and constructor parameters) is computed once per mapper. Each column
+ * of an entity plan occupies a fixed slot. Column positions are resolved into an {@code int[]} per entity plan once per
+ * column layout and kept for a small number of distinct layouts so that rows are read by index even if the mapper is
+ * shared by queries selecting different columns. Columns that are not part of the {@link RowMetadata} are read by name.
  *
  * @author Mark Paluch
  * @since 1.0
  */
 public class EntityRowMapper<T> implements BiFunction<Row, RowMetadata, T> {
 
-	private final RelationalPersistentEntity<T> entity;
+	private static final int MAX_COLUMN_LAYOUTS = 16;
+
 	private final RelationalConverter converter;
+	private final ConversionService conversionService;
+	private final List<EntityPlan<?>> plans = new ArrayList<>();
+	private final EntityPlan<T> plan;
+
+	private final Map<List<String>, ColumnLookup> columnLookups = new ConcurrentHashMap<>();
+	private volatile @Nullable MetadataBinding metadataBinding;
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, RelationalConverter converter) {
 
-		this.entity = entity;
 		this.converter = converter;
+		this.conversionService = converter.getConversionService();
+		this.plan = new EntityPlan<>(entity, "");
 	}
 
 	@Override
 	public T apply(Row row, RowMetadata metadata) {
 
-		T result = createInstance(row, "", entity);
+		ColumnLookup lookup = getColumnLookup(metadata);
 
-		ConvertingPropertyAccessor propertyAccessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(result),
-				converter.getConversionService());
+		return plan.read(row, lookup.getColumns(plan), lookup);
+	}
 
-		for (RelationalPersistentProperty property : entity) {
+	/**
+	 * Resolve the {@link ColumnLookup} for {@link RowMetadata}. Drivers typically share {@link RowMetadata} across all
+	 * rows of a result so the lookup of the most recent {@link RowMetadata} is reused by identity. Drivers creating
+	 * {@link RowMetadata} per row reuse the most recent lookup by comparing column names in place. Other column layouts
+	 * obtain the lookup by their column names, lookups for up to {@link #MAX_COLUMN_LAYOUTS} distinct layouts are
+	 * retained.
+	 */
+	private ColumnLookup getColumnLookup(RowMetadata metadata) {
 
-			if (entity.isConstructorArgument(property)) {
-				continue;
-			}
+		MetadataBinding binding = this.metadataBinding;
+
+		if (binding != null && (binding.metadata == metadata || binding.lookup.matches(metadata))) {
+			return binding.lookup;
+		}
+
+		List<String> columnNames = new ArrayList<>();
 
-			if (property.isMap()) {
-				throw new UnsupportedOperationException();
-			} else {
-				propertyAccessor.setProperty(property, readFrom(row, property, ""));
+		for (ColumnMetadata column : metadata.getColumnMetadatas()) {
+			columnNames.add(column.getName());
+		}
+
+		ColumnLookup lookup = columnLookups.get(columnNames);
+
+		if (lookup == null) {
+
+			lookup = new ColumnLookup(columnNames);
+
+			if (columnLookups.size() < MAX_COLUMN_LAYOUTS) {
+
+				ColumnLookup existing = columnLookups.putIfAbsent(columnNames, lookup);
+				lookup = existing != null ? existing : lookup;
 			}
 		}
 
-		return result;
+		this.metadataBinding = new MetadataBinding(metadata, lookup);
+
+		return lookup;
+	}
+
+	@Nullable
+	private Object convertIfNecessary(@Nullable Object value, Class<?> targetType) {
+
+		if (value == null || targetType.isInstance(value)) {
+			return value;
+		}
+
+		return conversionService.convert(value, targetType);
 	}
 
 	/**
-	 * Read a single value or a complete Entity from the {@link ResultSet} passed as an argument.
-	 *
-	 * @param row the {@link Row} to extract the value from. Must not be {@literal null}.
-	 * @param property the {@link RelationalPersistentProperty} for which the value is intended. Must not be
-	 *          {@literal null}.
-	 * @param prefix to be used for all column names accessed by this method. Must not be {@literal null}.
-	 * @return the value read from the {@link ResultSet}. May be {@literal null}.
+	 * Precomputed mapping plan for a {@link RelationalPersistentEntity} using a column prefix. Properties, constructor
+	 * parameters and the identifier occupy consecutive column slots.
 	 */
-	private Object readFrom(Row row, RelationalPersistentProperty property, String prefix) {
+	private class EntityPlan<S> {
+
+		private final int ordinal;
+		private final RelationalPersistentEntity<S> entity;
+		private final List<PropertyPlan> columns = new ArrayList<>();
+		private final List<PropertyPlan> properties = new ArrayList<>();
+		private final List<Parameter<Object, RelationalPersistentProperty>> parameters;
+		private final PropertyPlan[] parameterProperties;
+		private final Class<?>[] parameterTypes;
+		private final @Nullable PropertyPlan idProperty;
+
+		EntityPlan(RelationalPersistentEntity<S> entity, String prefix) {
+
+			this.entity = entity;
+
+			for (RelationalPersistentProperty property : entity) {
 
-		try {
+				if (!entity.isConstructorArgument(property)) {
+					properties.add(addColumn(property, prefix));
+				}
+			}
+
+			PreferredConstructor<S, RelationalPersistentProperty> constructor = entity.getPersistenceConstructor();
+			this.parameters = constructor != null ? constructor.getParameters() : Collections.emptyList();
+			this.parameterProperties = new PropertyPlan[parameters.size()];
+			this.parameterTypes = new Class<?>[parameters.size()];
+
+			for (int i = 0; i < parameters.size(); i++) {
+
+				Parameter<Object, RelationalPersistentProperty> parameter = parameters.get(i);
+				RelationalPersistentProperty property = parameter.getName() != null
+						? entity.getPersistentProperty(parameter.getName())
+						: null;
 
-			if (property.isEntity()) {
-				return readEntityFrom(row, property);
+				parameterProperties[i] = property != null ? addColumn(property, prefix) : null;
+				parameterTypes[i] = ClassUtils.resolvePrimitiveIfNecessary(parameter.getType().getType());
 			}
 
-			return row.get(prefix + property.getColumnName());
+			RelationalPersistentProperty idProperty = entity.getIdProperty();
+			this.idProperty = idProperty != null ? addColumn(idProperty, prefix) : null;
 
-		} catch (Exception o_O) {
-			throw new MappingException(String.format("Could not read property %s from result set!", property), o_O);
+			synchronized (plans) {
+
+				this.ordinal = plans.size();
+				plans.add(this);
+			}
 		}
-	}
 
-	private <S> S readEntityFrom(Row row, PersistentProperty<?> property) {
+		private PropertyPlan addColumn(RelationalPersistentProperty property, String prefix) {
+
+			PropertyPlan plan = new PropertyPlan(property, prefix, columns.size());
+			columns.add(plan);
 
-		String prefix = property.getName() + "_";
+			return plan;
+		}
+
+		/**
+		 * Resolve the position of each column slot within a column layout.
+		 *
+		 * @return column positions by slot, {@literal -1} for columns that are not part of the layout.
+		 */
+		int[] resolveColumns(Map<String, Integer> indexes) {
 
-		@SuppressWarnings("unchecked")
-		RelationalPersistentEntity<S> entity = (RelationalPersistentEntity<S>) converter.getMappingContext()
-				.getRequiredPersistentEntity(property.getActualType());
+			int[] positions = new int[columns.size()];
+
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] = indexes.getOrDefault(columns.get(i).column, -1);
+			}
 
-		if (readFrom(row, entity.getRequiredIdProperty(), prefix) == null) {
-			return null;
+			return positions;
 		}
 
-		S instance = createInstance(row, prefix, entity);
+		S read(Row row, int[] columns, ColumnLookup lookup) {
 
-		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
-		ConvertingPropertyAccessor propertyAccessor = new ConvertingPropertyAccessor(accessor,
-				converter.getConversionService());
+			ParameterReader reader = new ParameterReader(row, columns);
+			S instance = converter.createInstance(entity, reader::read);
 
-		for (RelationalPersistentProperty p : entity) {
-			if (!entity.isConstructorArgument(property)) {
-				propertyAccessor.setProperty(p, readFrom(row, p, prefix));
+			if (properties.isEmpty()) {
+				return instance;
 			}
+
+			PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+
+			for (PropertyPlan property : properties) {
+
+				if (property.property.isMap()) {
+					throw new UnsupportedOperationException();
+				}
+
+				accessor.setProperty(property.property, property.read(row, columns, lookup));
+			}
+
+			return instance;
 		}
 
-		return instance;
-	}
+		/**
+		 * Reads constructor arguments by position. Instantiators request arguments in parameter order, the parameter
+		 * list is only searched if a parameter is requested out of order.
+		 */
+		private class ParameterReader {
+
+			private final Row row;
+			private final int[] columns;
+			private int position;
+
+			ParameterReader(Row row, int[] columns) {
+
+				this.row = row;
+				this.columns = columns;
+			}
 
-	private <S> S createInstance(Row row, String prefix, RelationalPersistentEntity<S> entity) {
+			@Nullable
+			Object read(Parameter<?, RelationalPersistentProperty> parameter) {
 
-		RowParameterValueProvider rowParameterValueProvider = new RowParameterValueProvider(row, entity,
-				converter.getConversionService(), prefix);
+				int index = position < parameters.size() && parameters.get(position) == parameter ? position
+						: parameters.indexOf(parameter);
+				position = index + 1;
 
-		return converter.createInstance(entity, rowParameterValueProvider::getParameterValue);
+				PropertyPlan property = index != -1 ? parameterProperties[index] : null;
+
+				if (property == null) {
+					throw new MappingException(String.format("No property found for constructor parameter %s of %s!",
+							parameter.getName(), entity.getType()));
+				}
+
+				try {
+
+					Object value = property.getValue(row, columns);
+
+					if (value != null && parameterTypes[index].isInstance(value)) {
+						return value;
+					}
+
+					return conversionService.convert(value, parameter.getType().getType());
+				} catch (Exception o_O) {
+					throw new MappingException(String.format("Couldn't read column %s from Row.", property.column), o_O);
+				}
+			}
+		}
 	}
 
-	@RequiredArgsConstructor
-	private static class RowParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
+	/**
+	 * Precomputed mapping plan for a single {@link RelationalPersistentProperty} occupying a column slot of its
+	 * {@link EntityPlan}.
+	 */
+	private class PropertyPlan {
+
+		private final RelationalPersistentProperty property;
+		private final String column;
+		private final int slot;
+		private final Class<?> targetType;
+
+		private volatile @Nullable EntityPlan<?> nestedEntity;
+
+		PropertyPlan(RelationalPersistentProperty property, String prefix, int slot) {
 
-		private final @NonNull Row resultSet;
-		private final @NonNull RelationalPersistentEntity<?> entity;
-		private final @NonNull ConversionService conversionService;
-		private final @NonNull String prefix;
+			this.property = property;
+			this.column = prefix + property.getColumnName();
+			this.slot = slot;
+			this.targetType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+		}
 
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.data.mapping.model.ParameterValueProvider#getParameterValue(org.springframework.data.mapping.PreferredConstructor.Parameter)
+		/**
+		 * Read a single value or a complete Entity from the {@link Row}.
 		 */
-		@Override
 		@Nullable
-		public <T> T getParameterValue(Parameter<T, RelationalPersistentProperty> parameter) {
-
-			String column = prefix + entity.getRequiredPersistentProperty(parameter.getName()).getColumnName();
+		Object read(Row row, int[] columns, ColumnLookup lookup) {
 
 			try {
-				return conversionService.convert(resultSet.get(column), parameter.getType().getType());
+
+				if (property.isEntity()) {
+					return readEntity(row, lookup);
+				}
+
+				return convertIfNecessary(getValue(row, columns), targetType);
 			} catch (Exception o_O) {
-				throw new MappingException(String.format("Couldn't read column %s from Row.", column), o_O);
+				throw new MappingException(String.format("Could not read property %s from result set!", property), o_O);
 			}
 		}
+
+		@Nullable
+		Object getValue(Row row, int[] columns) {
+
+			int index = columns[slot];
+
+			return index != -1 ? row.get(index) : row.get(column);
+		}
+
+		@Nullable
+		private Object readEntity(Row row, ColumnLookup lookup) {
+
+			EntityPlan<?> nestedEntity = getNestedEntity();
+
+			if (nestedEntity.idProperty == null) {
+				throw new IllegalStateException(
+						String.format("Required identifier property not found for %s!", nestedEntity.entity.getType()));
+			}
+
+			int[] columns = lookup.getColumns(nestedEntity);
+
+			if (nestedEntity.idProperty.getValue(row, columns) == null) {
+				return null;
+			}
+
+			return nestedEntity.read(row, columns, lookup);
+		}
+
+		/**
+		 * Nested entity plans are created lazily to support self-referencing entities.
+		 */
+		private EntityPlan<?> getNestedEntity() {
+
+			EntityPlan<?> nestedEntity = this.nestedEntity;
+
+			if (nestedEntity == null) {
+
+				synchronized (this) {
+
+					nestedEntity = this.nestedEntity;
+
+					if (nestedEntity == null) {
+
+						RelationalPersistentEntity<?> entity = converter.getMappingContext()
+								.getRequiredPersistentEntity(property.getActualType());
+
+						nestedEntity = new EntityPlan<>(entity, property.getName() + "_");
+						this.nestedEntity = nestedEntity;
+					}
+				}
+			}
+
+			return nestedEntity;
+		}
+	}
+
+	/**
+	 * Column layout along with the column positions resolved for each {@link EntityPlan}. Positions of nested entity
+	 * plans are resolved on first use.
+	 */
+	private class ColumnLookup {
+
+		private final String[] columnNames;
+		private final Map<String, Integer> indexes;
+		private volatile int[][] columnsByPlan = new int[0][];
+
+		ColumnLookup(List<String> columnNames) {
+
+			this.columnNames = columnNames.toArray(new String[0]);
+			this.indexes = new LinkedCaseInsensitiveMap<>(columnNames.size());
+
+			for (int i = 0; i < columnNames.size(); i++) {
+				indexes.putIfAbsent(columnNames.get(i), i);
+			}
+		}
+
+		/**
+		 * @return {@literal true} if {@code metadata} describes the same columns in the same order as this layout.
+		 */
+		boolean matches(RowMetadata metadata) {
+
+			int i = 0;
+
+			for (ColumnMetadata column : metadata.getColumnMetadatas()) {
+
+				if (i == columnNames.length || !columnNames[i++].equals(column.getName())) {
+					return false;
+				}
+			}
+
+			return i == columnNames.length;
+		}
+
+		/**
+		 * @return column positions by slot of {@code plan}.
+		 */
+		int[] getColumns(EntityPlan<?> plan) {
+
+			int[][] columnsByPlan = this.columnsByPlan;
+
+			if (plan.ordinal < columnsByPlan.length && columnsByPlan[plan.ordinal] != null) {
+				return columnsByPlan[plan.ordinal];
+			}
+
+			return resolveColumns(plan);
+		}
+
+		private synchronized int[] resolveColumns(EntityPlan<?> plan) {
+
+			int[][] columnsByPlan = this.columnsByPlan;
+
+			if (plan.ordinal < columnsByPlan.length && columnsByPlan[plan.ordinal] != null) {
+				return columnsByPlan[plan.ordinal];
+			}
+
+			int[][] resolved = Arrays.copyOf(columnsByPlan, Math.max(columnsByPlan.length, plan.ordinal + 1));
+			resolved[plan.ordinal] = plan.resolveColumns(indexes);
+			this.columnsByPlan = resolved;
+
+			return resolved[plan.ordinal];
+		}
+	}
+
+	private class MetadataBinding {
+
+		private final RowMetadata metadata;
+		private final ColumnLookup lookup;
+
+		MetadataBinding(RowMetadata metadata, ColumnLookup lookup) {
+
+			this.metadata = metadata;
+			this.lookup = lookup;
+		}
 	}
 }
@@ -105,7 +105,43 @@ public class MappingR2dbcConverter {
 		};
 	}
 
+	/**
+	 * Create a shallow copy of the entity {@code object}. The copy is instantiated through the persistence constructor
+	 * and references the same property values as {@code object}.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @return the copy of {@code object}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T copy(T object) {
+
+		Assert.notNull(object, "Entity object must not be null!");
+
+		Class<?> userClass = ClassUtils.getUserClass(object);
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) getMappingContext()
+				.getRequiredPersistentEntity(userClass);
+
+		PersistentPropertyAccessor source = entity.getPropertyAccessor(object);
+		T copy = relationalConverter.createInstance(entity,
+				parameter -> source.getProperty(entity.getRequiredPersistentProperty(parameter.getName())));
+
+		PersistentPropertyAccessor target = entity.getPropertyAccessor(copy);
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (!entity.isConstructorArgument(property)) {
+				target.setProperty(property, source.getProperty(property));
+			}
+		}
+
+		return (T) target.getBean();
+	}
+
 	public MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> getMappingContext() {
 		return relationalConverter.getMappingContext();
 	}
+
+	public ConversionService getConversionService() {
+		return relationalConverter.getConversionService();
+	}
 }
@@ -23,6 +23,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.r2dbc.function.DatabaseClient;
 import org.springframework.data.r2dbc.function.DefaultReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.function.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.function.connectionfactory.PooledConnectionFactory;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
 import org.springframework.data.r2dbc.support.SqlErrorCodeR2dbcExceptionTranslator;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
@@ -45,8 +46,21 @@ public abstract class AbstractR2dbcConfiguration {
 	/**
 	 * Return a R2DBC {@link ConnectionFactory}. Annotate with {@link Bean} in case you want to expose a
 	 * {@link ConnectionFactory} instance to the {@link org.springframework.context.ApplicationContext}.
+	 * <p>
+	 * Return a {@link PooledConnectionFactory} to reuse connections across statements. A pooled
+	 * {@link ConnectionFactory} must be annotated with {@link Bean} so that a single pool is shared and closed on
+	 * shutdown:
+	 *
+	 * <pre class="code">
+	 * &#64;Bean
+	 * &#64;Override
+	 * public PooledConnectionFactory connectionFactory() {
+	 * 	return PooledConnectionFactory.builder(new PostgresqlConnectionFactory(…)).maxSize(20).build();
+	 * }
+	 * </pre>
 	 *
 	 * @return the configured {@link ConnectionFactory}.
+	 * @see PooledConnectionFactory
 	 */
 	public abstract ConnectionFactory connectionFactory();
 
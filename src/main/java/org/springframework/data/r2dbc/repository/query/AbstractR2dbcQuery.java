@@ -15,12 +15,17 @@
  */
 package org.springframework.data.r2dbc.repository.query;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import org.reactivestreams.Publisher;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.function.DatabaseClient;
 import org.springframework.data.r2dbc.function.DatabaseClient.GenericExecuteSpec;
 import org.springframework.data.r2dbc.function.FetchSpec;
@@ -33,7 +38,9 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.NumberUtils;
 
 /**
  * Base class for reactive {@link RepositoryQuery} implementations for R2DBC.
@@ -42,10 +49,15 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
 	private final R2dbcQueryMethod method;
 	private final DatabaseClient databaseClient;
 	private final MappingR2dbcConverter converter;
 	private final EntityInstantiators instantiators;
+	private final Map<Class<?>, ResultProjection> projections = new ConcurrentHashMap<>(4);
+	private final boolean dynamicProjection;
+	private @Nullable volatile ExecutionPlan executionPlan;
 
 	/**
 	 * Creates a new {@link AbstractR2dbcQuery} from the given {@link R2dbcQueryMethod} and {@link DatabaseClient}.
@@ -64,6 +76,7 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		this.databaseClient = databaseClient;
 		this.converter = converter;
 		this.instantiators = new EntityInstantiators();
+		this.dynamicProjection = method.getParameters().hasDynamicProjection();
 	}
 
 	/*
@@ -90,36 +103,101 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		R2dbcParameterAccessor parameterAccessor = new R2dbcParameterAccessor(method, parameters);
 
 		if (getQueryMethod().isCollectionQuery()) {
-			return Flux.defer(() -> (Publisher<Object>) execute(parameterAccessor));
+			return parameterAccessor.resolveParameters().flatMapMany(it -> (Publisher<Object>) execute(it));
 		}
 
-		return Mono.defer(() -> (Mono<Object>) execute(parameterAccessor));
+		return parameterAccessor.resolveParameters().flatMap(it -> (Mono<Object>) execute(it));
 	}
 
 	private Object execute(RelationalParameterAccessor parameterAccessor) {
 
 		// TODO: ConvertingParameterAccessor
 		BindableQuery query = createQuery(parameterAccessor);
+		ExecutionPlan plan = getExecutionPlan(parameterAccessor);
 
-		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(parameterAccessor);
-		GenericExecuteSpec boundQuery = query.bind(databaseClient.execute().sql(query));
-		FetchSpec<?> fetchSpec = boundQuery.as(resolveResultType(processor)).fetch();
+		return plan.execute(query.bind(databaseClient.execute().sql(query)));
+	}
+
+	/**
+	 * Returns the {@link ExecutionPlan} to use. The plan of query methods without dynamic projection is created once on
+	 * first invocation and reused afterwards.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link ExecutionPlan}.
+	 */
+	private ExecutionPlan getExecutionPlan(RelationalParameterAccessor parameterAccessor) {
+
+		if (dynamicProjection) {
+			return createExecutionPlan(method.getResultProcessor().withDynamicProjection(parameterAccessor));
+		}
 
-		String tableName = method.getEntityInformation().getTableName();
+		ExecutionPlan plan = this.executionPlan;
 
-		R2dbcQueryExecution execution = getExecution(
-				new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
+		if (plan == null) {
 
-		return execution.execute(fetchSpec, processor.getReturnedType().getDomainType(), tableName);
+			// benign race: concurrent invocations create equivalent immutable plans
+			plan = createExecutionPlan(method.getResultProcessor());
+			this.executionPlan = plan;
+		}
+
+		return plan;
 	}
 
-	private Class<?> resolveResultType(ResultProcessor resultProcessor) {
+	private ExecutionPlan createExecutionPlan(ResultProcessor processor) {
+
+		ReturnedType returnedType = processor.getReturnedType();
+		ResultProjection projection = getResultProjection(returnedType);
+
+		Function<GenericExecuteSpec, FetchSpec<?>> fetchFunction;
 
-		ReturnedType returnedType = resultProcessor.getReturnedType();
+		if (isCountQuery() || isExistsQuery() || isDeleteQuery()) {
+			// count, exists and delete queries consume rows without mapping them to entities
+			fetchFunction = GenericExecuteSpec::fetch;
+		} else if (projection.isDirect()) {
+			fetchFunction = it -> projection.map(it).fetch();
+		} else {
 
+			Class<?> resultType = resolveResultType(returnedType);
+			fetchFunction = it -> it.as(resultType).fetch();
+		}
+
+		// direct projections emit instances of the returned type that require no further conversion
+		R2dbcQueryExecution execution = projection.isDirect() ? getExecutionToWrap()
+				: getExecution(new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
+
+		return new ExecutionPlan(fetchFunction, execution, returnedType.getDomainType(),
+				method.getEntityInformation().getTableName());
+	}
+
+	private static Class<?> resolveResultType(ReturnedType returnedType) {
 		return returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType();
 	}
 
+	/**
+	 * Returns the {@link ResultProjection} for the {@link ReturnedType} after applying a dynamic projection contained in
+	 * {@link RelationalParameterAccessor}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link ResultProjection}.
+	 */
+	ResultProjection getResultProjection(RelationalParameterAccessor accessor) {
+		return getResultProjection(method.getResultProcessor().withDynamicProjection(accessor).getReturnedType());
+	}
+
+	/**
+	 * Returns the {@link ResultProjection} for the given {@link ReturnedType}. Projections are computed once per returned
+	 * type.
+	 *
+	 * @param returnedType must not be {@literal null}.
+	 * @return the {@link ResultProjection}.
+	 */
+	ResultProjection getResultProjection(ReturnedType returnedType) {
+
+		return projections.computeIfAbsent(returnedType.getReturnedType(),
+				it -> ResultProjection.of(returnedType, method.getEntityInformation().getTableEntity(),
+						converter.getMappingContext(), converter.getConversionService(), PROJECTION_FACTORY));
+	}
+
 	/**
 	 * Returns the execution instance to use.
 	 *
@@ -130,8 +208,29 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		return new ResultProcessingExecution(getExecutionToWrap(), resultProcessing);
 	}
 
+	@SuppressWarnings("unchecked")
 	private R2dbcQueryExecution getExecutionToWrap() {
 
+		Class<?> returnedType = method.getReturnedObjectType();
+
+		if (isDeleteQuery()) {
+
+			if (returnedType == Void.class) {
+				return (q, t, c) -> q.rowsUpdated().then();
+			}
+
+			return (q, t, c) -> q.rowsUpdated().map(it -> convertNumber(it, returnedType));
+		}
+
+		if (isCountQuery()) {
+			return (q, t, c) -> ((FetchSpec<Map<String, Object>>) q).one()
+					.map(it -> convertNumber((Number) it.values().iterator().next(), returnedType));
+		}
+
+		if (isExistsQuery()) {
+			return (q, t, c) -> q.first().hasElement();
+		}
+
 		if (method.isCollectionQuery()) {
 			return (q, t, c) -> q.all();
 		}
@@ -139,6 +238,55 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		return (q, t, c) -> q.one();
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Object convertNumber(Number number, Class<?> targetType) {
+
+		if (!Number.class.isAssignableFrom(targetType)) {
+			return number;
+		}
+
+		return NumberUtils.convertNumberToTargetClass(number, (Class<Number>) targetType);
+	}
+
+	/**
+	 * Immutable plan to fetch and convert the results of a query method.
+	 */
+	private static final class ExecutionPlan {
+
+		private final Function<GenericExecuteSpec, FetchSpec<?>> fetchFunction;
+		private final R2dbcQueryExecution execution;
+		private final Class<?> domainType;
+		private final String tableName;
+
+		ExecutionPlan(Function<GenericExecuteSpec, FetchSpec<?>> fetchFunction, R2dbcQueryExecution execution,
+				Class<?> domainType, String tableName) {
+
+			this.fetchFunction = fetchFunction;
+			this.execution = execution;
+			this.domainType = domainType;
+			this.tableName = tableName;
+		}
+
+		Object execute(GenericExecuteSpec boundQuery) {
+			return execution.execute(fetchFunction.apply(boundQuery), domainType, tableName);
+		}
+	}
+
+	/**
+	 * @return {@literal true} if the query returns the number of matching rows.
+	 */
+	protected abstract boolean isCountQuery();
+
+	/**
+	 * @return {@literal true} if the query checks whether any row matches.
+	 */
+	protected abstract boolean isExistsQuery();
+
+	/**
+	 * @return {@literal true} if the query deletes matching rows and returns the number of deleted rows.
+	 */
+	protected abstract boolean isDeleteQuery();
+
 	/**
 	 * Creates a {@link BindableQuery} instance using the given {@link ParameterAccessor}
 	 *
@@ -0,0 +1,498 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.r2dbc.function.DatabaseClient;
+import org.springframework.data.r2dbc.function.DatabaseClient.BindSpec;
+import org.springframework.data.r2dbc.function.convert.MappingR2dbcConverter;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link AbstractR2dbcQuery} deriving SQL from the name of a query method.
+ * <p>
+ * SQL is rendered once when creating the query. Query methods declaring a {@link Sort} or {@link Pageable} parameter
+ * append {@code ORDER BY} and {@code LIMIT}/{@code OFFSET} clauses on invocation. Queries returning a closed interface
+ * projection or a DTO select only the projected columns. Method arguments are bound as named
+ * parameters so that collection arguments of {@code In}/{@code NotIn} predicates expand to one bind marker per
+ * element. Empty collections render {@code In} as a condition that never matches and {@code NotIn} as a condition
+ * that always matches. {@code Top}/{@code First} limits are rendered as {@code LIMIT} clause. {@code count…By},
+ * {@code exists…By} and {@code delete…By} queries do not map rows to entities.
+ *
+ * @author Mark Paluch
+ */
+public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
+
+	private final PartTree tree;
+	private final RelationalPersistentEntity<?> entity;
+	private final Parameters<?, ?> parameters;
+	private final List<ParameterBinding> bindings;
+	private final String where;
+	private final List<String> columns;
+	private final String prefix;
+	private final @Nullable String sql;
+	private final boolean dynamicProjection;
+
+	/**
+	 * Creates a new {@link PartTreeR2dbcQuery} from the given {@link R2dbcQueryMethod}, {@link DatabaseClient}, and
+	 * {@link MappingR2dbcConverter}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param databaseClient must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @throws IllegalArgumentException if the method name contains unsupported keywords or properties.
+	 */
+	public PartTreeR2dbcQuery(R2dbcQueryMethod method, DatabaseClient databaseClient, MappingR2dbcConverter converter) {
+
+		super(method, databaseClient, converter);
+
+		this.entity = method.getEntityInformation().getTableEntity();
+		this.tree = new PartTree(method.getName(), entity.getType());
+		this.parameters = method.getParameters();
+		this.dynamicProjection = parameters.hasDynamicProjection();
+
+		if (tree.isDelete() && tree.isLimiting()) {
+			throw new IllegalArgumentException(
+					String.format("Delete queries must not limit results. Offending method: %s", method));
+		}
+
+		List<ParameterBinding> bindings = new ArrayList<>();
+
+		this.where = renderWhere(bindings, Collections.emptySet());
+		this.bindings = Collections.unmodifiableList(bindings);
+		this.columns = getResultProjection(method.getResultProcessor().getReturnedType()).getColumns();
+		this.prefix = renderPrefix(columns, where);
+
+		boolean dynamicSortOrPaging = parameters.hasSortParameter() || parameters.hasPageableParameter();
+
+		this.sql = dynamicSortOrPaging || dynamicProjection ? null
+				: prefix + renderSortAndLimit(tree.getSort(), Pageable.unpaged());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isCountQuery()
+	 */
+	@Override
+	protected boolean isCountQuery() {
+		return tree.isCountProjection();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isExistsQuery()
+	 */
+	@Override
+	protected boolean isExistsQuery() {
+		return tree.isExistsProjection();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isDeleteQuery()
+	 */
+	@Override
+	protected boolean isDeleteQuery() {
+		return tree.isDelete();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#createQuery(org.springframework.data.relational.repository.query.RelationalParameterAccessor)
+	 */
+	@Override
+	protected BindableQuery createQuery(RelationalParameterAccessor accessor) {
+
+		Set<String> emptyInBindings = getEmptyInBindings(accessor);
+
+		return new BindableQuery() {
+
+			@Override
+			public <T extends BindSpec<T>> T bind(T bindSpec) {
+
+				T bindSpecToUse = bindSpec;
+
+				for (ParameterBinding binding : bindings) {
+
+					if (emptyInBindings.contains(binding.name)) {
+						continue;
+					}
+
+					Object value = binding.prepare(accessor.getBindableValue(binding.parameterIndex));
+
+					if (value != null) {
+						bindSpecToUse = bindSpecToUse.bind(binding.name, value);
+					} else {
+						bindSpecToUse = bindSpecToUse.bindNull(binding.name,
+								parameters.getBindableParameter(binding.parameterIndex).getType());
+					}
+				}
+
+				return bindSpecToUse;
+			}
+
+			@Override
+			public String get() {
+
+				if (sql != null && emptyInBindings.isEmpty()) {
+					return sql;
+				}
+
+				String prefixToUse = prefix;
+
+				if (dynamicProjection || !emptyInBindings.isEmpty()) {
+
+					String whereToUse = emptyInBindings.isEmpty() ? where : renderWhere(new ArrayList<>(), emptyInBindings);
+					List<String> columnsToUse = dynamicProjection ? getResultProjection(accessor).getColumns() : columns;
+
+					prefixToUse = renderPrefix(columnsToUse, whereToUse);
+				}
+
+				return prefixToUse + renderSortAndLimit(tree.getSort().and(accessor.getSort()), accessor.getPageable());
+			}
+		};
+	}
+
+	/**
+	 * Determine the {@code IN} and {@code NOT IN} bindings whose value is an empty collection or array. These predicates
+	 * are rendered as constant conditions as an empty list cannot be expanded into bind markers.
+	 */
+	private Set<String> getEmptyInBindings(RelationalParameterAccessor accessor) {
+
+		Set<String> emptyInBindings = null;
+
+		for (ParameterBinding binding : bindings) {
+
+			if (binding.type != Part.Type.IN && binding.type != Part.Type.NOT_IN) {
+				continue;
+			}
+
+			Object value = binding.prepare(accessor.getBindableValue(binding.parameterIndex));
+
+			if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
+
+				if (emptyInBindings == null) {
+					emptyInBindings = new HashSet<>();
+				}
+
+				emptyInBindings.add(binding.name);
+			}
+		}
+
+		return emptyInBindings != null ? emptyInBindings : Collections.emptySet();
+	}
+
+	private String renderPrefix(List<String> columns, String where) {
+
+		StringBuilder builder = new StringBuilder();
+
+		if (tree.isDelete()) {
+			builder.append("DELETE FROM ");
+		} else if (tree.isCountProjection()) {
+			builder.append("SELECT COUNT(*) FROM ");
+		} else if (tree.isExistsProjection()) {
+			builder.append("SELECT 1 FROM ");
+		} else {
+
+			builder.append(tree.isDistinct() ? "SELECT DISTINCT " : "SELECT ");
+			builder.append(columns.isEmpty() ? "*" : StringUtils.collectionToDelimitedString(columns, ", "));
+			builder.append(" FROM ");
+		}
+
+		builder.append(entity.getTableName());
+
+		if (!where.isEmpty()) {
+			builder.append(" WHERE ").append(where);
+		}
+
+		return builder.toString();
+	}
+
+	private String renderSortAndLimit(Sort sort, Pageable pageable) {
+
+		if (tree.isDelete() || tree.isCountProjection()) {
+			return "";
+		}
+
+		StringBuilder builder = new StringBuilder();
+
+		if (!tree.isExistsProjection() && sort.isSorted()) {
+
+			builder.append(" ORDER BY ");
+
+			boolean first = true;
+			for (Order order : sort) {
+
+				if (!first) {
+					builder.append(", ");
+				}
+				first = false;
+
+				builder.append(getColumnName(order.getProperty())).append(' ').append(order.getDirection().name());
+
+				switch (order.getNullHandling()) {
+					case NULLS_FIRST:
+						builder.append(" NULLS FIRST");
+						break;
+					case NULLS_LAST:
+						builder.append(" NULLS LAST");
+						break;
+					default:
+				}
+			}
+		}
+
+		Integer limit = null;
+
+		if (tree.isExistsProjection()) {
+			limit = 1;
+		} else if (pageable.isPaged()) {
+			limit = tree.isLimiting() ? getRemainingResults(pageable) : pageable.getPageSize();
+		} else if (tree.isLimiting()) {
+			limit = tree.getMaxResults();
+		}
+
+		if (limit != null) {
+			builder.append(" LIMIT ").append(limit);
+		}
+
+		if (pageable.isPaged() && pageable.getOffset() > 0) {
+			builder.append(" OFFSET ").append(pageable.getOffset());
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Number of results of the requested page that fall within the maximum results of a {@code Top}/{@code First}
+	 * query. Pages starting beyond the maximum results are empty.
+	 */
+	private int getRemainingResults(Pageable pageable) {
+
+		long remaining = Math.max(0, tree.getMaxResults() - pageable.getOffset());
+
+		return (int) Math.min(pageable.getPageSize(), remaining);
+	}
+
+	private String renderWhere(List<ParameterBinding> bindings, Set<String> emptyInBindings) {
+
+		List<String> orParts = new ArrayList<>();
+		int parameterIndex = 0;
+
+		for (OrPart orPart : tree) {
+
+			List<String> andParts = new ArrayList<>();
+
+			for (Part part : orPart) {
+
+				andParts.add(renderPart(part, parameterIndex, bindings, emptyInBindings));
+				parameterIndex += part.getNumberOfArguments();
+			}
+
+			orParts.add(String.join(" AND ", andParts));
+		}
+
+		if (orParts.size() == 1) {
+			return orParts.get(0);
+		}
+
+		StringBuilder where = new StringBuilder();
+
+		for (String orPart : orParts) {
+
+			if (where.length() != 0) {
+				where.append(" OR ");
+			}
+
+			where.append('(').append(orPart).append(')');
+		}
+
+		return where.toString();
+	}
+
+	private String renderPart(Part part, int parameterIndex, List<ParameterBinding> bindings,
+			Set<String> emptyInBindings) {
+
+		PropertyPath path = part.getProperty();
+
+		if (path.hasNext()) {
+			throw new IllegalArgumentException(
+					String.format("Nested property %s is not supported in derived queries", path.toDotPath()));
+		}
+
+		RelationalPersistentProperty property = entity.getRequiredPersistentProperty(path.getSegment());
+		boolean ignoreCase = isIgnoreCase(part, property);
+
+		String column = ignoreCase ? "UPPER(" + property.getColumnName() + ")" : property.getColumnName();
+
+		switch (part.getType()) {
+			case IS_NULL:
+				return column + " IS NULL";
+			case IS_NOT_NULL:
+				return column + " IS NOT NULL";
+			case TRUE:
+				return column + " = TRUE";
+			case FALSE:
+				return column + " = FALSE";
+			case BETWEEN:
+				return column + " BETWEEN " + bind(part, parameterIndex, ignoreCase, bindings) + " AND "
+						+ bind(part, parameterIndex + 1, ignoreCase, bindings);
+			case IN:
+			case NOT_IN:
+				return renderIn(part, column, parameterIndex, bindings, emptyInBindings);
+			default:
+		}
+
+		String operator = getOperator(part.getType());
+
+		return column + " " + operator + " " + bind(part, parameterIndex, ignoreCase, bindings);
+	}
+
+	private static String renderIn(Part part, String column, int parameterIndex, List<ParameterBinding> bindings,
+			Set<String> emptyInBindings) {
+
+		boolean negated = part.getType() == Part.Type.NOT_IN;
+		boolean empty = emptyInBindings.contains("p" + bindings.size());
+		String marker = bind(part, parameterIndex, false, bindings);
+
+		if (empty) {
+			return negated ? "1 = 1" : "1 = 0";
+		}
+
+		return column + (negated ? " NOT IN (" : " IN (") + marker + ")";
+	}
+
+	private static String getOperator(Part.Type type) {
+
+		switch (type) {
+			case SIMPLE_PROPERTY:
+				return "=";
+			case NEGATING_SIMPLE_PROPERTY:
+				return "<>";
+			case GREATER_THAN:
+			case AFTER:
+				return ">";
+			case GREATER_THAN_EQUAL:
+				return ">=";
+			case LESS_THAN:
+			case BEFORE:
+				return "<";
+			case LESS_THAN_EQUAL:
+				return "<=";
+			case LIKE:
+			case STARTING_WITH:
+			case ENDING_WITH:
+			case CONTAINING:
+				return "LIKE";
+			case NOT_LIKE:
+			case NOT_CONTAINING:
+				return "NOT LIKE";
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported keyword %s in derived query", type));
+		}
+	}
+
+	private static String bind(Part part, int parameterIndex, boolean ignoreCase, List<ParameterBinding> bindings) {
+
+		ParameterBinding binding = new ParameterBinding("p" + bindings.size(), parameterIndex, part.getType());
+		bindings.add(binding);
+
+		return ignoreCase ? "UPPER(:" + binding.name + ")" : ":" + binding.name;
+	}
+
+	private static boolean isIgnoreCase(Part part, RelationalPersistentProperty property) {
+
+		IgnoreCaseType ignoreCase = part.shouldIgnoreCase();
+
+		if (ignoreCase == IgnoreCaseType.NEVER) {
+			return false;
+		}
+
+		boolean isString = String.class.equals(property.getType());
+
+		if (ignoreCase == IgnoreCaseType.ALWAYS && !isString) {
+			throw new IllegalArgumentException(
+					String.format("Property %s must be a String to ignore case", property.getName()));
+		}
+
+		return isString;
+	}
+
+	private String getColumnName(String propertyName) {
+
+		return entity.getRequiredPersistentProperty(propertyName).getColumnName();
+	}
+
+	/**
+	 * Binding of a method parameter to a named SQL parameter.
+	 */
+	private static class ParameterBinding {
+
+		private final String name;
+		private final int parameterIndex;
+		private final Part.Type type;
+
+		ParameterBinding(String name, int parameterIndex, Part.Type type) {
+
+			this.name = name;
+			this.parameterIndex = parameterIndex;
+			this.type = type;
+		}
+
+		/**
+		 * Prepare the value to bind: Wrap {@code LIKE} patterns and turn arrays into collections for {@code IN} lists.
+		 */
+		@Nullable
+		Object prepare(@Nullable Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			switch (type) {
+				case STARTING_WITH:
+					return value + "%";
+				case ENDING_WITH:
+					return "%" + value;
+				case CONTAINING:
+				case NOT_CONTAINING:
+					return "%" + value + "%";
+				case IN:
+				case NOT_IN:
+					return ObjectUtils.isArray(value) ? CollectionUtils.arrayToList(value) : value;
+				default:
+					return value;
+			}
+		}
+	}
+}
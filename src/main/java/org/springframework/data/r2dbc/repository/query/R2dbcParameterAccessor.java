@@ -17,25 +17,26 @@ package org.springframework.data.r2dbc.repository.query;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoProcessor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.data.repository.util.ReactiveWrappers;
 
 /**
- * Reactive {@link org.springframework.data.repository.query.ParametersParameterAccessor} implementation that subscribes
- * to reactive parameter wrapper types upon creation. This class performs synchronization when accessing parameters.
+ * Reactive {@link org.springframework.data.repository.query.ParametersParameterAccessor} implementation. Parameters
+ * provided through reactive wrapper types are resolved without blocking using {@link #resolveParameters()}, which
+ * subscribes to all wrappers concurrently and emits an accessor exposing the resolved values.
  *
  * @author Mark Paluch
  */
 class R2dbcParameterAccessor extends RelationalParametersParameterAccessor {
 
+	private final R2dbcQueryMethod method;
 	private final Object[] values;
-	private final List<MonoProcessor<?>> subscriptions;
 
 	/**
 	 * Creates a new {@link R2dbcParameterAccessor}.
@@ -44,38 +45,52 @@ class R2dbcParameterAccessor extends RelationalParametersParameterAccessor {
 
 		super(method, values);
 
+		this.method = method;
 		this.values = values;
-		this.subscriptions = new ArrayList<>(values.length);
+	}
+
+	/**
+	 * Resolve parameters provided through reactive wrapper types. {@link Mono} parameters resolve to their value or
+	 * {@literal null} if empty, multi-value wrappers such as {@link Flux} are collected into a {@link List}. All wrappers
+	 * are subscribed concurrently when subscribing to the returned {@link Mono}.
+	 *
+	 * @return a {@link Mono} emitting a {@link R2dbcParameterAccessor} over the resolved values.
+	 */
+	public Mono<R2dbcParameterAccessor> resolveParameters() {
+
+		List<Mono<Optional<Object>>> publishers = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
 
 		for (int i = 0; i < values.length; i++) {
 
 			Object value = values[i];
 
 			if (value == null || !ReactiveWrappers.supports(value.getClass())) {
-				subscriptions.add(null);
 				continue;
 			}
 
-			if (ReactiveWrappers.isSingleValueType(value.getClass())) {
-				subscriptions.add(ReactiveWrapperConverters.toWrapper(value, Mono.class).toProcessor());
-			} else {
-				subscriptions.add(ReactiveWrapperConverters.toWrapper(value, Flux.class).collectList().toProcessor());
-			}
-		}
-	}
+			Mono<?> publisher = ReactiveWrappers.isSingleValueType(value.getClass())
+					? ReactiveWrapperConverters.toWrapper(value, Mono.class)
+					: ReactiveWrapperConverters.toWrapper(value, Flux.class).collectList();
 
-	/* (non-Javadoc)
-	 * @see org.springframework.data.repository.query.ParametersParameterAccessor#getValue(int)
-	 */
-	@SuppressWarnings("unchecked")
-	@Override
-	protected <T> T getValue(int index) {
+			publishers.add(publisher.map(it -> Optional.<Object> of(it)).defaultIfEmpty(Optional.empty()));
+			indexes.add(i);
+		}
 
-		if (subscriptions.get(index) != null) {
-			return (T) subscriptions.get(index).block();
+		if (publishers.isEmpty()) {
+			return Mono.just(this);
 		}
 
-		return super.getValue(index);
+		return Mono.zip(publishers, resolved -> {
+
+			Object[] resolvedValues = values.clone();
+
+			for (int i = 0; i < resolved.length; i++) {
+				resolvedValues[indexes.get(i)] = ((Optional<?>) resolved[i]).orElse(null);
+			}
+
+			return new R2dbcParameterAccessor(method, resolvedValues);
+		});
 	}
 
 	/* (non-Javadoc)
@@ -90,11 +105,4 @@ class R2dbcParameterAccessor extends RelationalParametersParameterAccessor {
 		}
 		return result;
 	}
-
-	/* (non-Javadoc)
-	 * @see org.springframework.data.repository.query.ParametersParameterAccessor#getBindableValue(int)
-	 */
-	public Object getBindableValue(int index) {
-		return getValue(getParameters().getBindableParameter(index).getIndex());
-	}
 }
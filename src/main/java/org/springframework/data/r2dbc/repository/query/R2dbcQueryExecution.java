@@ -27,6 +27,8 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.repository.query.DtoInstantiatingConverter;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 /**
@@ -58,14 +60,28 @@ interface R2dbcQueryExecution {
 	}
 
 	/**
-	 * A {@link Converter} to post-process all source objects using the given {@link ResultProcessor}.
+	 * A {@link Converter} to post-process all source objects using the given {@link ResultProcessor}. The
+	 * {@link DtoInstantiatingConverter} is created once per {@link ResultProcessingConverter}.
 	 */
-	@RequiredArgsConstructor
 	final class ResultProcessingConverter implements Converter<Object, Object> {
 
-		private final @NonNull ResultProcessor processor;
-		private final @NonNull MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
-		private final @NonNull EntityInstantiators instantiators;
+		private final ResultProcessor processor;
+		private final @Nullable Converter<Object, Object> converter;
+
+		ResultProcessingConverter(ResultProcessor processor,
+				MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+				EntityInstantiators instantiators) {
+
+			Assert.notNull(processor, "ResultProcessor must not be null!");
+			Assert.notNull(mappingContext, "MappingContext must not be null!");
+			Assert.notNull(instantiators, "EntityInstantiators must not be null!");
+
+			Class<?> returnedType = processor.getReturnedType().getReturnedType();
+
+			this.processor = processor;
+			this.converter = ClassUtils.isPrimitiveOrWrapper(returnedType) ? null
+					: new DtoInstantiatingConverter(returnedType, mappingContext, instantiators);
+		}
 
 		/* (non-Javadoc)
 		 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
@@ -73,15 +89,10 @@ interface R2dbcQueryExecution {
 		@Override
 		public Object convert(Object source) {
 
-			ReturnedType returnedType = processor.getReturnedType();
-
-			if (ClassUtils.isPrimitiveOrWrapper(returnedType.getReturnedType())) {
+			if (converter == null) {
 				return source;
 			}
 
-			Converter<Object, Object> converter = new DtoInstantiatingConverter(returnedType.getReturnedType(),
-					mappingContext, instantiators);
-
 			return processor.processResult(source, converter);
 		}
 	}
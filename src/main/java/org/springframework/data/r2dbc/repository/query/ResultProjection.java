@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.r2dbc.function.DatabaseClient.GenericExecuteSpec;
+import org.springframework.data.r2dbc.function.DatabaseClient.TypedExecuteSpec;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Describes how rows of a query are mapped to the {@link ReturnedType} of a query method. Closed interface projections
+ * and DTOs whose properties map to columns of the queried entity are mapped directly from the {@link Row} by reading
+ * only the projected columns. All other results are mapped to the entity type first and converted afterwards.
+ *
+ * @author Mark Paluch
+ */
+final class ResultProjection {
+
+	private static final ResultProjection ENTITY = new ResultProjection(null, Collections.emptyList(), null);
+
+	private final @Nullable Class<?> dtoType;
+	private final List<String> columns;
+	private final @Nullable BiFunction<Row, RowMetadata, ?> rowMapper;
+
+	private ResultProjection(@Nullable Class<?> dtoType, List<String> columns,
+			@Nullable BiFunction<Row, RowMetadata, ?> rowMapper) {
+
+		this.dtoType = dtoType;
+		this.columns = columns;
+		this.rowMapper = rowMapper;
+	}
+
+	/**
+	 * Create a {@link ResultProjection} for the given {@link ReturnedType}.
+	 *
+	 * @param returnedType the returned type of the query method.
+	 * @param entity the queried entity.
+	 * @param mappingContext the mapping context to introspect DTO types.
+	 * @param conversionService the conversion service to convert column values to property types.
+	 * @param projectionFactory the factory to create interface projections.
+	 * @return the {@link ResultProjection}.
+	 */
+	static ResultProjection of(ReturnedType returnedType, RelationalPersistentEntity<?> entity,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+			ConversionService conversionService, ProjectionFactory projectionFactory) {
+
+		Class<?> type = returnedType.getReturnedType();
+
+		if (!returnedType.isProjecting() || ClassUtils.isPrimitiveOrWrapper(type)) {
+			return ENTITY;
+		}
+
+		if (type.isInterface()) {
+
+			if (!projectionFactory.getProjectionInformation(type).isClosed()) {
+				return ENTITY;
+			}
+
+			List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+			for (String propertyName : returnedType.getInputProperties()) {
+
+				RelationalPersistentProperty property = entity.getPersistentProperty(propertyName);
+
+				if (property == null || property.isEntity()) {
+					return ENTITY;
+				}
+
+				properties.add(property);
+			}
+
+			return properties.isEmpty() ? ENTITY
+					: new ResultProjection(null, getColumnNames(properties),
+							new InterfaceProjectionRowMapper(type, properties, conversionService, projectionFactory));
+		}
+
+		RelationalPersistentEntity<?> dtoEntity = mappingContext.getPersistentEntity(type);
+
+		if (dtoEntity == null) {
+			return ENTITY;
+		}
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+		for (RelationalPersistentProperty dtoProperty : dtoEntity) {
+
+			RelationalPersistentProperty property = entity.getPersistentProperty(dtoProperty.getName());
+
+			// DTO properties are read by their own column name which must match the column of the entity property
+			if (property == null || property.isEntity() || !property.getColumnName().equals(dtoProperty.getColumnName())) {
+				return ENTITY;
+			}
+
+			properties.add(property);
+		}
+
+		return properties.isEmpty() ? ENTITY : new ResultProjection(type, getColumnNames(properties), null);
+	}
+
+	/**
+	 * @return {@literal true} if rows are mapped to the returned type without materializing the entity.
+	 */
+	boolean isDirect() {
+		return dtoType != null || rowMapper != null;
+	}
+
+	/**
+	 * @return the columns to select. An empty {@link List} to select all columns.
+	 */
+	List<String> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Apply the row mapping of a direct projection to {@link GenericExecuteSpec}.
+	 *
+	 * @param executeSpec the execute spec.
+	 * @return the {@link TypedExecuteSpec} mapping rows to the returned type.
+	 * @throws IllegalStateException if this projection is not {@link #isDirect() direct}.
+	 */
+	TypedExecuteSpec<?> map(GenericExecuteSpec executeSpec) {
+
+		if (dtoType != null) {
+			return executeSpec.as(dtoType);
+		}
+
+		if (rowMapper != null) {
+			return executeSpec.extract(rowMapper);
+		}
+
+		throw new IllegalStateException("Entity results cannot be mapped directly");
+	}
+
+	private static List<String> getColumnNames(List<RelationalPersistentProperty> properties) {
+
+		List<String> columns = new ArrayList<>(properties.size());
+
+		for (RelationalPersistentProperty property : properties) {
+			columns.add(property.getColumnName());
+		}
+
+		return Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * Row mapper creating closed interface projections backed by a {@link Map} of projected property values.
+	 */
+	private static class InterfaceProjectionRowMapper implements BiFunction<Row, RowMetadata, Object> {
+
+		private final Class<?> projectionType;
+		private final String[] propertyNames;
+		private final String[] columnNames;
+		private final Class<?>[] propertyTypes;
+		private final ConversionService conversionService;
+		private final ProjectionFactory projectionFactory;
+
+		InterfaceProjectionRowMapper(Class<?> projectionType, List<RelationalPersistentProperty> properties,
+				ConversionService conversionService, ProjectionFactory projectionFactory) {
+
+			this.projectionType = projectionType;
+			this.propertyNames = new String[properties.size()];
+			this.columnNames = new String[properties.size()];
+			this.propertyTypes = new Class<?>[properties.size()];
+			this.conversionService = conversionService;
+			this.projectionFactory = projectionFactory;
+
+			for (int i = 0; i < properties.size(); i++) {
+
+				RelationalPersistentProperty property = properties.get(i);
+
+				propertyNames[i] = property.getName();
+				columnNames[i] = property.getColumnName();
+				propertyTypes[i] = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.function.BiFunction#apply(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public Object apply(Row row, RowMetadata metadata) {
+
+			Map<String, Object> values = new HashMap<>(propertyNames.length * 2);
+
+			for (int i = 0; i < propertyNames.length; i++) {
+				values.put(propertyNames[i], readValue(row.get(columnNames[i]), propertyTypes[i]));
+			}
+
+			return projectionFactory.createProjection(projectionType, values);
+		}
+
+		@Nullable
+		private Object readValue(@Nullable Object value, Class<?> type) {
+
+			if (value == null || type.isInstance(value) || !conversionService.canConvert(value.getClass(), type)) {
+				return value;
+			}
+
+			return conversionService.convert(value, type);
+		}
+	}
+}
@@ -35,6 +35,7 @@ import org.springframework.util.Assert;
 public class StringBasedR2dbcQuery extends AbstractR2dbcQuery {
 
 	private final String sql;
+	private final String[] bindMarkers;
 
 	/**
 	 * Creates a new {@link StringBasedR2dbcQuery} for the given {@link StringBasedR2dbcQuery}, {@link DatabaseClient},
@@ -73,6 +74,35 @@ public class StringBasedR2dbcQuery extends AbstractR2dbcQuery {
 		Assert.hasText(query, "Query must not be empty");
 
 		this.sql = query;
+		this.bindMarkers = new String[method.getParameters().getNumberOfParameters()];
+
+		for (int i = 0; i < bindMarkers.length; i++) {
+			bindMarkers[i] = "$" + (i + 1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isCountQuery()
+	 */
+	@Override
+	protected boolean isCountQuery() {
+		return false;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isExistsQuery()
+	 */
+	@Override
+	protected boolean isExistsQuery() {
+		return false;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isDeleteQuery()
+	 */
+	@Override
+	protected boolean isDeleteQuery() {
+		return false;
 	}
 
 	/* (non-Javadoc)
@@ -92,17 +122,17 @@ public class StringBasedR2dbcQuery extends AbstractR2dbcQuery {
 
 				Parameters<?, ?> bindableParameters = accessor.getBindableParameters();
 
-				int index = 1;
+				int index = 0;
 				for (Object value : accessor.getValues()) {
 
-					Parameter bindableParameter = bindableParameters.getBindableParameter(index - 1);
+					Parameter bindableParameter = bindableParameters.getBindableParameter(index);
 
 					if (value == null) {
 						if (accessor.hasBindableNullValue()) {
-							bindSpecToUse = bindSpecToUse.bindNull("$" + (index++), bindableParameter.getType());
+							bindSpecToUse = bindSpecToUse.bindNull(bindMarkers[index++], bindableParameter.getType());
 						}
 					} else {
-						bindSpecToUse = bindSpecToUse.bind("$" + (index++), value);
+						bindSpecToUse = bindSpecToUse.bind(bindMarkers[index++], value);
 					}
 				}
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Loader coalescing individual lookups by identifier that are requested within a time window into a single query for
+ * all requested identifiers. A batch is dispatched once the window elapses or once it contains {@code maxBatchSize}
+ * distinct identifiers. Results are routed back to the waiting subscribers by identifier, subscribers waiting for an
+ * identifier without result complete empty. Cancelled lookups are removed from their batch, a batch without remaining
+ * lookups is not dispatched.
+ *
+ * @author Mark Paluch
+ */
+class CoalescingIdLoader<T, ID> {
+
+	private final Function<List<ID>, Flux<T>> query;
+	private final Function<T, ID> idFunction;
+	private final Duration window;
+	private final int maxBatchSize;
+	private final Scheduler scheduler;
+
+	private final Object lock = new Object();
+	private @Nullable Batch pending;
+
+	/**
+	 * Creates a new {@link CoalescingIdLoader}.
+	 *
+	 * @param query function querying all objects for a list of distinct identifiers.
+	 * @param idFunction function extracting the identifier of a queried object.
+	 * @param window time to wait for further lookups after the first lookup of a batch.
+	 * @param maxBatchSize maximal number of distinct identifiers per batch.
+	 * @param scheduler scheduler to dispatch batches after {@code window}.
+	 */
+	CoalescingIdLoader(Function<List<ID>, Flux<T>> query, Function<T, ID> idFunction, Duration window, int maxBatchSize,
+			Scheduler scheduler) {
+
+		this.query = query;
+		this.idFunction = idFunction;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Load the object identified by {@code id} as part of the current batch.
+	 *
+	 * @param id the identifier.
+	 * @return a {@link Mono} emitting the object or completing empty if no object exists for {@code id}.
+	 */
+	Mono<T> load(ID id) {
+
+		return Mono.create(sink -> {
+
+			Batch toDispatch = null;
+
+			synchronized (lock) {
+
+				if (pending == null) {
+
+					Batch batch = new Batch();
+					batch.timer = scheduler.schedule(() -> dispatchIfPending(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+					pending = batch;
+				}
+
+				Batch current = pending;
+
+				current.add(id, sink);
+				sink.onCancel(() -> current.remove(id, sink));
+
+				if (current.size() >= maxBatchSize) {
+
+					toDispatch = pending;
+					pending = null;
+				}
+			}
+
+			if (toDispatch != null) {
+
+				toDispatch.cancelTimer();
+				toDispatch.dispatch();
+			}
+		});
+	}
+
+	private void dispatchIfPending(Batch batch) {
+
+		synchronized (lock) {
+
+			if (pending != batch) {
+				return;
+			}
+
+			pending = null;
+		}
+
+		batch.dispatch();
+	}
+
+	/**
+	 * Identifiers of a batch along with their waiting subscribers.
+	 */
+	private class Batch {
+
+		private final Map<ID, List<MonoSink<T>>> waiting = new LinkedHashMap<>();
+		private @Nullable Disposable timer;
+		private boolean dispatched;
+
+		void add(ID id, MonoSink<T> sink) {
+			waiting.computeIfAbsent(id, it -> new ArrayList<>(1)).add(sink);
+		}
+
+		/**
+		 * Remove a cancelled lookup. Identifiers without remaining lookups are removed from the batch. Has no effect once
+		 * the batch was dispatched.
+		 */
+		void remove(ID id, MonoSink<T> sink) {
+
+			synchronized (lock) {
+
+				if (dispatched) {
+					return;
+				}
+
+				List<MonoSink<T>> sinks = waiting.get(id);
+
+				if (sinks != null && sinks.remove(sink) && sinks.isEmpty()) {
+					waiting.remove(id);
+				}
+			}
+		}
+
+		int size() {
+			return waiting.size();
+		}
+
+		void cancelTimer() {
+
+			if (timer != null) {
+				timer.dispose();
+			}
+		}
+
+		void dispatch() {
+
+			List<ID> ids;
+
+			synchronized (lock) {
+
+				dispatched = true;
+				ids = new ArrayList<>(waiting.keySet());
+			}
+
+			if (ids.isEmpty()) {
+				return;
+			}
+
+			query.apply(ids).collectList().subscribe(results -> {
+
+				Map<ID, T> resultsById = new HashMap<>(results.size() * 2);
+
+				for (T result : results) {
+					resultsById.put(idFunction.apply(result), result);
+				}
+
+				waiting.forEach((id, sinks) -> {
+
+					T result = resultsById.get(id);
+
+					for (MonoSink<T> sink : sinks) {
+						sink.success(result);
+					}
+				});
+			}, error -> waiting.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error))));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * SPI for a read-through cache of entities by their identifier used by {@link SimpleR2dbcRepository#findById(Object)}.
+ * Entries are invalidated by the repository before and after entities are updated or deleted. Lookups within an active
+ * transaction bypass the cache. Implementations may emit the same cached instance to multiple callers, the repository
+ * hands out a shallow copy of the emitted instance so that modifications of a returned entity do not affect the cached
+ * instance. Mutable property values such as collections are shared with the cached instance and must not be
+ * modified.
+ * <p>
+ * Implementations must be thread-safe and should coalesce concurrent misses for the same identifier into a single
+ * invocation of the loader.
+ *
+ * @author Mark Paluch
+ * @see LocalEntityCache
+ * @see R2dbcRepositoryOptions#withEntityCache(EntityCache)
+ */
+public interface EntityCache {
+
+	/**
+	 * Return the cached entity identified by {@code type} and {@code id} or obtain it from {@code loader} if not cached.
+	 * Entities emitted by the loader are cached, empty results are not cached.
+	 *
+	 * @param type the entity type.
+	 * @param id the entity identifier.
+	 * @param loader supplier of the {@link Mono} loading the entity on a cache miss.
+	 * @return a {@link Mono} emitting the entity or completing empty if it does not exist.
+	 */
+	<T> Mono<T> get(Class<T> type, Object id, Supplier<Mono<T>> loader);
+
+	/**
+	 * Discard the entity identified by {@code type} and {@code id}. A load for the same entity that is in progress does
+	 * not populate the cache.
+	 *
+	 * @param type the entity type.
+	 * @param id the entity identifier.
+	 */
+	void evict(Class<?> type, Object id);
+
+	/**
+	 * Discard all entities of the given {@code type}.
+	 *
+	 * @param type the entity type.
+	 */
+	void evictAll(Class<?> type);
+
+	/**
+	 * @return a snapshot of the cache {@link Statistics}.
+	 */
+	Statistics getStatistics();
+
+	/**
+	 * Snapshot of cache statistics.
+	 */
+	final class Statistics {
+
+		private final long hitCount;
+		private final long missCount;
+		private final long loadCount;
+		private final long evictionCount;
+
+		public Statistics(long hitCount, long missCount, long loadCount, long evictionCount) {
+
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.loadCount = loadCount;
+			this.evictionCount = evictionCount;
+		}
+
+		/**
+		 * @return the number of lookups served from the cache.
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * @return the number of lookups not served from the cache.
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * @return the number of loader invocations. Lower than {@link #getMissCount()} if concurrent misses were coalesced.
+		 */
+		public long getLoadCount() {
+			return loadCount;
+		}
+
+		/**
+		 * @return the number of entries removed because of size or expiration.
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * @return the ratio of hits to lookups or {@literal 1.0} if no lookup happened.
+		 */
+		public double getHitRate() {
+
+			long requestCount = hitCount + missCount;
+			return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("Statistics [hits=%d, misses=%d, loads=%d, evictions=%d]", hitCount, missCount, loadCount,
+					evictionCount);
+		}
+	}
+}
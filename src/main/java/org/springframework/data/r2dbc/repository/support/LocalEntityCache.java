@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * In-process {@link EntityCache} bounded by a maximum number of entries with least-recently-used eviction and an
+ * optional time to live. Concurrent misses for the same entity share a single load.
+ * <p>
+ * Entries are held in an access-ordered {@link LinkedHashMap} guarded by its monitor, which fits caches of up to a few
+ * ten thousand entries. Implement {@link EntityCache} to use a different eviction policy or a distributed cache.
+ *
+ * @author Mark Paluch
+ */
+public class LocalEntityCache implements EntityCache {
+
+	private final int maximumSize;
+	private final long timeToLiveNanos;
+	private final Map<CacheKey, CacheEntry> entries;
+	private final Map<CacheKey, Mono<Object>> loads = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Creates a new {@link LocalEntityCache} without expiration.
+	 *
+	 * @param maximumSize must be greater than zero.
+	 */
+	public LocalEntityCache(int maximumSize) {
+		this(maximumSize, Duration.ZERO);
+	}
+
+	/**
+	 * Creates a new {@link LocalEntityCache}.
+	 *
+	 * @param maximumSize must be greater than zero.
+	 * @param timeToLive time after which entries expire. {@link Duration#ZERO} to not expire entries.
+	 */
+	public LocalEntityCache(int maximumSize, Duration timeToLive) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero!");
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative!");
+
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+
+				if (size() > LocalEntityCache.this.maximumSize) {
+					evictionCount.increment();
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.support.EntityCache#get(java.lang.Class, java.lang.Object, java.util.function.Supplier)
+	 */
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <T> Mono<T> get(Class<T> type, Object id, Supplier<Mono<T>> loader) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(loader, "Loader must not be null!");
+
+		return Mono.defer(() -> {
+
+			CacheKey key = new CacheKey(type, id);
+			Object cached = getIfPresent(key);
+
+			if (cached != null) {
+				hitCount.increment();
+				return Mono.just((T) cached);
+			}
+
+			missCount.increment();
+
+			return (Mono<T>) loads.computeIfAbsent(key, it -> createLoad(it, (Supplier) loader));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.support.EntityCache#evict(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public void evict(Class<?> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+
+		CacheKey key = new CacheKey(type, id);
+
+		synchronized (entries) {
+			loads.remove(key);
+			entries.remove(key);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.support.EntityCache#evictAll(java.lang.Class)
+	 */
+	@Override
+	public void evictAll(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		Class<?> userClass = ClassUtils.getUserClass(type);
+
+		synchronized (entries) {
+			loads.keySet().removeIf(it -> it.type.equals(userClass));
+			entries.keySet().removeIf(it -> it.type.equals(userClass));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.support.EntityCache#getStatistics()
+	 */
+	@Override
+	public Statistics getStatistics() {
+		return new Statistics(hitCount.sum(), missCount.sum(), loadCount.sum(), evictionCount.sum());
+	}
+
+	/**
+	 * @return the number of cached entries including expired entries that were not yet removed.
+	 */
+	public int size() {
+
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Create a shared load that caches its result unless the entity was evicted while loading. The load is deregistered
+	 * on termination so that errors and empty results are not retained.
+	 */
+	private Mono<Object> createLoad(CacheKey key, Supplier<Mono<Object>> loader) {
+
+		AtomicReference<Mono<Object>> self = new AtomicReference<>();
+
+		Mono<Object> load = Mono.defer(() -> {
+
+			loadCount.increment();
+			return loader.get();
+		}).doOnNext(value -> {
+
+			synchronized (entries) {
+				if (loads.get(key) == self.get()) {
+					entries.put(key, new CacheEntry(value, System.nanoTime()));
+				}
+			}
+		}).doFinally(signal -> loads.remove(key, self.get())) //
+				.cache();
+
+		self.set(load);
+
+		return load;
+	}
+
+	@Nullable
+	private Object getIfPresent(CacheKey key) {
+
+		synchronized (entries) {
+
+			CacheEntry entry = entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (timeToLiveNanos > 0 && System.nanoTime() - entry.createdAt >= timeToLiveNanos) {
+
+				entries.remove(key);
+				evictionCount.increment();
+				return null;
+			}
+
+			return entry.value;
+		}
+	}
+
+	/**
+	 * Cached entity along with its creation time.
+	 */
+	private static final class CacheEntry {
+
+		private final Object value;
+		private final long createdAt;
+
+		CacheEntry(Object value, long createdAt) {
+			this.value = value;
+			this.createdAt = createdAt;
+		}
+	}
+
+	/**
+	 * Key of a cache entry composed of entity type and identifier.
+	 */
+	private static final class CacheKey {
+
+		private final Class<?> type;
+		private final Object id;
+
+		CacheKey(Class<?> type, Object id) {
+			this.type = ClassUtils.getUserClass(type);
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) o;
+			return type.equals(that.type) && id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + id.hashCode();
+		}
+	}
+}
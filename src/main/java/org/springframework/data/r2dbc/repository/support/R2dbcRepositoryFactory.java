@@ -26,6 +26,7 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.r2dbc.function.DatabaseClient;
 import org.springframework.data.r2dbc.function.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.r2dbc.repository.query.PartTreeR2dbcQuery;
 import org.springframework.data.r2dbc.repository.query.R2dbcQueryMethod;
 import org.springframework.data.r2dbc.repository.query.StringBasedR2dbcQuery;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
@@ -41,6 +42,7 @@ import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.util.ReflectionUtils;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -57,6 +59,7 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 	private final DatabaseClient databaseClient;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
 	private final MappingR2dbcConverter converter;
+	private R2dbcRepositoryOptions repositoryOptions = R2dbcRepositoryOptions.defaults();
 
 	/**
 	 * Creates a new {@link R2dbcRepositoryFactory} given {@link DatabaseClient} and {@link MappingContext}.
@@ -75,6 +78,21 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 		this.converter = new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext));
 	}
 
+	/**
+	 * Configures the {@link R2dbcRepositoryOptions} applied to repositories created by this factory. Options are passed
+	 * to repository base classes declaring a constructor accepting {@link R2dbcRepositoryOptions} as last argument. Base
+	 * classes without such a constructor are created through their
+	 * {@code (RelationalEntityInformation, DatabaseClient, MappingR2dbcConverter)} constructor.
+	 *
+	 * @param repositoryOptions must not be {@literal null}.
+	 */
+	public void setRepositoryOptions(R2dbcRepositoryOptions repositoryOptions) {
+
+		Assert.notNull(repositoryOptions, "R2dbcRepositoryOptions must not be null!");
+
+		this.repositoryOptions = repositoryOptions;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
@@ -94,6 +112,14 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 		RelationalEntityInformation<?, ?> entityInformation = getEntityInformation(information.getDomainType(),
 				information);
 
+		boolean acceptsOptions = ReflectionUtils.findConstructor(information.getRepositoryBaseClass(), entityInformation,
+				databaseClient, converter, repositoryOptions).isPresent();
+
+		if (acceptsOptions) {
+			return getTargetRepositoryViaReflection(information, entityInformation, databaseClient, converter,
+					repositoryOptions);
+		}
+
 		return getTargetRepositoryViaReflection(information, entityInformation, databaseClient, converter);
 	}
 
@@ -156,8 +182,7 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 						evaluationContextProvider);
 			}
 
-			throw new UnsupportedOperationException("Query derivation not yet supported!");
-
+			return new PartTreeR2dbcQuery(queryMethod, databaseClient, converter);
 		}
 	}
 }
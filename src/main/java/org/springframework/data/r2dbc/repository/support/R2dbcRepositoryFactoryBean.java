@@ -43,6 +43,8 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	private @Nullable
 	MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
 
+	private R2dbcRepositoryOptions repositoryOptions = R2dbcRepositoryOptions.defaults();
+
 	private boolean mappingContextConfigured = false;
 
 	/**
@@ -63,6 +65,18 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.client = client;
 	}
 
+	/**
+	 * Configures the {@link R2dbcRepositoryOptions} to be used. Defaults to {@link R2dbcRepositoryOptions#defaults()}.
+	 *
+	 * @param repositoryOptions must not be {@literal null}.
+	 */
+	public void setRepositoryOptions(R2dbcRepositoryOptions repositoryOptions) {
+
+		Assert.notNull(repositoryOptions, "R2dbcRepositoryOptions must not be null!");
+
+		this.repositoryOptions = repositoryOptions;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -86,7 +100,14 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	 */
 	@Override
 	protected final RepositoryFactorySupport createRepositoryFactory() {
-		return getFactoryInstance(client, this.mappingContext);
+
+		RepositoryFactorySupport factory = getFactoryInstance(client, this.mappingContext);
+
+		if (factory instanceof R2dbcRepositoryFactory) {
+			((R2dbcRepositoryFactory) factory).setRepositoryOptions(repositoryOptions);
+		}
+
+		return factory;
 	}
 
 	/**
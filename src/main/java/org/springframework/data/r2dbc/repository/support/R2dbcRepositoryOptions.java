@@ -0,0 +1,369 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.r2dbc.function.convert.EntityChangeTracker;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable options to tune the SQL issued by {@link SimpleR2dbcRepository}. Use {@link #defaults()} to obtain the
+ * default options and the {@code with…} methods to derive customized options.
+ *
+ * @author Mark Paluch
+ * @see R2dbcRepositoryFactory#setRepositoryOptions(R2dbcRepositoryOptions)
+ */
+public final class R2dbcRepositoryOptions {
+
+	/**
+	 * Default maximal number of identifiers per statement: 256.
+	 */
+	public static final int DEFAULT_ID_CHUNK_SIZE = 256;
+
+	/**
+	 * Default maximal number of objects saved per batch: 256.
+	 */
+	public static final int DEFAULT_SAVE_BATCH_SIZE = 256;
+
+	private static final R2dbcRepositoryOptions DEFAULTS = new R2dbcRepositoryOptions(InListStrategy.EXACT,
+			DEFAULT_ID_CHUNK_SIZE, DEFAULT_SAVE_BATCH_SIZE, 1, true, null, null, Duration.ZERO);
+
+	private final InListStrategy inListStrategy;
+	private final int idChunkSize;
+	private final int saveBatchSize;
+	private final int concurrency;
+	private final boolean preserveOrder;
+	private final @Nullable EntityChangeTracker changeTracker;
+	private final @Nullable EntityCache entityCache;
+	private final Duration findByIdCoalescingWindow;
+
+	private R2dbcRepositoryOptions(InListStrategy inListStrategy, int idChunkSize, int saveBatchSize, int concurrency,
+			boolean preserveOrder, @Nullable EntityChangeTracker changeTracker, @Nullable EntityCache entityCache,
+			Duration findByIdCoalescingWindow) {
+
+		this.inListStrategy = inListStrategy;
+		this.idChunkSize = idChunkSize;
+		this.saveBatchSize = saveBatchSize;
+		this.concurrency = concurrency;
+		this.preserveOrder = preserveOrder;
+		this.changeTracker = changeTracker;
+		this.entityCache = entityCache;
+		this.findByIdCoalescingWindow = findByIdCoalescingWindow;
+	}
+
+	/**
+	 * @return the default {@link R2dbcRepositoryOptions}.
+	 */
+	public static R2dbcRepositoryOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} using the given {@link InListStrategy}.
+	 *
+	 * @param inListStrategy must not be {@literal null}.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withInListStrategy(InListStrategy inListStrategy) {
+
+		Assert.notNull(inListStrategy, "InListStrategy must not be null!");
+
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} using the given maximal number of identifiers per statement. Identifiers
+	 * emitted by a {@link org.reactivestreams.Publisher} are buffered into chunks of at most {@code idChunkSize}
+	 * elements, each chunk is queried with a single statement.
+	 *
+	 * @param idChunkSize must be greater than zero.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withIdChunkSize(int idChunkSize) {
+
+		Assert.isTrue(idChunkSize > 0, "Id chunk size must be greater than zero!");
+
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} using the given maximal number of objects per {@code saveAll} batch.
+	 * Objects emitted by a {@link org.reactivestreams.Publisher} are buffered into batches of at most
+	 * {@code saveBatchSize} elements. New objects of a batch are inserted with a multi-row {@code INSERT}, existing
+	 * objects are updated with a single batched {@code UPDATE}.
+	 *
+	 * @param saveBatchSize must be greater than zero.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withSaveBatchSize(int saveBatchSize) {
+
+		Assert.isTrue(saveBatchSize > 0, "Save batch size must be greater than zero!");
+
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} using the given number of statements that may run concurrently for a
+	 * single repository call.
+	 *
+	 * @param concurrency must be greater than zero.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withConcurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} that either emit results of concurrent statements in the order of their
+	 * chunks ({@literal true}) or as soon as they are available ({@literal false}).
+	 *
+	 * @param preserveOrder whether to preserve the order of chunks.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withPreserveOrder(boolean preserveOrder) {
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} using the given {@link EntityChangeTracker}. Updates of tracked entities
+	 * only set modified columns and are skipped if no column was modified. Entities are tracked when read through the
+	 * repository's {@code findById}, {@code findAll} and {@code findAllById} methods and after each update that
+	 * modified the entity's row outside of a transaction. Entities obtained from query methods are not tracked.
+	 * Snapshots are discarded when entities are inserted or deleted.
+	 *
+	 * @param changeTracker the {@link EntityChangeTracker}, may be {@literal null} to disable change tracking.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withChangeTracker(@Nullable EntityChangeTracker changeTracker) {
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} using the given {@link EntityCache}. {@code findById} reads through the
+	 * cache and returns a copy of the cached entity, saving and deleting entities evicts them from the cache.
+	 *
+	 * @param entityCache the {@link EntityCache}, may be {@literal null} to disable caching.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withEntityCache(@Nullable EntityCache entityCache) {
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, findByIdCoalescingWindow);
+	}
+
+	/**
+	 * Create new {@link R2dbcRepositoryOptions} coalescing {@code findById} calls issued within the given time window
+	 * into a single query for all requested identifiers. A query is issued once the window has elapsed after the first
+	 * call or once {@link #getIdChunkSize()} distinct identifiers were requested. Coalescing trades a latency of up to
+	 * {@code window} for fewer statements and connections when many subscribers look up objects concurrently. Calls
+	 * are coalesced across subscribers, calls within an active transaction are therefore not coalesced.
+	 *
+	 * @param window must not be {@literal null} or negative. {@link Duration#ZERO} to disable coalescing.
+	 * @return new {@link R2dbcRepositoryOptions}.
+	 */
+	public R2dbcRepositoryOptions withFindByIdCoalescing(Duration window) {
+
+		Assert.notNull(window, "Coalescing window must not be null!");
+		Assert.isTrue(!window.isNegative(), "Coalescing window must not be negative!");
+
+		return new R2dbcRepositoryOptions(inListStrategy, idChunkSize, saveBatchSize, concurrency, preserveOrder,
+				changeTracker, entityCache, window);
+	}
+
+	/**
+	 * @return the {@link InListStrategy} to render predicates matching multiple identifiers.
+	 */
+	public InListStrategy getInListStrategy() {
+		return inListStrategy;
+	}
+
+	/**
+	 * @return the maximal number of identifiers per statement.
+	 */
+	public int getIdChunkSize() {
+		return idChunkSize;
+	}
+
+	/**
+	 * @return the maximal number of objects per {@code saveAll} batch.
+	 */
+	public int getSaveBatchSize() {
+		return saveBatchSize;
+	}
+
+	/**
+	 * @return the number of statements that may run concurrently.
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * @return {@literal true} if results of concurrent statements are emitted in the order of their chunks.
+	 */
+	public boolean isPreserveOrder() {
+		return preserveOrder;
+	}
+
+	/**
+	 * @return the {@link EntityChangeTracker} or {@literal null} if change tracking is disabled.
+	 */
+	@Nullable
+	public EntityChangeTracker getChangeTracker() {
+		return changeTracker;
+	}
+
+	/**
+	 * @return the {@link EntityCache} or {@literal null} if caching is disabled.
+	 */
+	@Nullable
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * @return the time window to coalesce {@code findById} calls. {@link Duration#ZERO} if coalescing is disabled.
+	 */
+	public Duration getFindByIdCoalescingWindow() {
+		return findByIdCoalescingWindow;
+	}
+
+	/**
+	 * Strategy to render and bind a predicate matching a column against a list of values. Strategies differ in the
+	 * number of distinct SQL statements they produce for varying list sizes.
+	 */
+	public enum InListStrategy {
+
+		/**
+		 * Render one bind marker per value: {@code col IN ($1, …, $n)}. Creates a distinct statement for each list size.
+		 */
+		EXACT {
+
+			@Override
+			public List<Object> getBindValues(List<?> values, int maxBindValues) {
+				return new ArrayList<>(values);
+			}
+		},
+
+		/**
+		 * Pad the list to the next power of two by repeating the last value: {@code col IN ($1, …, $2^k)}. Limits the
+		 * number of distinct statements to {@code log2(n)} without changing the result. Padding does not exceed the
+		 * maximal number of bind values so that a chunk of {@code idChunkSize} identifiers binds at most
+		 * {@code idChunkSize} values.
+		 */
+		BUCKETED {
+
+			@Override
+			public List<Object> getBindValues(List<?> values, int maxBindValues) {
+
+				int size = values.size();
+				int bucketSize = size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+				bucketSize = Math.max(size, Math.min(bucketSize, maxBindValues));
+
+				List<Object> padded = new ArrayList<>(bucketSize);
+				padded.addAll(values);
+
+				Object last = values.get(size - 1);
+				while (padded.size() < bucketSize) {
+					padded.add(last);
+				}
+
+				return padded;
+			}
+		},
+
+		/**
+		 * Bind all values as a single array parameter: {@code col = ANY($1)}. Creates a single statement regardless of the
+		 * list size. Requires a database and driver supporting array parameters, such as PostgreSQL.
+		 */
+		ARRAY {
+
+			@Override
+			public List<Object> getBindValues(List<?> values, int maxBindValues) {
+
+				Object array = Array.newInstance(values.get(0).getClass(), values.size());
+
+				for (int i = 0; i < values.size(); i++) {
+					Array.set(array, i, values.get(i));
+				}
+
+				return Collections.singletonList(array);
+			}
+
+			@Override
+			public String getPredicate(String column, List<Object> bindValues) {
+				return column + " = ANY($1)";
+			}
+		};
+
+		/**
+		 * Return the values to bind by index for the given non-empty {@code values}.
+		 *
+		 * @param values must not be {@literal null} or empty.
+		 * @return the values to bind.
+		 */
+		public List<Object> getBindValues(List<?> values) {
+			return getBindValues(values, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Return the values to bind by index for the given non-empty {@code values} using at most
+		 * {@code maxBindValues} values unless {@code values} contains more values.
+		 *
+		 * @param values must not be {@literal null} or empty.
+		 * @param maxBindValues maximal number of values to bind, typically the id chunk size.
+		 * @return the values to bind.
+		 */
+		public abstract List<Object> getBindValues(List<?> values, int maxBindValues);
+
+		/**
+		 * Render the predicate matching {@code column} against {@code bindValues} using {@code $n} bind markers.
+		 *
+		 * @param column the column name.
+		 * @param bindValues values obtained from {@link #getBindValues(List)}.
+		 * @return the rendered predicate.
+		 */
+		public String getPredicate(String column, List<Object> bindValues) {
+
+			StringBuilder predicate = new StringBuilder(column.length() + 6 + bindValues.size() * 4);
+			predicate.append(column).append(" IN (");
+
+			for (int i = 0; i < bindValues.size(); i++) {
+
+				if (i != 0) {
+					predicate.append(", ");
+				}
+				predicate.append('$').append(i + 1);
+			}
+
+			return predicate.append(')').toString();
+		}
+	}
+}
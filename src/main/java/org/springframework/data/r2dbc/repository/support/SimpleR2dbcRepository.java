@@ -15,37 +15,80 @@
  */
 package org.springframework.data.r2dbc.repository.support;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.Function;
 
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.reactivestreams.Publisher;
 import org.springframework.data.r2dbc.function.DatabaseClient;
 import org.springframework.data.r2dbc.function.DatabaseClient.BindSpec;
 import org.springframework.data.r2dbc.function.DatabaseClient.GenericExecuteSpec;
 import org.springframework.data.r2dbc.function.FetchSpec;
+import org.springframework.data.r2dbc.function.connectionfactory.ReactiveTransactionSynchronization;
+import org.springframework.data.r2dbc.function.convert.EntityChangeTracker;
 import org.springframework.data.r2dbc.function.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.function.convert.SettableValue;
 import org.springframework.data.relational.repository.query.RelationalEntityInformation;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Simple {@link ReactiveCrudRepository} implementation using R2DBC through {@link DatabaseClient}.
  *
  * @author Mark Paluch
  */
-@RequiredArgsConstructor
 public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, ID> {
 
-	private final @NonNull RelationalEntityInformation<T, ID> entity;
-	private final @NonNull DatabaseClient databaseClient;
-	private final @NonNull MappingR2dbcConverter converter;
+	private final RelationalEntityInformation<T, ID> entity;
+	private final DatabaseClient databaseClient;
+	private final MappingR2dbcConverter converter;
+	private final R2dbcRepositoryOptions options;
+	private final @Nullable CoalescingIdLoader<T, ID> loader;
+
+	/**
+	 * Creates a new {@link SimpleR2dbcRepository} using {@link R2dbcRepositoryOptions#defaults() default options}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param databaseClient must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	public SimpleR2dbcRepository(RelationalEntityInformation<T, ID> entity, DatabaseClient databaseClient,
+			MappingR2dbcConverter converter) {
+		this(entity, databaseClient, converter, R2dbcRepositoryOptions.defaults());
+	}
+
+	/**
+	 * Creates a new {@link SimpleR2dbcRepository}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param databaseClient must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 */
+	public SimpleR2dbcRepository(RelationalEntityInformation<T, ID> entity, DatabaseClient databaseClient,
+			MappingR2dbcConverter converter, R2dbcRepositoryOptions options) {
+
+		Assert.notNull(entity, "RelationalEntityInformation must not be null!");
+		Assert.notNull(databaseClient, "DatabaseClient must not be null!");
+		Assert.notNull(converter, "MappingR2dbcConverter must not be null!");
+		Assert.notNull(options, "R2dbcRepositoryOptions must not be null!");
+
+		this.entity = entity;
+		this.databaseClient = databaseClient;
+		this.converter = converter;
+		this.options = options;
+		this.loader = options.getFindByIdCoalescingWindow().isZero() ? null
+				: new CoalescingIdLoader<>(this::selectByIds, entity::getRequiredId, options.getFindByIdCoalescingWindow(),
+						options.getIdChunkSize(), Schedulers.parallel());
+	}
 
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(S)
@@ -57,22 +100,39 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		if (entity.isNew(objectToSave)) {
 
+			// Fetch only the generated identifier. Entities with an assigned identifier do not need any columns returned.
+			if (entity.getId(objectToSave) != null) {
+
+				return databaseClient.insert() //
+						.into(entity.getJavaType()) //
+						.using(objectToSave) //
+						.returning() //
+						.exchange() //
+						.flatMap(FetchSpec::rowsUpdated) //
+						.doOnNext(it -> evict(entity.getRequiredId(objectToSave))) //
+						.thenReturn(objectToSave);
+			}
+
 			return databaseClient.insert() //
 					.into(entity.getJavaType()) //
 					.using(objectToSave) //
+					.returning(getIdColumnName()) //
 					.exchange() //
-					.flatMap(it -> it.extract(converter.populateIdIfNecessary(objectToSave)).one());
+					.flatMap(it -> it.extract(converter.populateIdIfNecessary(objectToSave)).one()) //
+					.doOnNext(it -> evict(entity.getRequiredId(it)));
 		}
 
 		// TODO: Extract in some kind of SQL generator
 		Object id = entity.getRequiredId(objectToSave);
 
-		Map<String, SettableValue> fields = converter.getFieldsToUpdate(objectToSave);
+		Map<String, SettableValue> state = converter.getFieldsToUpdate(objectToSave);
+		Map<String, SettableValue> fields = getChangedFields(id, state);
 
-		String setClause = getSetClause(fields);
+		if (fields.isEmpty()) {
+			return Mono.just(objectToSave);
+		}
 
-		GenericExecuteSpec exec = databaseClient.execute()
-				.sql(String.format("UPDATE %s SET %s WHERE %s = $1", entity.getTableName(), setClause, getIdColumnName())) //
+		GenericExecuteSpec exec = databaseClient.execute().sql(getUpdateSql(fields.keySet())) //
 				.bind(0, id);
 
 		int index = 1;
@@ -88,16 +148,85 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		return exec.as(entity.getJavaType()) //
 				.exchange() //
+				.doOnSubscribe(it -> evictCached(id)) //
 				.flatMap(FetchSpec::rowsUpdated) //
+				.flatMap(rowsUpdated -> {
+
+					evictCached(id);
+					return onUpdated(Collections.singletonMap(id, state), rowsUpdated > 0);
+				}) //
 				.thenReturn(objectToSave);
 	}
 
-	private static String getSetClause(Map<String, ?> fields) {
+	/**
+	 * Return the columns to update. Without an {@link EntityChangeTracker}, all columns are updated.
+	 */
+	private Map<String, SettableValue> getChangedFields(Object id, Map<String, SettableValue> fields) {
+
+		EntityChangeTracker changeTracker = options.getChangeTracker();
+
+		return changeTracker != null ? changeTracker.getChangedFields(entity.getJavaType(), id, fields) : fields;
+	}
+
+	/**
+	 * Snapshot the persisted {@code states} if all rows were updated and discard the snapshots otherwise. Updates
+	 * within a transaction discard snapshots as well because a rollback would leave snapshots of state that was never
+	 * persisted.
+	 */
+	private Mono<Void> onUpdated(Map<Object, Map<String, SettableValue>> states, boolean allUpdated) {
+
+		EntityChangeTracker changeTracker = options.getChangeTracker();
+
+		if (changeTracker == null) {
+			return Mono.empty();
+		}
+
+		return isTransactionActive().doOnNext(transactional -> states.forEach((id, state) -> {
+
+			if (allUpdated && !transactional) {
+				changeTracker.snapshot(entity.getJavaType(), id, state);
+			} else {
+				changeTracker.evict(entity.getJavaType(), id);
+			}
+		})).then();
+	}
+
+	/**
+	 * Snapshot entities read with all columns if change tracking is enabled. Reads within a transaction are not
+	 * snapshotted as they may see rows that are never committed.
+	 */
+	private Flux<T> track(Publisher<T> entities) {
+
+		EntityChangeTracker changeTracker = options.getChangeTracker();
+
+		if (changeTracker == null) {
+			return Flux.from(entities);
+		}
+
+		return isTransactionActive().flatMapMany(transactional -> transactional ? entities
+				: Flux.from(entities).doOnNext(it -> changeTracker.snapshot(entity.getJavaType(), entity.getRequiredId(it),
+						converter.getFieldsToUpdate(it))));
+	}
+
+	private static Mono<Boolean> isTransactionActive() {
+
+		return Mono.subscriberContext() //
+				.map(it -> it.hasKey(ReactiveTransactionSynchronization.class)
+						&& it.<ReactiveTransactionSynchronization> get(ReactiveTransactionSynchronization.class)
+								.isSynchronizationActive());
+	}
+
+	private String getUpdateSql(Iterable<String> columns) {
+		return String.format("UPDATE %s SET %s WHERE %s = $1", entity.getTableName(), getSetClause(columns),
+				getIdColumnName());
+	}
+
+	private static String getSetClause(Iterable<String> columns) {
 
 		StringBuilder setClause = new StringBuilder();
 
 		int index = 2;
-		for (String field : fields.keySet()) {
+		for (String field : columns) {
 
 			if (setClause.length() != 0) {
 				setClause.append(", ");
@@ -117,7 +246,7 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		Assert.notNull(objectsToSave, "Objects to save must not be null!");
 
-		return Flux.fromIterable(objectsToSave).concatMap(this::save);
+		return saveAll(Flux.fromIterable(objectsToSave));
 	}
 
 	/* (non-Javadoc)
@@ -128,7 +257,119 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		Assert.notNull(objectsToSave, "Object publisher must not be null!");
 
-		return Flux.from(objectsToSave).concatMap(this::save);
+		return forEachChunk(objectsToSave, options.getSaveBatchSize(),
+				chunk -> chunk.size() == 1 ? save(chunk.get(0)) : saveChunk(chunk));
+	}
+
+	/**
+	 * Save a chunk of objects using at most two statements: new objects are inserted with a single multi-row
+	 * {@code INSERT} returning generated keys and existing objects are updated with a single batched {@code UPDATE}.
+	 * Saved objects are emitted in the order of {@code chunk}.
+	 */
+	private <S extends T> Flux<S> saveChunk(List<S> chunk) {
+
+		List<S> toInsert = new ArrayList<>(chunk.size());
+		List<S> toUpdate = new ArrayList<>(chunk.size());
+		boolean[] isNew = new boolean[chunk.size()];
+
+		for (int i = 0; i < chunk.size(); i++) {
+
+			S object = chunk.get(i);
+
+			Assert.notNull(object, "Object to save must not be null!");
+
+			isNew[i] = entity.isNew(object);
+			(isNew[i] ? toInsert : toUpdate).add(object);
+		}
+
+		Mono<List<S>> inserted = toInsert.isEmpty() ? Mono.just(Collections.emptyList())
+				: insertAll(toInsert).collectList();
+
+		return updateAll(toUpdate).then(inserted).flatMapIterable(insertedObjects -> {
+
+			Iterator<S> insertedIterator = insertedObjects.iterator();
+			List<S> saved = new ArrayList<>(chunk.size());
+
+			for (int i = 0; i < chunk.size(); i++) {
+				saved.add(isNew[i] ? insertedIterator.next() : chunk.get(i));
+			}
+
+			return saved;
+		});
+	}
+
+	private <S extends T> Flux<S> insertAll(List<S> objectsToInsert) {
+
+		return Flux.defer(() -> {
+
+			Iterator<S> iterator = objectsToInsert.iterator();
+
+			return databaseClient.insert() //
+					.into(entity.getJavaType()) //
+					.chunkSize(objectsToInsert.size()) //
+					.using(Flux.<T> fromIterable(objectsToInsert)) //
+					.returning(getIdColumnName()) //
+					.exchange() //
+					.flatMapMany(it -> it
+							.extract((row, metadata) -> converter.populateIdIfNecessary(iterator.next()).apply(row, metadata))
+							.all()) //
+					.doOnNext(it -> evict(entity.getRequiredId(it)));
+		});
+	}
+
+	/**
+	 * Update objects using a batched {@code UPDATE} per distinct set of modified columns. Unmodified objects are skipped.
+	 */
+	private <S extends T> Mono<Void> updateAll(List<S> objectsToUpdate) {
+
+		if (objectsToUpdate.isEmpty()) {
+			return Mono.empty();
+		}
+
+		Map<List<String>, List<Map<String, Object>>> bindingsByColumns = new LinkedHashMap<>();
+		Map<List<String>, Map<Object, Map<String, SettableValue>>> statesByColumns = new LinkedHashMap<>();
+
+		for (S object : objectsToUpdate) {
+
+			Object id = entity.getRequiredId(object);
+			Map<String, SettableValue> state = converter.getFieldsToUpdate(object);
+			Map<String, SettableValue> fields = getChangedFields(id, state);
+
+			if (fields.isEmpty()) {
+				continue;
+			}
+
+			Map<String, Object> binding = new LinkedHashMap<>(fields.size() * 2 + 2);
+			binding.put("$1", id);
+
+			int index = 2;
+			for (SettableValue value : fields.values()) {
+				binding.put("$" + index++, value);
+			}
+
+			List<String> columns = new ArrayList<>(fields.keySet());
+			bindingsByColumns.computeIfAbsent(columns, it -> new ArrayList<>()).add(binding);
+			statesByColumns.computeIfAbsent(columns, it -> new LinkedHashMap<>()).put(id, state);
+		}
+
+		return Flux.fromIterable(bindingsByColumns.entrySet()) //
+				.concatMap(it -> {
+
+					Map<Object, Map<String, SettableValue>> states = statesByColumns.get(it.getKey());
+
+					return databaseClient.execute().sql(getUpdateSql(it.getKey())) //
+							.batch(Flux.fromIterable(it.getValue())) //
+							.chunkSize(it.getValue().size()) //
+							.rowsUpdated() //
+							.doOnSubscribe(subscription -> states.keySet().forEach(this::evictCached)) //
+							.reduce(0, Integer::sum) //
+							.flatMap(rowsUpdated -> {
+
+								states.keySet().forEach(this::evictCached);
+								return onUpdated(states, rowsUpdated == states.size());
+							});
+				}) //
+				.then();
 	}
 
 	/* (non-Javadoc)
@@ -139,6 +380,35 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		Assert.notNull(id, "Id must not be null!");
 
+		return track(lookupById(id)).next();
+	}
+
+	private Mono<T> lookupById(ID id) {
+
+		EntityCache cache = options.getEntityCache();
+
+		if (cache == null) {
+			return loadById(id);
+		}
+
+		// Reads within a transaction may see uncommitted rows and must neither populate nor use the shared cache.
+		// Hand out copies so that modifications of a returned entity do not leak into the cached instance.
+		return isTransactionActive().flatMap(transactional -> transactional ? loadById(id)
+				: cache.get(entity.getJavaType(), id, () -> loadById(id)).map(converter::copy));
+	}
+
+	private Mono<T> loadById(ID id) {
+
+		if (loader == null) {
+			return selectById(id);
+		}
+
+		// Coalesced lookups are not bound to the caller's transaction.
+		return isTransactionActive().flatMap(transactional -> transactional ? selectById(id) : loader.load(id));
+	}
+
+	private Mono<T> selectById(ID id) {
+
 		// TODO: Generate proper SQL (select, where clause, parameter binding).
 		return databaseClient.execute()
 				.sql(String.format("SELECT * FROM %s WHERE %s = $1", entity.getTableName(), getIdColumnName())) //
@@ -146,7 +416,6 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 				.as(entity.getJavaType()) //
 				.fetch() //
 				.one();
-
 	}
 
 	/* (non-Javadoc)
@@ -187,7 +456,7 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 	 */
 	@Override
 	public Flux<T> findAll() {
-		return databaseClient.select().from(entity.getJavaType()).fetch().all();
+		return track(databaseClient.select().from(entity.getJavaType()).fetch().all());
 	}
 
 	/* (non-Javadoc)
@@ -209,15 +478,18 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		Assert.notNull(idPublisher, "The Id Publisher must not be null!");
 
-		return Flux.from(idPublisher).buffer().filter(ids -> !ids.isEmpty()).concatMap(ids -> {
+		return track(forEachChunk(idPublisher, options.getIdChunkSize(), this::selectByIds));
+	}
 
-			String bindings = getInBinding(ids);
+	private Flux<T> selectByIds(List<ID> ids) {
 
-			GenericExecuteSpec exec = databaseClient.execute()
-					.sql(String.format("SELECT * FROM %s WHERE %s IN (%s)", entity.getTableName(), getIdColumnName(), bindings));
+		List<Object> bindValues = options.getInListStrategy().getBindValues(ids, options.getIdChunkSize());
+		String predicate = options.getInListStrategy().getPredicate(getIdColumnName(), bindValues);
 
-			return bind(ids, exec).as(entity.getJavaType()).fetch().all();
-		});
+		GenericExecuteSpec exec = databaseClient.execute()
+				.sql(String.format("SELECT * FROM %s WHERE %s", entity.getTableName(), predicate));
+
+		return bind(bindValues, exec).as(entity.getJavaType()).fetch().all();
 	}
 
 	/* (non-Javadoc)
@@ -247,6 +519,8 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 				.bind("$1", id) //
 				.fetch() //
 				.rowsUpdated() //
+				.doOnSubscribe(it -> evict(id)) //
+				.doOnSuccess(it -> evict(id)) //
 				.then();
 	}
 
@@ -258,14 +532,17 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 
 		Assert.notNull(idPublisher, "The Id Publisher must not be null!");
 
-		return Flux.from(idPublisher).buffer().filter(ids -> !ids.isEmpty()).concatMap(ids -> {
+		return forEachChunk(idPublisher, options.getIdChunkSize(), ids -> {
 
-			String bindings = getInBinding(ids);
+			List<Object> bindValues = options.getInListStrategy().getBindValues(ids, options.getIdChunkSize());
+			String predicate = options.getInListStrategy().getPredicate(getIdColumnName(), bindValues);
 
 			GenericExecuteSpec exec = databaseClient.execute()
-					.sql(String.format("DELETE FROM %s WHERE %s IN (%s)", entity.getTableName(), getIdColumnName(), bindings));
+					.sql(String.format("DELETE FROM %s WHERE %s", entity.getTableName(), predicate));
 
-			return bind(ids, exec).as(entity.getJavaType()).fetch().rowsUpdated();
+			return bind(bindValues, exec).as(entity.getJavaType()).fetch().rowsUpdated() //
+					.doOnSubscribe(it -> ids.forEach(this::evict)) //
+					.doOnSuccess(it -> ids.forEach(this::evict));
 		}).then();
 	}
 
@@ -314,16 +591,74 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveCrudRepository<T, I
 	public Mono<Void> deleteAll() {
 
 		return databaseClient.execute().sql(String.format("DELETE FROM %s", entity.getTableName())) //
-				.exchange() //
+				.fetch() //
+				.rowsUpdated() //
+				.doOnSubscribe(it -> evictAll()) //
+				.doOnSuccess(it -> evictAll()) //
 				.then();
 	}
 
-	private String getInBinding(List<ID> ids) {
-		return IntStream.range(1, ids.size() + 1).mapToObj(i -> "$" + i).collect(Collectors.joining(", "));
+	/**
+	 * Discard all cached entities and snapshots of the entity type.
+	 */
+	private void evictAll() {
+
+		EntityCache cache = options.getEntityCache();
+		EntityChangeTracker changeTracker = options.getChangeTracker();
+
+		if (cache != null) {
+			cache.evictAll(entity.getJavaType());
+		}
+
+		if (changeTracker != null) {
+			changeTracker.evictAll(entity.getJavaType());
+		}
+	}
+
+	/**
+	 * Discard the cached entity and the snapshot of the entity identified by {@code id}.
+	 */
+	private void evict(Object id) {
+
+		EntityChangeTracker changeTracker = options.getChangeTracker();
+
+		evictCached(id);
+
+		if (changeTracker != null) {
+			changeTracker.evict(entity.getJavaType(), id);
+		}
+	}
+
+	private void evictCached(Object id) {
+
+		EntityCache cache = options.getEntityCache();
+
+		if (cache != null) {
+			cache.evict(entity.getJavaType(), id);
+		}
+	}
+
+	/**
+	 * Buffer elements into chunks of {@code chunkSize} and apply {@code function} to each chunk. Chunks are processed
+	 * with {@link R2dbcRepositoryOptions#getConcurrency()} and emit their results in chunk order if
+	 * {@link R2dbcRepositoryOptions#isPreserveOrder()} is enabled.
+	 */
+	private <E, R> Flux<R> forEachChunk(Publisher<E> publisher, int chunkSize,
+			Function<List<E>, Publisher<R>> function) {
+
+		Flux<List<E>> chunks = Flux.from(publisher).buffer(chunkSize);
+
+		if (options.getConcurrency() == 1) {
+			return chunks.concatMap(function);
+		}
+
+		return options.isPreserveOrder() //
+				? chunks.flatMapSequential(function, options.getConcurrency()) //
+				: chunks.flatMap(function, options.getConcurrency());
 	}
 
 	@SuppressWarnings("unchecked")
-	private <S extends BindSpec<?>> S bind(List<ID> it, S bindSpec) {
+	private <S extends BindSpec<?>> S bind(List<?> it, S bindSpec) {
 
 		for (int i = 0; i < it.size(); i++) {
 			bindSpec = (S) bindSpec.bind(i, it.get(i));
@@ -57,6 +57,25 @@ public class IndexedBindMarkersUnitTests {
 		verify(statement).bind(1, "bar");
 	}
 
+	@Test
+	public void shouldBindZeroBasedIndexWithPlaceholderOffset() {
+
+		Statement<?> statement = mock(Statement.class);
+
+		BindMarkers bindMarkers = BindMarkersFactory.indexed("$", 1).create();
+
+		BindMarker first = bindMarkers.next();
+		BindMarker second = bindMarkers.next();
+
+		first.bindValue(statement, "foo");
+		second.bindNull(statement, Integer.class);
+
+		assertThat(first.getPlaceholder()).isEqualTo("$1");
+		assertThat(second.getPlaceholder()).isEqualTo("$2");
+		verify(statement).bind(0, "foo");
+		verify(statement).bindNull(1, Integer.class);
+	}
+
 	@Test // gh-15
 	public void bindNullShouldBindByIndex() {
 
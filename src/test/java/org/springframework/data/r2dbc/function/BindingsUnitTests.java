@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+
+/**
+ * Unit tests for {@link Bindings}.
+ *
+ * @author Mark Paluch
+ */
+public class BindingsUnitTests {
+
+	@Test
+	public void emptyBindingsShouldNotContainValues() {
+
+		List<SettableValue> values = new ArrayList<>();
+		Bindings.empty().forEach(values::add);
+
+		assertThat(Bindings.empty().isEmpty()).isTrue();
+		assertThat(values).isEmpty();
+	}
+
+	@Test
+	public void shouldRetainInsertionOrder() {
+
+		Bindings bindings = Bindings.empty() //
+				.and(new SettableValue(0, "foo", null)) //
+				.and(new SettableValue("$2", "bar", null)) //
+				.and(new SettableValue(2, null, String.class));
+
+		List<Object> identifiers = new ArrayList<>();
+		bindings.forEach(it -> identifiers.add(it.getIdentifier()));
+
+		assertThat(bindings.size()).isEqualTo(3);
+		assertThat(identifiers).containsExactly(0, "$2", 2);
+	}
+
+	@Test
+	public void shouldShareStructureWithoutModifyingPredecessor() {
+
+		Bindings first = Bindings.empty().and(new SettableValue(0, "foo", null));
+		Bindings second = first.and(new SettableValue(1, "bar", null));
+		Bindings third = first.and(new SettableValue(1, "baz", null));
+
+		List<Object> values = new ArrayList<>();
+		first.forEach(it -> values.add(it.getValue()));
+		assertThat(values).containsExactly("foo");
+
+		values.clear();
+		second.forEach(it -> values.add(it.getValue()));
+		assertThat(values).containsExactly("foo", "bar");
+
+		values.clear();
+		third.forEach(it -> values.add(it.getValue()));
+		assertThat(values).containsExactly("foo", "baz");
+	}
+
+	@Test
+	public void distinctValuesShouldRetainFirstPositionAndLastValue() {
+
+		Bindings bindings = Bindings.empty() //
+				.and(new SettableValue("name", "foo", null)) //
+				.and(new SettableValue("manual", 12, null)) //
+				.and(new SettableValue("name", "bar", null));
+
+		List<SettableValue> values = bindings.getDistinctValues();
+
+		assertThat(values).extracting(SettableValue::getIdentifier).containsExactly("name", "manual");
+		assertThat(values).extracting(SettableValue::getValue).containsExactly("bar", 12);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.junit.Test;
+import org.springframework.data.r2dbc.function.connectionfactory.ConnectionProxy;
+
+/**
+ * Unit tests for {@link CloseSuppressingConnection}.
+ *
+ * @author Mark Paluch
+ */
+public class CloseSuppressingConnectionUnitTests {
+
+	Connection target = mock(Connection.class);
+
+	@Test
+	public void shouldDelegateCalls() {
+
+		Statement statement = mock(Statement.class);
+		when(target.createStatement("SELECT 1")).thenReturn(statement);
+		when(target.beginTransaction()).thenReturn(Mono.empty());
+
+		CloseSuppressingConnection connection = new CloseSuppressingConnection(target);
+
+		assertThat(connection.createStatement("SELECT 1")).isSameAs(statement);
+		connection.beginTransaction();
+
+		verify(target).beginTransaction();
+	}
+
+	@Test
+	public void shouldSuppressClose() {
+
+		CloseSuppressingConnection connection = new CloseSuppressingConnection(target);
+
+		Mono.from(connection.close()).as(StepVerifier::create) //
+				.expectError(UnsupportedOperationException.class) //
+				.verify();
+
+		verify(target, never()).close();
+	}
+
+	@Test
+	public void shouldUnwrapTargetConnection() throws Exception {
+
+		CloseSuppressingConnection connection = new CloseSuppressingConnection(target);
+
+		assertThat(connection.getTargetConnection()).isSameAs(target);
+		assertThat(connection.unwrap(ConnectionProxy.class)).isSameAs(connection);
+		assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+		assertThat(connection.isWrapperFor(ConnectionProxy.class)).isTrue();
+		assertThat(connection.isWrapperFor(String.class)).isFalse();
+	}
+}
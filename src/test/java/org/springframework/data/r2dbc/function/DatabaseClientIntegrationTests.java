@@ -20,14 +20,19 @@ import static org.springframework.data.domain.Sort.Order.*;
 
 import io.r2dbc.spi.ConnectionFactory;
 import lombok.Data;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Hooks;
 import reactor.test.StepVerifier;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
 import org.springframework.data.r2dbc.testing.R2dbcIntegrationTestSupport;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -76,6 +81,74 @@ public class DatabaseClientIntegrationTests extends R2dbcIntegrationTestSupport
 		assertThat(jdbc.queryForMap("SELECT id, name, manual FROM legoset")).containsEntry("id", 42055);
 	}
 
+	@Test
+	public void executeUpdateReturningRowsAndCount() {
+
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.execute().sql("UPDATE legoset SET manual = $1 WHERE id = $2 RETURNING id") //
+				.bind(0, 13) //
+				.bind(1, 42055) //
+				.fetch().allWithRowsUpdated() //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getRows()).hasSize(1);
+					assertThat(actual.getRows().get(0)).containsEntry("id", 42055);
+					assertThat(actual.getRowsUpdated()).isEqualTo(1);
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void executeBatch() {
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		Flux<Map<String, Object>> bindings = Flux.range(0, 5).map(it -> {
+
+			Map<String, Object> binding = new LinkedHashMap<>();
+			binding.put("$1", 42055 + it);
+			binding.put("$2", "SCHAUFELRADBAGGER");
+			binding.put("$3", new SettableValue("$3", null, Integer.class));
+			return binding;
+		});
+
+		databaseClient.execute().sql("INSERT INTO legoset (id, name, manual) VALUES($1, $2, $3)") //
+				.batch(bindings) //
+				.chunkSize(2) //
+				.rowsUpdated() //
+				.as(StepVerifier::create) //
+				.expectNext(2, 2, 1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM legoset", Integer.class)).isEqualTo(5);
+	}
+
+	@Test
+	public void executeBatchReportsTotalRowsUpdated() {
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		Flux<Map<String, Object>> bindings = Flux.range(0, 3).map(it -> {
+
+			Map<String, Object> binding = new LinkedHashMap<>();
+			binding.put("$1", 42055 + it);
+			binding.put("$2", "SCHAUFELRADBAGGER");
+			return binding;
+		});
+
+		databaseClient.execute().sql("INSERT INTO legoset (id, name, manual) VALUES($1, $2, $3)") //
+				.bindNull("$3", Integer.class) //
+				.batch(bindings) //
+				.fetch().rowsUpdated() //
+				.as(StepVerifier::create) //
+				.expectNext(3) //
+				.verifyComplete();
+	}
+
 	@Test
 	public void shouldTranslateDuplicateKeyException() {
 
@@ -168,6 +241,51 @@ public class DatabaseClientIntegrationTests extends R2dbcIntegrationTestSupport
 		assertThat(jdbc.queryForMap("SELECT id, name, manual FROM legoset")).containsEntry("id", 42055);
 	}
 
+	@Test
+	public void insertTypedObjectReturningGeneratedKeys() {
+
+		LegoSet legoSet = new LegoSet();
+		legoSet.setId(42055);
+		legoSet.setName("SCHAUFELRADBAGGER");
+		legoSet.setManual(12);
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.insert().into(LegoSet.class)//
+				.using(legoSet) //
+				.returning("id") //
+				.exchange() //
+				.flatMapMany(it -> it.extract((r, m) -> m.getColumnMetadatas()).all()) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).hasSize(1)) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForMap("SELECT id, name, manual FROM legoset")).containsEntry("id", 42055);
+	}
+
+	@Test
+	public void insertTypedObjects() {
+
+		Flux<LegoSet> legoSets = Flux.range(0, 5).map(it -> {
+
+			LegoSet legoSet = new LegoSet();
+			legoSet.setId(42055 + it);
+			legoSet.setName("SCHAUFELRADBAGGER");
+			legoSet.setManual(it % 2 == 0 ? 12 : null);
+			return legoSet;
+		});
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.insert().into(LegoSet.class)//
+				.chunkSize(2) //
+				.using(legoSets).exchange() //
+				.flatMapMany(it -> it.extract((r, m) -> r.get("id", Integer.class)).all()).as(StepVerifier::create) //
+				.expectNext(42055, 42056, 42057, 42058, 42059).verifyComplete();
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM legoset", Integer.class)).isEqualTo(5);
+	}
+
 	@Test
 	public void select() {
 
@@ -223,6 +341,64 @@ public class DatabaseClientIntegrationTests extends R2dbcIntegrationTestSupport
 				.verifyComplete();
 	}
 
+	@Test
+	public void selectAfterKeyset() {
+
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42068, 'FLUGHAFEN-LÖSCHFAHRZEUG', 13)");
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.select().from(LegoSet.class) //
+				.after(Sort.by(asc("manual"), desc("id")), 13, 42068) //
+				.limit(1) //
+				.fetch().all() //
+				.map(LegoSet::getId) //
+				.as(StepVerifier::create) //
+				.expectNext(42064) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void selectAllByKeyset() {
+
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42068, 'FLUGHAFEN-LÖSCHFAHRZEUG', 13)");
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.select().from(LegoSet.class) //
+				.orderBy(Sort.by("id")) //
+				.fetchAllByKeyset(2) //
+				.map(LegoSet::getId) //
+				.as(StepVerifier::create) //
+				.expectNext(42055, 42064, 42068) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void selectWithFetchSize() {
+
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (id, name, manual) VALUES(42068, 'FLUGHAFEN-LÖSCHFAHRZEUG', 13)");
+
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.select().from(LegoSet.class) //
+				.orderBy(Sort.by(desc("id"))) //
+				.fetchSize(2) //
+				.fetch().all() //
+				.map(LegoSet::getId) //
+				.as(it -> StepVerifier.create(it, 1)) //
+				.expectNext(42068) //
+				.thenRequest(2) //
+				.expectNext(42064, 42055) //
+				.verifyComplete();
+	}
+
 	@Test
 	public void selectTypedLater() {
 
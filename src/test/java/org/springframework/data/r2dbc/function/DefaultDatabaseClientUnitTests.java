@@ -0,0 +1,337 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+
+/**
+ * Unit tests for {@link DefaultDatabaseClient}.
+ *
+ * @author Mark Paluch
+ */
+public class DefaultDatabaseClientUnitTests {
+
+	ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+	Connection connection = mock(Connection.class);
+	Statement statement = mock(Statement.class);
+	Result result = mock(Result.class);
+
+	DatabaseClient databaseClient;
+
+	@Before
+	public void before() {
+
+		doReturn(Mono.just(connection)).when(connectionFactory).create();
+		doReturn(Mono.empty()).when(connection).close();
+		when(connection.createStatement(anyString())).thenReturn(statement);
+		doReturn(Flux.just(result)).when(statement).execute();
+		doReturn(Mono.just(1)).when(result).getRowsUpdated();
+		doReturn(Flux.empty()).when(result).map(any());
+
+		databaseClient = DatabaseClient.create(connectionFactory);
+	}
+
+	@Test
+	public void shouldObtainConnectionPerStatement() {
+
+		databaseClient.execute().sql("UPDATE legoset SET name = 'a'").fetch().rowsUpdated() //
+				.then(databaseClient.execute().sql("UPDATE legoset SET name = 'b'").fetch().rowsUpdated()) //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		verify(connectionFactory, times(2)).create();
+		verify(connection, times(2)).close();
+	}
+
+	@Test
+	public void allWithRowsUpdatedShouldExecuteOnce() {
+
+		doReturn(Flux.just(Collections.singletonMap("id", 1), Collections.singletonMap("id", 2))).when(result)
+				.map(any());
+		doReturn(Mono.just(2)).when(result).getRowsUpdated();
+
+		databaseClient.execute().sql("UPDATE legoset SET name = 'a' RETURNING id").fetch().allWithRowsUpdated() //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getRows()).hasSize(2);
+					assertThat(actual.getRowsUpdated()).isEqualTo(2);
+				}) //
+				.verifyComplete();
+
+		verify(statement).execute();
+	}
+
+	@Test
+	public void selectAfterShouldRenderRowValueComparison() {
+
+		databaseClient.select().from("legoset") //
+				.after(Sort.by("manual", "id"), 12, 42) //
+				.limit(10) //
+				.fetch().all() //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(connection)
+				.createStatement("SELECT * FROM legoset WHERE (manual, id) > ($1, $2) ORDER BY manual ASC, id ASC LIMIT 10");
+		verify(statement).bind(0, 12);
+		verify(statement).bind(1, 42);
+	}
+
+	@Test
+	public void selectAfterShouldExpandMixedDirections() {
+
+		databaseClient.select().from("legoset") //
+				.after(Sort.by(Order.asc("manual"), Order.desc("id")), 12, 42) //
+				.limit(10) //
+				.fetch().all() //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(connection).createStatement("SELECT * FROM legoset WHERE ((manual > $1) OR (manual = $2 AND id < $3)) "
+				+ "ORDER BY manual ASC, id DESC LIMIT 10");
+		verify(statement).bind(0, 12);
+		verify(statement).bind(1, 12);
+		verify(statement).bind(2, 42);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void selectAfterShouldRejectExplicitNullHandling() {
+
+		databaseClient.select().from("legoset") //
+				.after(Sort.by(Order.asc("manual").nullsLast()), 12) //
+				.fetch();
+	}
+
+	@Test
+	public void fetchAllByKeysetShouldSelectKeyColumns() {
+
+		doReturn(Flux.just(resultOf(1))).when(statement).execute();
+
+		databaseClient.select().from("legoset") //
+				.project("name") //
+				.orderBy(Sort.by("id")) //
+				.fetchAllByKeyset(2) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(connection).createStatement("SELECT name, id FROM legoset ORDER BY id ASC LIMIT 2");
+	}
+
+	@Test
+	public void fetchAllByKeysetShouldRejectNullKeys() {
+
+		Row row = mock(Row.class);
+		doReturn(Flux.just(result)).when(statement).execute();
+		doAnswer(invocation -> Flux.just(row).map(it -> invocation.<BiFunction<Row, RowMetadata, ?>> getArgument(0)
+				.apply(it, mock(RowMetadata.class)))).when(result).map(any());
+
+		databaseClient.select().from("legoset") //
+				.orderBy(Sort.by("manual")) //
+				.fetchAllByKeyset(2) //
+				.as(StepVerifier::create) //
+				.verifyError(InvalidDataAccessApiUsageException.class);
+	}
+
+	@Test
+	public void fetchSizeShouldStreamSortedSelectAsSingleStatement() {
+
+		doReturn(Flux.just(resultOf(1, 2, 2, 3))).when(statement).execute();
+
+		databaseClient.select().from("legoset") //
+				.orderBy(Sort.by("id")) //
+				.fetchSize(2) //
+				.exchange() //
+				.flatMapMany(it -> it.extract((row, metadata) -> row.get("id")).all()) //
+				.as(StepVerifier::create) //
+				.expectNext(1, 2, 2, 3) //
+				.verifyComplete();
+
+		verify(connection).createStatement("SELECT * FROM legoset ORDER BY id ASC");
+		verify(statement).execute();
+	}
+
+	@Test
+	public void fetchSizeShouldStreamUnsortedSelect() {
+
+		doReturn(Flux.just(resultOf(1, 2, 3))).when(statement).execute();
+
+		databaseClient.select().from("legoset") //
+				.fetchSize(2) //
+				.exchange() //
+				.flatMapMany(it -> it.extract((row, metadata) -> row.get("id")).all()) //
+				.as(StepVerifier::create) //
+				.expectNext(1, 2, 3) //
+				.verifyComplete();
+
+		verify(connection).createStatement("SELECT * FROM legoset");
+	}
+
+	@Test
+	public void insertShouldReturnRequestedColumns() {
+
+		databaseClient.insert().into("legoset") //
+				.value("name", "SCHAUFELRADBAGGER") //
+				.returning("id") //
+				.exchange() //
+				.flatMap(FetchSpec::rowsUpdated) //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		verify(connection).createStatement("INSERT INTO legoset (name)  VALUES($1) RETURNING id");
+	}
+
+	@Test
+	public void insertThenShouldNotReturnRows() {
+
+		databaseClient.insert().into("legoset") //
+				.value("name", "SCHAUFELRADBAGGER") //
+				.then() //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(connection).createStatement("INSERT INTO legoset (name)  VALUES($1)");
+	}
+
+	@Test
+	public void executeShouldExpandNamedParameters() {
+
+		databaseClient.execute().sql("SELECT * FROM legoset WHERE id IN (:ids) AND name = :name") //
+				.bind("ids", Arrays.asList(42055, 42064)) //
+				.bind("name", "SCHAUFELRADBAGGER") //
+				.fetch().rowsUpdated() //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		verify(connection).createStatement("SELECT * FROM legoset WHERE id IN ($1, $2) AND name = $3");
+		verify(statement).bind(0, 42055);
+		verify(statement).bind(1, 42064);
+		verify(statement).bind(2, "SCHAUFELRADBAGGER");
+	}
+
+	@Test
+	public void batchShouldRejectUntypedNullValue() {
+
+		databaseClient.execute().sql("INSERT INTO legoset (manual) VALUES($1)") //
+				.batch(Flux.just(Collections.<String, Object> singletonMap("$1", null))) //
+				.rowsUpdated() //
+				.as(StepVerifier::create) //
+				.verifyError(InvalidDataAccessApiUsageException.class);
+
+		verify(statement, never()).bindNull(anyString(), any());
+	}
+
+	@Test
+	public void batchShouldRequestBindingsChunkByChunk() {
+
+		List<Long> requests = new ArrayList<>();
+
+		databaseClient.execute().sql("INSERT INTO legoset (manual) VALUES($1)") //
+				.batch(Flux.range(0, 6).map(it -> Collections.singletonMap("$1", it)).doOnRequest(requests::add)) //
+				.chunkSize(2) //
+				.rowsUpdated() //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		assertThat(requests).isNotEmpty().allMatch(it -> it <= 2);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void batchShouldRejectNamedParameters() {
+
+		databaseClient.execute().sql("INSERT INTO legoset (manual) VALUES(:manual)") //
+				.batch(Flux.just(Collections.singletonMap("manual", 12))) //
+				.rowsUpdated();
+	}
+
+	@Test
+	public void inSessionShouldReuseConnection() {
+
+		databaseClient.inSession(client -> client.execute().sql("UPDATE legoset SET name = 'a'").fetch().rowsUpdated() //
+				.then(client.execute().sql("UPDATE legoset SET name = 'b'").fetch().rowsUpdated())) //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		verify(connectionFactory).create();
+		verify(connection, times(2)).createStatement(anyString());
+		verify(connection).close();
+	}
+
+	@Test
+	public void nestedSessionShouldReuseOuterConnection() {
+
+		databaseClient.inSession(outer -> outer.execute().sql("UPDATE legoset SET name = 'a'").fetch().rowsUpdated() //
+				.thenMany(outer.inSession(
+						inner -> inner.execute().sql("UPDATE legoset SET name = 'b'").fetch().rowsUpdated()))) //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		verify(connectionFactory).create();
+		verify(connection).close();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Result resultOf(Object... ids) {
+
+		Result result = mock(Result.class);
+
+		doAnswer(invocation -> {
+
+			BiFunction<Row, RowMetadata, ?> mappingFunction = invocation.getArgument(0);
+
+			return Flux.fromArray(ids).map(id -> {
+
+				Row row = mock(Row.class);
+				doReturn(id).when(row).get("id");
+
+				return mappingFunction.apply(row, mock(RowMetadata.class));
+			});
+		}).when(result).map(any());
+
+		return result;
+	}
+}
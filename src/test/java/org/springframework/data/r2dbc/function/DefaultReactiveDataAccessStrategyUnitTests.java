@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Data;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Unit tests for {@link DefaultReactiveDataAccessStrategy}.
+ *
+ * @author Mark Paluch
+ */
+public class DefaultReactiveDataAccessStrategyUnitTests {
+
+	DefaultReactiveDataAccessStrategy strategy = new DefaultReactiveDataAccessStrategy();
+
+	@Test
+	public void shouldReuseRowMapper() {
+		assertThat(strategy.getRowMapper(LegoSet.class)).isSameAs(strategy.getRowMapper(LegoSet.class));
+	}
+
+	@Test
+	public void shouldReturnCachedFields() {
+
+		List<String> fields = strategy.getAllFields(LegoSet.class);
+
+		assertThat(fields).containsExactly("id", "name", "manual_no");
+		assertThat(strategy.getAllFields(LegoSet.class)).isSameAs(fields);
+	}
+
+	@Test
+	public void shouldReturnInsertValuesInPropertyOrder() {
+
+		LegoSet legoSet = new LegoSet();
+		legoSet.setName("SCHAUFELRADBAGGER");
+		legoSet.setManual(12);
+
+		List<SettableValue> insert = strategy.getInsert(legoSet);
+
+		assertThat(insert).extracting(SettableValue::getIdentifier).containsExactly("name", "manual_no");
+	}
+
+	@Test
+	public void shouldMapSort() {
+
+		Sort mapped = strategy.getMappedSort(LegoSet.class, Sort.by("manual", "unknown"));
+
+		assertThat(mapped).isEqualTo(Sort.by("manual_no", "unknown"));
+		assertThat(strategy.getMappedSort(LegoSet.class, Sort.by("manual", "unknown"))).isSameAs(mapped);
+	}
+
+	@Test
+	public void shouldReturnTableName() {
+		assertThat(strategy.getTableName(LegoSet.class)).isEqualTo("legoset");
+	}
+
+	@Data
+	@Table("legoset")
+	static class LegoSet {
+
+		@Id Integer id;
+		String name;
+		@Column("manual_no") Integer manual;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.test.StepVerifier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.springframework.data.r2dbc.function.LatencyHistogramExecutionListener.LatencyHistogram;
+
+/**
+ * Unit tests for {@link ExecutionListener} and {@link LatencyHistogramExecutionListener}.
+ *
+ * @author Mark Paluch
+ */
+public class ExecutionListenerUnitTests {
+
+	static final String SQL = "UPDATE legoset SET name = $1 WHERE id = $2";
+
+	ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+	Connection connection = mock(Connection.class);
+	Statement statement = mock(Statement.class);
+	Result result = mock(Result.class);
+
+	@Before
+	public void before() {
+
+		doReturn(Mono.just(connection)).when(connectionFactory).create();
+		doReturn(Mono.empty()).when(connection).close();
+		when(connection.createStatement(SQL)).thenReturn(statement);
+		doReturn(Flux.just(result)).when(statement).execute();
+		doReturn(Mono.just(1)).when(result).getRowsUpdated();
+	}
+
+	@Test
+	public void shouldNotifyListener() {
+
+		ExecutionListener listener = mock(ExecutionListener.class);
+
+		DatabaseClient databaseClient = DatabaseClient.builder() //
+				.connectionFactory(connectionFactory) //
+				.executionListener(listener) //
+				.build();
+
+		databaseClient.execute().sql(SQL) //
+				.bind(0, "SCHAUFELRADBAGGER") //
+				.bind(1, 42) //
+				.fetch().rowsUpdated() //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(listener, statement);
+
+		inOrder.verify(listener).beforeAcquire(SQL);
+		inOrder.verify(listener).afterAcquire(eq(SQL), anyLong());
+		inOrder.verify(statement).bind(1, 42);
+		inOrder.verify(listener).beforeExecute(eq(SQL), eq(2), anyLong());
+		inOrder.verify(statement).execute();
+		inOrder.verify(listener).onResult(eq(SQL), eq(result), anyLong());
+		inOrder.verify(listener).afterRelease(eq(SQL), anyLong());
+		inOrder.verify(listener).afterCompletion(eq(SQL), eq(SignalType.ON_COMPLETE), anyLong());
+	}
+
+	@Test
+	public void shouldRecordLatencyPerSqlTemplate() {
+
+		LatencyHistogramExecutionListener listener = new LatencyHistogramExecutionListener();
+
+		DatabaseClient databaseClient = DatabaseClient.builder() //
+				.connectionFactory(connectionFactory) //
+				.executionListener(listener) //
+				.build();
+
+		for (int i = 0; i < 3; i++) {
+
+			databaseClient.execute().sql(SQL) //
+					.bind(0, "SCHAUFELRADBAGGER") //
+					.bind(1, i) //
+					.fetch().rowsUpdated() //
+					.as(StepVerifier::create) //
+					.expectNext(1) //
+					.verifyComplete();
+		}
+
+		LatencyHistogram histogram = listener.getHistogram(SQL);
+
+		assertThat(listener.getHistograms()).containsOnlyKeys(SQL);
+		assertThat(histogram).isNotNull();
+		assertThat(histogram.getCount()).isEqualTo(3);
+		assertThat(histogram.getErrorCount()).isZero();
+	}
+
+	@Test
+	public void histogramShouldReportPercentiles() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int i = 0; i < 99; i++) {
+			histogram.record(1000, SignalType.ON_COMPLETE);
+		}
+		histogram.record(1_000_000, SignalType.ON_ERROR);
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getErrorCount()).isEqualTo(1);
+		assertThat(histogram.getMaxNanos()).isEqualTo(1_000_000);
+		assertThat(histogram.getPercentileNanos(0.5)).isEqualTo(1023);
+		assertThat(histogram.getPercentileNanos(0.99)).isEqualTo(1023);
+		assertThat(histogram.getPercentileNanos(1)).isEqualTo(1_000_000);
+	}
+
+	@Test
+	public void shouldLimitNumberOfTemplates() {
+
+		LatencyHistogramExecutionListener listener = new LatencyHistogramExecutionListener(1);
+
+		listener.afterCompletion("SELECT 1", SignalType.ON_COMPLETE, 10);
+		listener.afterCompletion("SELECT 2", SignalType.ON_COMPLETE, 10);
+		listener.afterCompletion(null, SignalType.ON_COMPLETE, 10);
+
+		assertThat(listener.getHistograms()).containsOnlyKeys("SELECT 1");
+		assertThat(listener.getDiscardedCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.Statement;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
+import org.springframework.data.r2dbc.function.ParsedSql.PreparedSql;
+import org.springframework.data.r2dbc.function.convert.SettableValue;
+
+/**
+ * Unit tests for {@link NamedParameterExpander}.
+ *
+ * @author Mark Paluch
+ */
+public class NamedParameterExpanderUnitTests {
+
+	BindMarkersFactory postgres = BindMarkersFactory.indexed("$", 1);
+	NamedParameterExpander expander = new NamedParameterExpander();
+
+	@Test
+	public void shouldParseNamedParameters() {
+
+		ParsedSql parsedSql = NamedParameterExpander
+				.parseSqlStatement("SELECT * FROM legoset WHERE name = :name AND manual = :manual OR name = :name");
+
+		assertThat(parsedSql.hasParameters()).isTrue();
+		assertThat(parsedSql.getParameterCount()).isEqualTo(3);
+		assertThat(parsedSql.hasParameter("name")).isTrue();
+		assertThat(parsedSql.hasParameter("manual")).isTrue();
+	}
+
+	@Test
+	public void shouldIgnoreQuotesCommentsAndCasts() {
+
+		ParsedSql parsedSql = NamedParameterExpander.parseSqlStatement(
+				"SELECT ':quoted', \":identifier\", id::text FROM legoset -- :comment\n WHERE /* :block */ id = :id");
+
+		assertThat(parsedSql.getParameterCount()).isEqualTo(1);
+		assertThat(parsedSql.hasParameter("id")).isTrue();
+	}
+
+	@Test
+	public void shouldIgnoreDollarQuotedStrings() {
+
+		ParsedSql parsedSql = NamedParameterExpander.parseSqlStatement(
+				"DO $$ BEGIN PERFORM :body; END $$; SELECT $fn$ :tagged $$ :nested $fn$, $1 FROM legoset WHERE id = :id");
+
+		assertThat(parsedSql.getParameterCount()).isEqualTo(1);
+		assertThat(parsedSql.hasParameter("id")).isTrue();
+	}
+
+	@Test
+	public void shouldNotTreatBindMarkersOrIdentifiersAsDollarQuotes() {
+
+		ParsedSql parsedSql = NamedParameterExpander
+				.parseSqlStatement("SELECT a$b$ FROM legoset WHERE id = $1 AND name = :name AND manual = $2");
+
+		assertThat(parsedSql.getParameterCount()).isEqualTo(1);
+		assertThat(parsedSql.hasParameter("name")).isTrue();
+	}
+
+	@Test
+	public void shouldRenderIndexedBindMarkers() {
+
+		Bindings bindings = Bindings.empty() //
+				.and(new SettableValue("name", "SCHAUFELRADBAGGER", null)) //
+				.and(new SettableValue("manual", null, Integer.class));
+
+		PreparedSql preparedSql = expander.expand(
+				expander.getParsedSql("SELECT * FROM legoset WHERE name = :name AND manual = :manual"), postgres, bindings);
+
+		assertThat(preparedSql.getSql()).isEqualTo("SELECT * FROM legoset WHERE name = $1 AND manual = $2");
+
+		Statement<?> statement = mock(Statement.class);
+		preparedSql.bindTo(statement);
+
+		verify(statement).bind(0, "SCHAUFELRADBAGGER");
+		verify(statement).bindNull(1, Integer.class);
+	}
+
+	@Test
+	public void shouldExpandCollections() {
+
+		Bindings bindings = Bindings.empty() //
+				.and(new SettableValue("ids", Arrays.asList(42055, 42064, 42068), null)) //
+				.and(new SettableValue("name", "SCHAUFELRADBAGGER", null));
+
+		PreparedSql preparedSql = expander
+				.expand(expander.getParsedSql("SELECT * FROM legoset WHERE id IN (:ids) AND name = :name"), postgres, bindings);
+
+		assertThat(preparedSql.getSql()).isEqualTo("SELECT * FROM legoset WHERE id IN ($1, $2, $3) AND name = $4");
+		assertThat(preparedSql.getBindCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void shouldExpandTuples() {
+
+		Bindings bindings = Bindings.empty().and(new SettableValue("pairs",
+				Arrays.asList(new Object[] { 12, 42055 }, new Object[] { 13, 42064 }), null));
+
+		PreparedSql preparedSql = expander.expand(
+				expander.getParsedSql("SELECT * FROM legoset WHERE (manual, id) IN (:pairs)"), postgres, bindings);
+
+		assertThat(preparedSql.getSql()).isEqualTo("SELECT * FROM legoset WHERE (manual, id) IN (($1, $2), ($3, $4))");
+	}
+
+	@Test
+	public void shouldRenderNamedBindMarkers() {
+
+		Bindings bindings = Bindings.empty().and(new SettableValue("name", "SCHAUFELRADBAGGER", null));
+
+		PreparedSql preparedSql = expander.expand(expander.getParsedSql("SELECT * FROM legoset WHERE name = :name"),
+				BindMarkersFactory.named("@", "P", 32), bindings);
+
+		assertThat(preparedSql.getSql()).isEqualTo("SELECT * FROM legoset WHERE name = @P0name");
+	}
+
+	@Test
+	public void shouldCacheParsedSql() {
+
+		String sql = "SELECT * FROM legoset WHERE name = :name";
+
+		assertThat(expander.getParsedSql(sql)).isSameAs(expander.getParsedSql(sql));
+	}
+
+	@Test
+	public void shouldEvictParsedSqlOnceCacheIsFull() {
+
+		NamedParameterExpander expander = new NamedParameterExpander(1);
+
+		ParsedSql first = expander.getParsedSql("SELECT * FROM legoset WHERE id = :id");
+		expander.getParsedSql("SELECT * FROM legoset WHERE name = :name");
+
+		assertThat(expander.getParsedSql("SELECT * FROM legoset WHERE id = :id")).isNotSameAs(first);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void shouldRejectMissingValue() {
+		expander.expand(expander.getParsedSql("SELECT * FROM legoset WHERE name = :name"), postgres, Bindings.empty());
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void shouldRejectEmptyCollection() {
+
+		Bindings bindings = Bindings.empty().and(new SettableValue("ids", Collections.emptyList(), null));
+
+		expander.expand(expander.getParsedSql("SELECT * FROM legoset WHERE id IN (:ids)"), postgres, bindings);
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function.connectionfactory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for {@link PooledConnectionFactory}.
+ *
+ * @author Mark Paluch
+ */
+public class PooledConnectionFactoryUnitTests {
+
+	ConnectionFactory targetConnectionFactory = mock(ConnectionFactory.class);
+	List<Connection> connections = new ArrayList<>();
+
+	PooledConnectionFactory pool;
+
+	@Before
+	public void before() {
+
+		doAnswer(invocation -> {
+
+			Connection connection = mock(Connection.class);
+			doReturn(Mono.empty()).when(connection).close();
+			connections.add(connection);
+
+			return Mono.just(connection);
+		}).when(targetConnectionFactory).create();
+	}
+
+	@After
+	public void after() {
+
+		if (pool != null) {
+			pool.dispose();
+		}
+	}
+
+	@Test
+	public void shouldReuseReleasedConnection() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).build();
+
+		Connection first = pool.create().block();
+
+		assertThat(pool.getActiveCount()).isEqualTo(1);
+
+		Mono.from(first.close()).block();
+
+		assertThat(pool.getActiveCount()).isZero();
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+
+		Connection second = pool.create().block();
+
+		assertThat(((ConnectionProxy) second).getTargetConnection()).isSameAs(connections.get(0));
+		assertThat(connections).hasSize(1);
+		verify(connections.get(0), never()).close();
+	}
+
+	@Test
+	public void shouldHandOutReleasedConnectionToPendingSubscriber() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).maxSize(1).build();
+
+		Connection first = pool.create().block();
+
+		pool.create() //
+				.as(StepVerifier::create) //
+				.then(() -> {
+
+					assertThat(pool.getPendingCount()).isEqualTo(1);
+					Mono.from(first.close()).subscribe();
+				}) //
+				.consumeNextWith(it -> assertThat(((ConnectionProxy) it).getTargetConnection()).isSameAs(connections.get(0))) //
+				.verifyComplete();
+
+		assertThat(pool.getPendingCount()).isZero();
+		assertThat(connections).hasSize(1);
+	}
+
+	@Test
+	public void shouldFailAfterAcquireTimeout() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).maxSize(1)
+				.acquireTimeout(Duration.ofMillis(50)).build();
+
+		pool.create().block();
+
+		pool.create() //
+				.as(StepVerifier::create) //
+				.expectError(DataAccessResourceFailureException.class) //
+				.verify(Duration.ofSeconds(5));
+
+		assertThat(pool.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void shouldCloseExpiredConnectionOnRelease() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).maxLifeTime(Duration.ofNanos(1)).build();
+
+		Connection connection = pool.create().block();
+		Mono.from(connection.close()).block();
+
+		assertThat(pool.getIdleCount()).isZero();
+		assertThat(pool.getAllocatedCount()).isZero();
+		verify(connections.get(0)).close();
+	}
+
+	@Test
+	public void shouldDiscardConnectionFailingValidation() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).validationQuery("SELECT 1").build();
+
+		Mono.from(pool.create().block().close()).block();
+
+		Statement statement = mock(Statement.class);
+		doReturn(Flux.error(new IllegalStateException())).when(statement).execute();
+		when(connections.get(0).createStatement("SELECT 1")).thenReturn(statement);
+
+		Connection connection = pool.create().block();
+
+		assertThat(((ConnectionProxy) connection).getTargetConnection()).isSameAs(connections.get(1));
+		assertThat(pool.getAllocatedCount()).isEqualTo(1);
+		verify(connections.get(0)).close();
+	}
+
+	@Test
+	public void warmupShouldAllocateIdleConnections() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).initialSize(3).build();
+
+		pool.warmup() //
+				.as(StepVerifier::create) //
+				.expectNext(3) //
+				.verifyComplete();
+
+		assertThat(pool.getIdleCount()).isEqualTo(3);
+		assertThat(pool.getActiveCount()).isZero();
+	}
+
+	@Test
+	public void firstCreateShouldWarmUpPool() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).initialSize(3).build();
+
+		pool.create().block();
+
+		assertThat(pool.getAllocatedCount()).isEqualTo(3);
+		assertThat(pool.getIdleCount()).isEqualTo(2);
+		assertThat(pool.getActiveCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void closeShouldRollBackActiveTransaction() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).build();
+
+		Connection connection = pool.create().block();
+		Connection target = connections.get(0);
+		doReturn(Mono.empty()).when(target).beginTransaction();
+		doReturn(Mono.empty()).when(target).rollbackTransaction();
+
+		Mono.from(connection.beginTransaction()).then(Mono.from(connection.close())).block();
+
+		verify(target).rollbackTransaction();
+		verify(target, never()).close();
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void closeShouldNotRollBackCompletedTransaction() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).build();
+
+		Connection connection = pool.create().block();
+		Connection target = connections.get(0);
+		doReturn(Mono.empty()).when(target).beginTransaction();
+		doReturn(Mono.empty()).when(target).commitTransaction();
+
+		Mono.from(connection.beginTransaction()) //
+				.then(Mono.from(connection.commitTransaction())) //
+				.then(Mono.from(connection.close())) //
+				.block();
+
+		verify(target, never()).rollbackTransaction();
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void closeShouldDiscardConnectionFailingRollback() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).build();
+
+		Connection connection = pool.create().block();
+		Connection target = connections.get(0);
+		doReturn(Mono.empty()).when(target).beginTransaction();
+		doReturn(Mono.error(new IllegalStateException())).when(target).rollbackTransaction();
+
+		Mono.from(connection.beginTransaction()).then(Mono.from(connection.close())).block();
+
+		verify(target).close();
+		assertThat(pool.getAllocatedCount()).isZero();
+	}
+
+	@Test
+	public void closeShouldDiscardConnectionWithChangedIsolationLevel() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).build();
+
+		Connection connection = pool.create().block();
+		Connection target = connections.get(0);
+		doReturn(Mono.empty()).when(target).setTransactionIsolationLevel(IsolationLevel.SERIALIZABLE);
+
+		Mono.from(connection.setTransactionIsolationLevel(IsolationLevel.SERIALIZABLE))
+				.then(Mono.from(connection.close())).block();
+
+		verify(target).close();
+		assertThat(pool.getAllocatedCount()).isZero();
+	}
+
+	@Test
+	public void closedHandleShouldRejectCalls() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).build();
+
+		Connection connection = pool.create().block();
+		Mono.from(connection.close()).block();
+
+		assertThatIllegalStateException().isThrownBy(() -> connection.createStatement("SELECT 1"));
+
+		Mono.from(connection.close()).block();
+
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void disposeShouldCloseIdleConnections() {
+
+		pool = PooledConnectionFactory.builder(targetConnectionFactory).initialSize(2).build();
+		pool.warmup().block();
+
+		pool.dispose();
+
+		assertThat(pool.isDisposed()).isTrue();
+		verify(connections.get(0)).close();
+		verify(connections.get(1)).close();
+
+		pool.create() //
+				.as(StepVerifier::create) //
+				.expectError(DataAccessResourceFailureException.class) //
+				.verify();
+	}
+}
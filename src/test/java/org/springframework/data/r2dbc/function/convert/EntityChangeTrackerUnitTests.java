@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link EntityChangeTracker}.
+ *
+ * @author Mark Paluch
+ */
+public class EntityChangeTrackerUnitTests {
+
+	RelationalMappingContext mappingContext = new RelationalMappingContext();
+	MappingR2dbcConverter converter = new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext));
+	EntityChangeTracker changeTracker = new EntityChangeTracker();
+
+	@Test
+	public void shouldReturnAllFieldsWithoutSnapshot() {
+
+		LegoSet legoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+		Map<String, SettableValue> fields = converter.getFieldsToUpdate(legoSet);
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, fields)).isSameAs(fields);
+	}
+
+	@Test
+	public void shouldReturnModifiedFields() {
+
+		LegoSet legoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+		changeTracker.snapshot(mappingContext.getRequiredPersistentEntity(LegoSet.class), legoSet);
+
+		legoSet.setManual(null);
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet)))
+				.containsOnlyKeys("manual");
+	}
+
+	@Test
+	public void shouldReturnNoFieldsForUnmodifiedEntity() {
+
+		LegoSet legoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+		changeTracker.snapshot(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet));
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet))).isEmpty();
+	}
+
+	@Test
+	public void shouldTrackEntitiesByTypeAndId() {
+
+		LegoSet legoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+		changeTracker.snapshot(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet));
+
+		LegoSet copy = new LegoSet(42, "FORSCHUNGSSCHIFF", 12);
+		LegoSet other = new LegoSet(43, "FORSCHUNGSSCHIFF", 12);
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, converter.getFieldsToUpdate(copy)))
+				.containsOnlyKeys("name");
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 43, converter.getFieldsToUpdate(other))).hasSize(3);
+	}
+
+	@Test
+	public void shouldNotTrackEntitiesWithoutId() {
+
+		LegoSet legoSet = new LegoSet(null, "SCHAUFELRADBAGGER", 12);
+		changeTracker.snapshot(mappingContext.getRequiredPersistentEntity(LegoSet.class), legoSet);
+
+		legoSet.setId(42);
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet))).hasSize(3);
+	}
+
+	@Test
+	public void evictShouldDiscardSnapshot() {
+
+		LegoSet legoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+		changeTracker.snapshot(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet));
+		changeTracker.evict(LegoSet.class, 42);
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet))).hasSize(3);
+	}
+
+	@Test
+	public void evictAllShouldDiscardSnapshotsOfType() {
+
+		LegoSet legoSet = new LegoSet(42, "SCHAUFELRADBAGGER", 12);
+		changeTracker.snapshot(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet));
+		changeTracker.snapshot(Object.class, 42, converter.getFieldsToUpdate(legoSet));
+		changeTracker.evictAll(LegoSet.class);
+
+		assertThat(changeTracker.getChangedFields(LegoSet.class, 42, converter.getFieldsToUpdate(legoSet))).hasSize(3);
+		assertThat(changeTracker.getChangedFields(Object.class, 42, converter.getFieldsToUpdate(legoSet))).isEmpty();
+	}
+
+	@Data
+	@AllArgsConstructor
+	static class LegoSet {
+
+		@Id Integer id;
+		String name;
+		Integer manual;
+	}
+}
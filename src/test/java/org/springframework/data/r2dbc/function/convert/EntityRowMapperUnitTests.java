@@ -0,0 +1,213 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.function.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.Data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link EntityRowMapper}.
+ *
+ * @author Mark Paluch
+ */
+public class EntityRowMapperUnitTests {
+
+	RelationalMappingContext mappingContext = new RelationalMappingContext();
+	BasicRelationalConverter converter = new BasicRelationalConverter(mappingContext);
+
+	@Test
+	public void shouldReadColumnsByIndex() {
+
+		RowMetadata metadata = metadata("id", "name", "manual");
+		Row row = mock(Row.class);
+		when(row.get(0)).thenReturn(42L);
+		when(row.get(1)).thenReturn("SCHAUFELRADBAGGER");
+		when(row.get(2)).thenReturn(12);
+
+		LegoSet legoSet = mapper(LegoSet.class).apply(row, metadata);
+
+		assertThat(legoSet.getId()).isEqualTo(42);
+		assertThat(legoSet.getName()).isEqualTo("SCHAUFELRADBAGGER");
+		assertThat(legoSet.getManual()).isEqualTo(12);
+		verify(row, never()).get("name");
+	}
+
+	@Test
+	public void shouldReadMissingColumnsByName() {
+
+		RowMetadata metadata = metadata("id");
+		Row row = mock(Row.class);
+		when(row.get(0)).thenReturn(42);
+		when(row.get("name")).thenReturn("SCHAUFELRADBAGGER");
+
+		LegoSet legoSet = mapper(LegoSet.class).apply(row, metadata);
+
+		assertThat(legoSet.getId()).isEqualTo(42);
+		assertThat(legoSet.getName()).isEqualTo("SCHAUFELRADBAGGER");
+	}
+
+	@Test
+	public void shouldResolveColumnPositionsOncePerMetadata() {
+
+		RowMetadata metadata = metadata("manual", "name", "id");
+		Row row = mock(Row.class);
+		when(row.get(0)).thenReturn(12);
+		when(row.get(1)).thenReturn("SCHAUFELRADBAGGER");
+		when(row.get(2)).thenReturn(42);
+
+		EntityRowMapper<LegoSet> mapper = mapper(LegoSet.class);
+
+		mapper.apply(row, metadata);
+		LegoSet legoSet = mapper.apply(row, metadata);
+
+		assertThat(legoSet.getId()).isEqualTo(42);
+		assertThat(legoSet.getManual()).isEqualTo(12);
+		verify(metadata, times(1)).getColumnMetadatas();
+	}
+
+	@Test
+	public void shouldReResolveColumnPositionsForDifferentColumns() {
+
+		Row first = mock(Row.class);
+		when(first.get(0)).thenReturn(42);
+		when(first.get(1)).thenReturn("SCHAUFELRADBAGGER");
+
+		Row second = mock(Row.class);
+		when(second.get(0)).thenReturn("FORSCHUNGSSCHIFF");
+		when(second.get(1)).thenReturn(43);
+
+		EntityRowMapper<LegoSet> mapper = mapper(LegoSet.class);
+
+		mapper.apply(first, metadata("id", "name"));
+		LegoSet legoSet = mapper.apply(second, metadata("name", "id"));
+
+		assertThat(legoSet.getId()).isEqualTo(43);
+		assertThat(legoSet.getName()).isEqualTo("FORSCHUNGSSCHIFF");
+	}
+
+	@Test
+	public void shouldRetainColumnPositionsForAlternatingLayouts() {
+
+		Row first = mock(Row.class);
+		when(first.get(0)).thenReturn(42);
+		when(first.get(1)).thenReturn("SCHAUFELRADBAGGER");
+
+		Row second = mock(Row.class);
+		when(second.get(0)).thenReturn("FORSCHUNGSSCHIFF");
+		when(second.get(1)).thenReturn(43);
+
+		EntityRowMapper<LegoSet> mapper = mapper(LegoSet.class);
+		RowMetadata firstMetadata = metadata("id", "name");
+		RowMetadata secondMetadata = metadata("name", "id");
+
+		mapper.apply(first, firstMetadata);
+		mapper.apply(second, secondMetadata);
+
+		LegoSet legoSet = mapper.apply(first, metadata("id", "name"));
+
+		assertThat(legoSet.getId()).isEqualTo(42);
+		assertThat(legoSet.getName()).isEqualTo("SCHAUFELRADBAGGER");
+		verify(first, times(2)).get(0);
+		verify(first, never()).get("name");
+	}
+
+	@Test
+	public void shouldReuseColumnPositionsForPerRowMetadata() {
+
+		Row row = mock(Row.class);
+		when(row.get(0)).thenReturn("SCHAUFELRADBAGGER");
+		when(row.get(1)).thenReturn(42);
+
+		EntityRowMapper<LegoSet> mapper = mapper(LegoSet.class);
+
+		mapper.apply(row, metadata("name", "id"));
+		LegoSet legoSet = mapper.apply(row, metadata("name", "id"));
+
+		assertThat(legoSet.getId()).isEqualTo(42);
+		assertThat(legoSet.getName()).isEqualTo("SCHAUFELRADBAGGER");
+		verify(row, times(2)).get(1);
+		verify(row, never()).get("id");
+	}
+
+	@Test
+	public void shouldReadConstructorArguments() {
+
+		RowMetadata metadata = metadata("id", "name");
+		Row row = mock(Row.class);
+		when(row.get(0)).thenReturn(42);
+		when(row.get(1)).thenReturn("SCHAUFELRADBAGGER");
+
+		ImmutableLegoSet legoSet = mapper(ImmutableLegoSet.class).apply(row, metadata);
+
+		assertThat(legoSet.id).isEqualTo(42L);
+		assertThat(legoSet.name).isEqualTo("SCHAUFELRADBAGGER");
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> mapper(Class<T> type) {
+		return new EntityRowMapper<>((RelationalPersistentEntity<T>) mappingContext.getRequiredPersistentEntity(type),
+				converter);
+	}
+
+	private static RowMetadata metadata(String... columnNames) {
+
+		List<ColumnMetadata> columns = Arrays.stream(columnNames).map(it -> {
+
+			ColumnMetadata column = mock(ColumnMetadata.class);
+			when(column.getName()).thenReturn(it);
+			return column;
+		}).collect(Collectors.toList());
+
+		RowMetadata metadata = mock(RowMetadata.class);
+		doReturn(columns).when(metadata).getColumnMetadatas();
+
+		return metadata;
+	}
+
+	@Data
+	static class LegoSet {
+
+		@Id int id;
+		String name;
+		Integer manual;
+	}
+
+	static class ImmutableLegoSet {
+
+		final @Id long id;
+		final String name;
+
+		ImmutableLegoSet(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
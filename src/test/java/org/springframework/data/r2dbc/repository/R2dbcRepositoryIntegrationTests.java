@@ -27,6 +27,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
@@ -38,6 +39,7 @@ import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.function.DefaultReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.function.TransactionalDatabaseClient;
 import org.springframework.data.r2dbc.repository.config.AbstractR2dbcConfiguration;
@@ -145,6 +147,68 @@ public class R2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestSupport
 				}).verifyComplete();
 	}
 
+	@Test
+	public void shouldFindItemsUsingDerivedQuery() {
+
+		shouldInsertNewItems();
+
+		repository.findByManualGreaterThanOrderByNameAsc(11) //
+				.map(LegoSet::getName) //
+				.as(StepVerifier::create) //
+				.expectNext("FORSCHUNGSSCHIFF", "SCHAUFELRADBAGGER") //
+				.verifyComplete();
+
+		repository
+				.findFirstByNameIn(Arrays.asList("SCHAUFELRADBAGGER", "FORSCHUNGSSCHIFF"), Sort.by("manual").descending()) //
+				.map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(13) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldCountExistsAndDeleteUsingDerivedQuery() {
+
+		shouldInsertNewItems();
+
+		repository.countByManualLessThan(13) //
+				.as(StepVerifier::create) //
+				.expectNext(1L) //
+				.verifyComplete();
+
+		repository.existsByName("FORSCHUNGSSCHIFF") //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		repository.deleteByName("FORSCHUNGSSCHIFF") //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		repository.existsByName("FORSCHUNGSSCHIFF") //
+				.as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldFindProjectionsUsingDerivedQuery() {
+
+		shouldInsertNewItems();
+
+		repository.findByManualLessThan(13) //
+				.map(Named::getName) //
+				.as(StepVerifier::create) //
+				.expectNext("SCHAUFELRADBAGGER") //
+				.verifyComplete();
+
+		repository.findByNameStartingWith("FORSCHUNG") //
+				.as(StepVerifier::create) //
+				.expectNext(new LegoSetSummary("FORSCHUNGSSCHIFF", 13)) //
+				.verifyComplete();
+	}
+
 	@Test
 	public void shouldInsertItemsTransactional() {
 
@@ -185,6 +249,20 @@ public class R2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestSupport
 
 		@Query("SELECT * FROM repo_legoset WHERE manual = $1")
 		Mono<LegoSet> findByManual(int manual);
+
+		Flux<LegoSet> findByManualGreaterThanOrderByNameAsc(int manual);
+
+		Flux<LegoSet> findFirstByNameIn(Collection<String> names, Sort sort);
+
+		Mono<Long> countByManualLessThan(int manual);
+
+		Mono<Boolean> existsByName(String name);
+
+		Mono<Integer> deleteByName(String name);
+
+		Flux<Named> findByManualLessThan(int manual);
+
+		Flux<LegoSetSummary> findByNameStartingWith(String prefix);
 	}
 
 	@Data
@@ -200,4 +278,11 @@ public class R2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestSupport
 	interface Named {
 		String getName();
 	}
+
+	@Data
+	@AllArgsConstructor
+	static class LegoSetSummary {
+		String name;
+		Integer manual;
+	}
 }
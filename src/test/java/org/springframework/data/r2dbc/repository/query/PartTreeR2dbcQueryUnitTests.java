@@ -0,0 +1,428 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.r2dbc.function.DatabaseClient;
+import org.springframework.data.r2dbc.function.DatabaseClient.GenericExecuteSpec;
+import org.springframework.data.r2dbc.function.DatabaseClient.SqlSpec;
+import org.springframework.data.r2dbc.function.DatabaseClient.TypedExecuteSpec;
+import org.springframework.data.r2dbc.function.FetchSpec;
+import org.springframework.data.r2dbc.function.convert.MappingR2dbcConverter;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link PartTreeR2dbcQuery}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class PartTreeR2dbcQueryUnitTests {
+
+	@Mock private DatabaseClient databaseClient;
+	@Mock private GenericExecuteSpec bindSpec;
+
+	private MappingR2dbcConverter converter;
+	private ProjectionFactory factory;
+	private RepositoryMetadata metadata;
+
+	@Before
+	public void setUp() {
+
+		this.converter = new MappingR2dbcConverter(new BasicRelationalConverter(new RelationalMappingContext()));
+		this.metadata = AbstractRepositoryMetadata.getMetadata(SampleRepository.class);
+		this.factory = new SpelAwareProxyProjectionFactory();
+
+		when(bindSpec.bind(anyString(), any())).thenReturn(bindSpec);
+		when(bindSpec.bindNull(anyString(), any())).thenReturn(bindSpec);
+	}
+
+	@Test
+	public void shouldRenderSimplePropertyPredicates() {
+
+		BindableQuery query = createQuery("findByLastnameAndAge", "White", 42);
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE lastname = :p0 AND age = :p1");
+
+		query.bind(bindSpec);
+
+		verify(bindSpec).bind("p0", "White");
+		verify(bindSpec).bind("p1", 42);
+	}
+
+	@Test
+	public void shouldRenderOrPredicates() {
+
+		BindableQuery query = createQuery("findByLastnameOrAgeGreaterThan", "White", 42);
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE (lastname = :p0) OR (age > :p1)");
+	}
+
+	@Test
+	public void shouldRenderStaticSortAndLimit() {
+
+		BindableQuery query = createQuery("findTop3ByActiveTrueOrderByLastnameDesc");
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE active = TRUE ORDER BY lastname DESC LIMIT 3");
+	}
+
+	@Test
+	public void shouldReuseRenderedSql() {
+
+		PartTreeR2dbcQuery query = getQueryMethod("findByLastnameAndAge", String.class, int.class);
+
+		String first = query.createQuery(new R2dbcParameterAccessor(query.getQueryMethod(), "White", 42)).get();
+		String second = query.createQuery(new R2dbcParameterAccessor(query.getQueryMethod(), "Pinkman", 27)).get();
+
+		assertThat(first).isSameAs(second);
+	}
+
+	@Test
+	public void shouldAppendDynamicSort() {
+
+		BindableQuery query = createQuery("findByLastname", "White", Sort.by("age").descending());
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE lastname = :p0 ORDER BY age DESC");
+	}
+
+	@Test
+	public void shouldAppendPaging() {
+
+		BindableQuery query = createQuery("findByLastname", "White", PageRequest.of(2, 10, Sort.by("age")));
+
+		assertThat(query.get())
+				.isEqualTo("SELECT * FROM person WHERE lastname = :p0 ORDER BY age ASC LIMIT 10 OFFSET 20");
+	}
+
+	@Test
+	public void shouldLimitPageToMaxResults() {
+
+		BindableQuery query = createQuery("findTop3ByLastname", "White", PageRequest.of(0, 2));
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE lastname = :p0 LIMIT 2");
+
+		query = createQuery("findTop3ByLastname", "White", PageRequest.of(1, 2));
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE lastname = :p0 LIMIT 1 OFFSET 2");
+	}
+
+	@Test
+	public void shouldRenderEmptyPageBeyondMaxResults() {
+
+		BindableQuery query = createQuery("findTop3ByLastname", "White", PageRequest.of(1, 10));
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE lastname = :p0 LIMIT 0 OFFSET 10");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectUnknownSortProperty() {
+		createQuery("findByLastname", "White", Sort.by("age; DROP TABLE person")).get();
+	}
+
+	@Test
+	public void shouldWrapLikePatterns() {
+
+		BindableQuery query = createQuery("findByLastnameStartingWithAndFirstnameContainingIgnoreCase", "Wh", "al");
+
+		assertThat(query.get())
+				.isEqualTo("SELECT * FROM person WHERE lastname LIKE :p0 AND UPPER(firstname) LIKE UPPER(:p1)");
+
+		query.bind(bindSpec);
+
+		verify(bindSpec).bind("p0", "Wh%");
+		verify(bindSpec).bind("p1", "%al%");
+	}
+
+	@Test
+	public void shouldRenderInAndBetween() {
+
+		BindableQuery query = createQuery("findByAgeInAndAgeBetween", Arrays.asList(1, 2), 0, 10);
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE age IN (:p0) AND age BETWEEN :p1 AND :p2");
+
+		query.bind(bindSpec);
+
+		verify(bindSpec).bind("p0", Arrays.asList(1, 2));
+		verify(bindSpec).bind("p1", 0);
+		verify(bindSpec).bind("p2", 10);
+	}
+
+	@Test
+	public void shouldRenderEmptyInAsConstantCondition() {
+
+		BindableQuery query = createQuery("findByAgeInAndAgeBetween", Collections.emptyList(), 0, 10);
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE 1 = 0 AND age BETWEEN :p1 AND :p2");
+
+		query.bind(bindSpec);
+
+		verify(bindSpec, never()).bind(eq("p0"), any());
+		verify(bindSpec).bind("p1", 0);
+		verify(bindSpec).bind("p2", 10);
+	}
+
+	@Test
+	public void shouldRenderEmptyNotInAsConstantCondition() {
+
+		BindableQuery query = createQuery("findByAgeNotIn", (Object) new Integer[0]);
+
+		assertThat(query.get()).isEqualTo("SELECT * FROM person WHERE 1 = 1");
+
+		query.bind(bindSpec);
+
+		verify(bindSpec, never()).bind(anyString(), any());
+	}
+
+	@Test
+	public void shouldNotReuseRenderedSqlForEmptyIn() {
+
+		PartTreeR2dbcQuery query = getQueryMethod("findByAgeNotIn", Integer[].class);
+
+		String empty = query.createQuery(new R2dbcParameterAccessor(query.getQueryMethod(), (Object) new Integer[0]))
+				.get();
+		String nonEmpty = query
+				.createQuery(new R2dbcParameterAccessor(query.getQueryMethod(), (Object) new Integer[] { 1 })).get();
+
+		assertThat(empty).isEqualTo("SELECT * FROM person WHERE 1 = 1");
+		assertThat(nonEmpty).isEqualTo("SELECT * FROM person WHERE age NOT IN (:p0)");
+	}
+
+	@Test
+	public void shouldBindNullValues() {
+
+		createQuery("findByLastname", null, Sort.unsorted()).bind(bindSpec);
+
+		verify(bindSpec).bindNull("p0", String.class);
+	}
+
+	@Test
+	public void shouldRenderCountExistsAndDelete() {
+
+		assertThat(createQuery("countByLastname", "White").get())
+				.isEqualTo("SELECT COUNT(*) FROM person WHERE lastname = :p0");
+		assertThat(createQuery("existsByLastname", "White").get())
+				.isEqualTo("SELECT 1 FROM person WHERE lastname = :p0 LIMIT 1");
+		assertThat(createQuery("deleteByAgeLessThan", 18).get()).isEqualTo("DELETE FROM person WHERE age < :p0");
+	}
+
+	@Test
+	public void shouldRenderNullChecks() {
+		assertThat(createQuery("findByFirstnameIsNull").get()).isEqualTo("SELECT * FROM person WHERE firstname IS NULL");
+	}
+
+	@Test
+	public void shouldSelectColumnsOfClosedProjection() {
+		assertThat(createQuery("findByAgeGreaterThan", 18).get())
+				.isEqualTo("SELECT firstname, lastname FROM person WHERE age > :p0");
+	}
+
+	@Test
+	public void shouldSelectColumnsOfDtoProjection() {
+		assertThat(createQuery("findDistinctByActiveTrue").get())
+				.isEqualTo("SELECT DISTINCT age, firstname FROM person WHERE active = TRUE");
+	}
+
+	@Test
+	public void shouldSelectAllColumnsForOpenProjection() {
+		assertThat(createQuery("findByAgeLessThan", 18).get()).isEqualTo("SELECT * FROM person WHERE age < :p0");
+	}
+
+	@Test
+	public void shouldSelectColumnsOfDynamicProjection() {
+
+		assertThat(createQuery("findByFirstname", "Walter", PersonSummary.class).get())
+				.isEqualTo("SELECT firstname, lastname FROM person WHERE firstname = :p0");
+		assertThat(createQuery("findByFirstname", "Walter", Person.class).get())
+				.isEqualTo("SELECT * FROM person WHERE firstname = :p0");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldReuseExecutionPlan() {
+
+		SqlSpec sqlSpec = mock(SqlSpec.class);
+		TypedExecuteSpec<Person> typedSpec = mock(TypedExecuteSpec.class);
+		FetchSpec<Person> fetchSpec = mock(FetchSpec.class);
+		Person person = new Person();
+
+		when(databaseClient.execute()).thenReturn(sqlSpec);
+		when(sqlSpec.sql(any(Supplier.class))).thenReturn(bindSpec);
+		when(bindSpec.as(Person.class)).thenReturn(typedSpec);
+		when(typedSpec.fetch()).thenReturn(fetchSpec);
+		when(fetchSpec.all()).thenReturn(Flux.just(person));
+
+		PartTreeR2dbcQuery query = getQueryMethod("findByLastnameAndAge", String.class, int.class);
+
+		for (int i = 0; i < 2; i++) {
+
+			((Flux<Object>) query.execute(new Object[] { "White", 42 })) //
+					.as(StepVerifier::create) //
+					.expectNext(person) //
+					.verifyComplete();
+		}
+
+		verify(bindSpec, times(2)).as(Person.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnsupportedKeyword() {
+		getQueryMethod("findByLastnameRegex", String.class);
+	}
+
+	private BindableQuery createQuery(String name, Object... args) {
+
+		Method method = Arrays.stream(SampleRepository.class.getMethods()) //
+				.filter(it -> it.getName().equals(name) && isApplicable(it, args)) //
+				.findFirst() //
+				.orElseThrow(IllegalArgumentException::new);
+
+		PartTreeR2dbcQuery query = getQueryMethod(name, method.getParameterTypes());
+
+		return query.createQuery(new R2dbcParameterAccessor(query.getQueryMethod(), args));
+	}
+
+	private static boolean isApplicable(Method method, Object[] args) {
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		if (parameterTypes.length != args.length) {
+			return false;
+		}
+
+		for (int i = 0; i < args.length; i++) {
+			if (!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private PartTreeR2dbcQuery getQueryMethod(String name, Class<?>... args) {
+
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
+
+		R2dbcQueryMethod queryMethod = new R2dbcQueryMethod(method, metadata, factory, converter.getMappingContext());
+
+		return new PartTreeR2dbcQuery(queryMethod, databaseClient, converter);
+	}
+
+	@SuppressWarnings("unused")
+	private interface SampleRepository extends Repository<Person, String> {
+
+		Flux<Person> findByLastnameAndAge(String lastname, int age);
+
+		Flux<Person> findByLastnameOrAgeGreaterThan(String lastname, int age);
+
+		Flux<Person> findTop3ByActiveTrueOrderByLastnameDesc();
+
+		Flux<Person> findByLastname(String lastname, Sort sort);
+
+		Flux<Person> findByLastname(String lastname, Pageable pageable);
+
+		Flux<Person> findByLastnameStartingWithAndFirstnameContainingIgnoreCase(String lastname, String firstname);
+
+		Flux<Person> findByAgeInAndAgeBetween(Collection<Integer> ages, int from, int to);
+
+		Flux<Person> findByAgeNotIn(Integer[] ages);
+
+		Flux<Person> findTop3ByLastname(String lastname, Pageable pageable);
+
+		Flux<Person> findByFirstnameIsNull();
+
+		Flux<Person> findByLastnameRegex(String lastname);
+
+		Mono<Long> countByLastname(String lastname);
+
+		Mono<Boolean> existsByLastname(String lastname);
+
+		Mono<Integer> deleteByAgeLessThan(int age);
+
+		Flux<PersonSummary> findByAgeGreaterThan(int age);
+
+		Flux<PersonDto> findDistinctByActiveTrue();
+
+		Flux<OpenProjection> findByAgeLessThan(int age);
+
+		<T> Flux<T> findByFirstname(String firstname, Class<T> type);
+	}
+
+	interface PersonSummary {
+
+		String getFirstname();
+
+		String getLastname();
+	}
+
+	interface OpenProjection {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+	}
+
+	static class PersonDto {
+
+		int age;
+		String firstname;
+
+		PersonDto(int age, String firstname) {
+			this.age = age;
+			this.firstname = firstname;
+		}
+	}
+
+	static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+		int age;
+		boolean active;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link R2dbcParameterAccessor}.
+ *
+ * @author Mark Paluch
+ */
+public class R2dbcParameterAccessorUnitTests {
+
+	R2dbcQueryMethod queryMethod;
+
+	@Before
+	public void setUp() {
+
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, "findByLastnameAndAgeIn", Mono.class,
+				Flux.class);
+
+		this.queryMethod = new R2dbcQueryMethod(method, AbstractRepositoryMetadata.getMetadata(SampleRepository.class),
+				new SpelAwareProxyProjectionFactory(), new RelationalMappingContext());
+	}
+
+	@Test
+	public void shouldResolveReactiveParameters() {
+
+		new R2dbcParameterAccessor(queryMethod, Mono.just("White"), Flux.just(42, 43)).resolveParameters() //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getBindableValue(0)).isEqualTo("White");
+					assertThat(actual.getBindableValue(1)).isEqualTo(Arrays.asList(42, 43));
+				}).verifyComplete();
+	}
+
+	@Test
+	public void shouldResolveEmptyMonoToNull() {
+
+		new R2dbcParameterAccessor(queryMethod, Mono.empty(), Flux.just(42)).resolveParameters() //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.getBindableValue(0)).isNull()) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldResolveParametersOnNonBlockingThread() {
+
+		Mono<String> lastname = Mono.delay(Duration.ofMillis(10)).map(it -> "White");
+
+		new R2dbcParameterAccessor(queryMethod, lastname, Flux.just(42)).resolveParameters() //
+				.subscribeOn(Schedulers.parallel()) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.getBindableValue(0)).isEqualTo("White")) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldReturnSameAccessorWithoutReactiveParameters() {
+
+		R2dbcParameterAccessor accessor = new R2dbcParameterAccessor(queryMethod, "White", null);
+
+		accessor.resolveParameters() //
+				.as(StepVerifier::create) //
+				.expectNext(accessor) //
+				.verifyComplete();
+	}
+
+	@SuppressWarnings("unused")
+	private interface SampleRepository extends Repository<Person, String> {
+
+		Flux<Person> findByLastnameAndAgeIn(Mono<String> lastname, Flux<Integer> ages);
+	}
+
+	static class Person {
+
+		String lastname;
+		int age;
+	}
+}
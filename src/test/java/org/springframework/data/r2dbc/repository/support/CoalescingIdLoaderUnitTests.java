@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CoalescingIdLoader}.
+ *
+ * @author Mark Paluch
+ */
+public class CoalescingIdLoaderUnitTests {
+
+	List<List<Integer>> queries = new ArrayList<>();
+
+	@Test
+	public void shouldCoalesceLookupsWithinWindow() {
+
+		VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+		CoalescingIdLoader<String, Integer> loader = new CoalescingIdLoader<>(this::query, Integer::valueOf,
+				Duration.ofMillis(10), 100, scheduler);
+
+		StepVerifier.create(Mono.zip(loader.load(1), loader.load(2), loader.load(1))) //
+				.then(() -> scheduler.advanceTimeBy(Duration.ofMillis(10))) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getT1()).isEqualTo("1");
+					assertThat(actual.getT2()).isEqualTo("2");
+					assertThat(actual.getT3()).isEqualTo("1");
+				}).verifyComplete();
+
+		assertThat(queries).containsExactly(Arrays.asList(1, 2));
+	}
+
+	@Test
+	public void shouldDispatchFullBatchImmediately() {
+
+		VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+		CoalescingIdLoader<String, Integer> loader = new CoalescingIdLoader<>(this::query, Integer::valueOf,
+				Duration.ofMillis(10), 2, scheduler);
+
+		StepVerifier.create(Mono.zip(loader.load(1), loader.load(2))) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(queries).hasSize(1);
+	}
+
+	@Test
+	public void shouldRemoveCancelledLookups() {
+
+		VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+		CoalescingIdLoader<String, Integer> loader = new CoalescingIdLoader<>(this::query, Integer::valueOf,
+				Duration.ofMillis(10), 100, scheduler);
+
+		Disposable cancelled = loader.load(1).subscribe();
+		Disposable waiting = loader.load(2).subscribe();
+		loader.load(2).subscribe().dispose();
+
+		cancelled.dispose();
+		scheduler.advanceTimeBy(Duration.ofMillis(10));
+
+		assertThat(queries).containsExactly(Collections.singletonList(2));
+		assertThat(waiting.isDisposed()).isTrue();
+	}
+
+	@Test
+	public void shouldNotDispatchBatchWithoutLookups() {
+
+		VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+		CoalescingIdLoader<String, Integer> loader = new CoalescingIdLoader<>(this::query, Integer::valueOf,
+				Duration.ofMillis(10), 100, scheduler);
+
+		loader.load(1).subscribe().dispose();
+		scheduler.advanceTimeBy(Duration.ofMillis(10));
+
+		assertThat(queries).isEmpty();
+	}
+
+	@Test
+	public void shouldCompleteEmptyForMissingRows() {
+
+		CoalescingIdLoader<String, Integer> loader = new CoalescingIdLoader<>(this::query, Integer::valueOf,
+				Duration.ofMillis(1), 100, Schedulers.parallel());
+
+		loader.load(-1).as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	public void shouldPropagateErrorToAllWaitingSubscribers() {
+
+		CoalescingIdLoader<String, Integer> loader = new CoalescingIdLoader<>(
+				ids -> Flux.error(new IllegalStateException()), Integer::valueOf, Duration.ofMillis(1), 2,
+				Schedulers.parallel());
+
+		StepVerifier.create(Flux.merge(loader.load(1), loader.load(2))) //
+				.expectError(IllegalStateException.class) //
+				.verify();
+	}
+
+	private Flux<String> query(List<Integer> ids) {
+
+		queries.add(ids);
+
+		return Flux.fromIterable(ids).filter(it -> it > 0).map(String::valueOf);
+	}
+}
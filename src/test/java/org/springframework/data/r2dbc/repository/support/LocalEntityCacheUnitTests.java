@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.data.r2dbc.repository.support.EntityCache.Statistics;
+
+/**
+ * Unit tests for {@link LocalEntityCache}.
+ *
+ * @author Mark Paluch
+ */
+public class LocalEntityCacheUnitTests {
+
+	AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	public void shouldLoadOnMissAndServeHits() {
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+
+		cache.get(String.class, 1, () -> load("one")).as(StepVerifier::create).expectNext("one").verifyComplete();
+		cache.get(String.class, 1, () -> load("other")).as(StepVerifier::create).expectNext("one").verifyComplete();
+
+		Statistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getLoadCount()).isEqualTo(1);
+		assertThat(statistics.getHitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	public void shouldNotCacheEmptyResults() {
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+
+		cache.get(String.class, 1, Mono::empty).as(StepVerifier::create).verifyComplete();
+		cache.get(String.class, 1, () -> load("one")).as(StepVerifier::create).expectNext("one").verifyComplete();
+
+		assertThat(cache.getStatistics().getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldCoalesceConcurrentMisses() {
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+		MonoProcessor<String> result = MonoProcessor.create();
+
+		Mono<String> first = cache.get(String.class, 1, () -> {
+			loads.incrementAndGet();
+			return result;
+		});
+		Mono<String> second = cache.get(String.class, 1, () -> load("other"));
+
+		StepVerifier.create(Mono.zip(first, second)) //
+				.then(() -> result.onNext("one")) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getT1()).isEqualTo("one");
+					assertThat(actual.getT2()).isEqualTo("one");
+				}).verifyComplete();
+
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getStatistics().getMissCount()).isEqualTo(2);
+		assertThat(cache.getStatistics().getLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldNotCacheResultOfLoadEvictedWhileLoading() {
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+		MonoProcessor<String> result = MonoProcessor.create();
+
+		StepVerifier.create(cache.get(String.class, 1, () -> result)) //
+				.then(() -> cache.evict(String.class, 1)) //
+				.then(() -> result.onNext("stale")) //
+				.expectNext("stale") //
+				.verifyComplete();
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedEntry() {
+
+		LocalEntityCache cache = new LocalEntityCache(2);
+
+		cache.get(String.class, 1, () -> load("one")).block();
+		cache.get(String.class, 2, () -> load("two")).block();
+		cache.get(String.class, 1, () -> load("one")).block();
+		cache.get(String.class, 3, () -> load("three")).block();
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+
+		cache.get(String.class, 1, () -> load("one")).block();
+		cache.get(String.class, 2, () -> load("two")).block();
+
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	public void shouldExpireEntries() throws InterruptedException {
+
+		LocalEntityCache cache = new LocalEntityCache(10, Duration.ofMillis(10));
+
+		cache.get(String.class, 1, () -> load("one")).block();
+		Thread.sleep(20);
+		cache.get(String.class, 1, () -> load("one")).block();
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldEvictAllEntriesOfType() {
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+
+		cache.get(String.class, 1, () -> load("one")).block();
+		cache.get(Integer.class, 1, () -> Mono.just(1)).block();
+
+		cache.evictAll(String.class);
+
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveMaximumSize() {
+		new LocalEntityCache(0);
+	}
+
+	private Mono<String> load(String value) {
+		return Mono.fromSupplier(() -> {
+			loads.incrementAndGet();
+			return value;
+		});
+	}
+}
@@ -23,8 +23,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.aop.framework.Advised;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.r2dbc.function.DatabaseClient;
+import org.springframework.data.r2dbc.function.convert.MappingR2dbcConverter;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.repository.query.RelationalEntityInformation;
 import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
@@ -68,7 +70,28 @@ public class R2dbcRepositoryFactoryUnitTests {
 		assertThat(repository).isNotNull();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsRepositoryUsingBaseClassWithoutOptionsConstructor() throws Exception {
+
+		R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(databaseClient, mappingContext);
+		factory.setRepositoryBaseClass(CustomR2dbcRepository.class);
+		factory.setRepositoryOptions(R2dbcRepositoryOptions.defaults().withIdChunkSize(10));
+
+		MyPersonRepository repository = factory.getRepository(MyPersonRepository.class);
+
+		assertThat(((Advised) repository).getTargetSource().getTarget()).isInstanceOf(CustomR2dbcRepository.class);
+	}
+
 	interface MyPersonRepository extends Repository<Person, Long> {}
 
+	static class CustomR2dbcRepository<T, ID> extends SimpleR2dbcRepository<T, ID> {
+
+		public CustomR2dbcRepository(RelationalEntityInformation<T, ID> entity, DatabaseClient databaseClient,
+				MappingR2dbcConverter converter) {
+			super(entity, databaseClient, converter);
+		}
+	}
+
 	static class Person {}
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryOptions.InListStrategy;
+
+/**
+ * Unit tests for {@link R2dbcRepositoryOptions}.
+ *
+ * @author Mark Paluch
+ */
+public class R2dbcRepositoryOptionsUnitTests {
+
+	@Test
+	public void defaultsShouldUseExactStrategy() {
+		assertThat(R2dbcRepositoryOptions.defaults().getInListStrategy()).isEqualTo(InListStrategy.EXACT);
+	}
+
+	@Test
+	public void exactStrategyShouldRenderOneMarkerPerValue() {
+
+		List<Object> bindValues = InListStrategy.EXACT.getBindValues(Arrays.asList(1, 2, 3));
+
+		assertThat(bindValues).containsExactly(1, 2, 3);
+		assertThat(InListStrategy.EXACT.getPredicate("id", bindValues)).isEqualTo("id IN ($1, $2, $3)");
+	}
+
+	@Test
+	public void bucketedStrategyShouldPadToPowerOfTwo() {
+
+		assertThat(InListStrategy.BUCKETED.getBindValues(Collections.singletonList(1))).containsExactly(1);
+		assertThat(InListStrategy.BUCKETED.getBindValues(Arrays.asList(1, 2))).containsExactly(1, 2);
+		assertThat(InListStrategy.BUCKETED.getBindValues(Arrays.asList(1, 2, 3))).containsExactly(1, 2, 3, 3);
+		assertThat(InListStrategy.BUCKETED.getBindValues(Arrays.asList(1, 2, 3, 4, 5))).hasSize(8).endsWith(5, 5, 5);
+	}
+
+	@Test
+	public void bucketedStrategyShouldNotPadBeyondMaxBindValues() {
+
+		assertThat(InListStrategy.BUCKETED.getBindValues(Arrays.asList(1, 2, 3, 4, 5), 6)).hasSize(6).endsWith(5, 5);
+		assertThat(InListStrategy.BUCKETED.getBindValues(Arrays.asList(1, 2, 3), 2)).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void arrayStrategyShouldBindSingleArray() {
+
+		List<Object> bindValues = InListStrategy.ARRAY.getBindValues(Arrays.asList(1, 2, 3));
+
+		assertThat(bindValues).hasSize(1);
+		assertThat(bindValues.get(0)).isEqualTo(new Integer[] { 1, 2, 3 });
+		assertThat(InListStrategy.ARRAY.getPredicate("id", bindValues)).isEqualTo("id = ANY($1)");
+	}
+
+	@Test
+	public void withInListStrategyShouldCreateNewInstance() {
+
+		R2dbcRepositoryOptions options = R2dbcRepositoryOptions.defaults().withInListStrategy(InListStrategy.ARRAY);
+
+		assertThat(options.getInListStrategy()).isEqualTo(InListStrategy.ARRAY);
+		assertThat(R2dbcRepositoryOptions.defaults().getInListStrategy()).isEqualTo(InListStrategy.EXACT);
+	}
+
+	@Test
+	public void defaultsShouldUseSequentialChunks() {
+
+		R2dbcRepositoryOptions options = R2dbcRepositoryOptions.defaults();
+
+		assertThat(options.getIdChunkSize()).isEqualTo(R2dbcRepositoryOptions.DEFAULT_ID_CHUNK_SIZE);
+		assertThat(options.getSaveBatchSize()).isEqualTo(R2dbcRepositoryOptions.DEFAULT_SAVE_BATCH_SIZE);
+		assertThat(options.getConcurrency()).isEqualTo(1);
+		assertThat(options.isPreserveOrder()).isTrue();
+	}
+
+	@Test
+	public void withChunkOptionsShouldRetainOtherOptions() {
+
+		R2dbcRepositoryOptions options = R2dbcRepositoryOptions.defaults().withInListStrategy(InListStrategy.ARRAY)
+				.withIdChunkSize(10).withSaveBatchSize(20).withConcurrency(4).withPreserveOrder(false);
+
+		assertThat(options.getInListStrategy()).isEqualTo(InListStrategy.ARRAY);
+		assertThat(options.getIdChunkSize()).isEqualTo(10);
+		assertThat(options.getSaveBatchSize()).isEqualTo(20);
+		assertThat(options.getConcurrency()).isEqualTo(4);
+		assertThat(options.isPreserveOrder()).isFalse();
+	}
+
+	@Test
+	public void withEntityCacheShouldRetainOtherOptions() {
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+		R2dbcRepositoryOptions options = R2dbcRepositoryOptions.defaults().withIdChunkSize(10).withEntityCache(cache);
+
+		assertThat(options.getEntityCache()).isSameAs(cache);
+		assertThat(options.getIdChunkSize()).isEqualTo(10);
+		assertThat(R2dbcRepositoryOptions.defaults().getEntityCache()).isNull();
+	}
+
+	@Test
+	public void shouldConfigureFindByIdCoalescing() {
+
+		R2dbcRepositoryOptions options = R2dbcRepositoryOptions.defaults().withFindByIdCoalescing(Duration.ofMillis(5));
+
+		assertThat(options.getFindByIdCoalescingWindow()).isEqualTo(Duration.ofMillis(5));
+		assertThat(R2dbcRepositoryOptions.defaults().getFindByIdCoalescingWindow()).isEqualTo(Duration.ZERO);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNegativeCoalescingWindow() {
+		R2dbcRepositoryOptions.defaults().withFindByIdCoalescing(Duration.ofMillis(-1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveChunkSize() {
+		R2dbcRepositoryOptions.defaults().withIdChunkSize(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveConcurrency() {
+		R2dbcRepositoryOptions.defaults().withConcurrency(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveSaveBatchSize() {
+		R2dbcRepositoryOptions.defaults().withSaveBatchSize(0);
+	}
+}
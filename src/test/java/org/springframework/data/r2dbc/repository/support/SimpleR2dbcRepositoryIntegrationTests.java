@@ -26,6 +26,7 @@ import reactor.core.publisher.Hooks;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -37,8 +38,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.r2dbc.function.DatabaseClient;
+import org.springframework.data.r2dbc.function.connectionfactory.ReactiveTransactionSynchronization;
+import org.springframework.data.r2dbc.function.connectionfactory.TransactionResources;
+import org.springframework.data.r2dbc.function.convert.EntityChangeTracker;
 import org.springframework.data.r2dbc.function.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.repository.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryOptions.InListStrategy;
 import org.springframework.data.r2dbc.testing.R2dbcIntegrationTestSupport;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -128,6 +133,231 @@ public class SimpleR2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestS
 		assertThat(map).containsEntry("name", "SCHAUFELRADBAGGER").containsEntry("manual", 14).containsKey("id");
 	}
 
+	@Test
+	public void shouldUpdateModifiedColumnsOnly() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = createChangeTrackingRepository();
+
+		LegoSet legoSet = repository.findById(42055).block();
+
+		jdbc.execute("UPDATE repo_legoset SET name = 'FORSCHUNGSSCHIFF', manual = 13");
+
+		repository.save(legoSet) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForMap("SELECT * FROM repo_legoset")).containsEntry("name", "FORSCHUNGSSCHIFF")
+				.containsEntry("manual", 13);
+
+		legoSet.setManual(14);
+
+		repository.save(legoSet) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForMap("SELECT * FROM repo_legoset")).containsEntry("name", "FORSCHUNGSSCHIFF")
+				.containsEntry("manual", 14);
+	}
+
+	@Test
+	public void shouldTrackEntitiesReadThroughFindAll() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = createChangeTrackingRepository();
+
+		LegoSet legoSet = repository.findAll().blockFirst();
+
+		jdbc.execute("UPDATE repo_legoset SET name = 'FORSCHUNGSSCHIFF'");
+		legoSet.setManual(14);
+
+		repository.save(legoSet) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForMap("SELECT * FROM repo_legoset")).containsEntry("name", "FORSCHUNGSSCHIFF")
+				.containsEntry("manual", 14);
+	}
+
+	@Test
+	public void shouldUpdateAllColumnsAfterDelete() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = createChangeTrackingRepository();
+
+		LegoSet legoSet = repository.findById(42055).block();
+
+		repository.deleteById(42055) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'FORSCHUNGSSCHIFF', 13)");
+
+		repository.save(legoSet) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForMap("SELECT * FROM repo_legoset")).containsEntry("name", "SCHAUFELRADBAGGER")
+				.containsEntry("manual", 12);
+	}
+
+	@Test
+	public void shouldNotSnapshotIfNoRowWasUpdated() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = createChangeTrackingRepository();
+
+		LegoSet legoSet = repository.findById(42055).block();
+		legoSet.setManual(14);
+
+		jdbc.execute("DELETE FROM repo_legoset");
+
+		repository.save(legoSet) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'FORSCHUNGSSCHIFF', 13)");
+
+		repository.save(legoSet) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForMap("SELECT * FROM repo_legoset")).containsEntry("name", "SCHAUFELRADBAGGER")
+				.containsEntry("manual", 14);
+	}
+
+	@Test
+	public void shouldReadThroughEntityCache() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withEntityCache(cache));
+
+		LegoSet legoSet = repository.findById(42055).block();
+
+		jdbc.execute("UPDATE repo_legoset SET manual = 13");
+
+		repository.findById(42055) //
+				.map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(12) //
+				.verifyComplete();
+
+		repository.save(new LegoSet(42055, legoSet.getName(), 14)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		repository.findById(42055) //
+				.map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(14) //
+				.verifyComplete();
+
+		repository.deleteById(42055) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		repository.findById(42055) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(cache.getStatistics().getHitCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().getLoadCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldNotExposeCachedInstance() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withEntityCache(new LocalEntityCache(10)));
+
+		LegoSet legoSet = repository.findById(42055).block();
+		legoSet.setManual(13);
+
+		repository.findById(42055) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual).isNotSameAs(legoSet);
+					assertThat(actual.getManual()).isEqualTo(12);
+				}).verifyComplete();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldBypassEntityCacheWithinTransaction() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		LocalEntityCache cache = new LocalEntityCache(10);
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withEntityCache(cache));
+
+		ReactiveTransactionSynchronization synchronization = new ReactiveTransactionSynchronization();
+		synchronization.registerTransaction(TransactionResources.create());
+
+		repository.findById(42055) //
+				.subscriberContext(it -> it.put(ReactiveTransactionSynchronization.class, synchronization)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getStatistics().getMissCount()).isZero();
+	}
+
+	@Test
+	public void shouldCoalesceConcurrentFindById() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withFindByIdCoalescing(Duration.ofMillis(10)));
+
+		Mono.zip(repository.findById(42055), repository.findById(42064), repository.findById(1).hasElement()) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getT1().getName()).isEqualTo("SCHAUFELRADBAGGER");
+					assertThat(actual.getT2().getName()).isEqualTo("FORSCHUNGSSCHIFF");
+					assertThat(actual.getT3()).isFalse();
+				}).verifyComplete();
+	}
+
 	@Test
 	public void shouldSaveObjectsUsingIterable() {
 
@@ -164,6 +394,42 @@ public class SimpleR2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestS
 		assertThat(map).containsEntry("count", 2L);
 	}
 
+	@Test
+	public void shouldSaveNewAndExistingObjectsInBatches() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withSaveBatchSize(3));
+
+		LegoSet existing1 = new LegoSet(42055, "SCHAUFELRADBAGGER", 14);
+		LegoSet new1 = new LegoSet(null, "RALLYEAUTO", 15);
+		LegoSet existing2 = new LegoSet(42064, "FORSCHUNGSSCHIFF", 16);
+		LegoSet new2 = new LegoSet(null, "VOLTRON", 17);
+		LegoSet new3 = new LegoSet(null, "FLUGHAFEN-LÖSCHFAHRZEUG", 18);
+
+		repository.saveAll(Arrays.asList(existing1, new1, existing2, new2, new3)) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.getId()).isEqualTo(42055)) //
+				.consumeNextWith(actual -> assertThat(actual.getId()).isNotNull()) //
+				.consumeNextWith(actual -> assertThat(actual.getId()).isEqualTo(42064)) //
+				.consumeNextWith(actual -> assertThat(actual.getId()).isNotNull()) //
+				.consumeNextWith(actual -> assertThat(actual.getId()).isNotNull()) //
+				.verifyComplete();
+
+		assertThat(new1.getId()).isNotEqualTo(new2.getId()).isNotEqualTo(new3.getId());
+
+		Map<String, Object> map = jdbc.queryForMap("SELECT COUNT(*) FROM repo_legoset");
+		assertThat(map).containsEntry("count", 5L);
+		assertThat(jdbc.queryForObject("SELECT SUM(manual) FROM repo_legoset WHERE id IN (42055, 42064)", Long.class))
+				.isEqualTo(30L);
+	}
+
 	@Test
 	public void shouldFindById() {
 
@@ -259,6 +525,75 @@ public class SimpleR2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestS
 				}).verifyComplete();
 	}
 
+	@Test
+	public void shouldFindAllByIdUsingBucketedInList() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42068, 'FLUGHAFEN-LÖSCHFAHRZEUG', 13)");
+
+		repository.findAllById(Arrays.asList(42055, 42064, 42068)) //
+				.map(LegoSet::getName) //
+				.collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual).hasSize(3).contains("SCHAUFELRADBAGGER", "FORSCHUNGSSCHIFF",
+							"FLUGHAFEN-LÖSCHFAHRZEUG");
+				}).verifyComplete();
+	}
+
+	@Test
+	public void shouldFindAllByIdUsingArrayParameter() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withInListStrategy(InListStrategy.ARRAY));
+
+		repository.findAllById(Arrays.asList(42055, 42064)) //
+				.map(LegoSet::getName) //
+				.collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual).hasSize(2).contains("SCHAUFELRADBAGGER", "FORSCHUNGSSCHIFF");
+				}).verifyComplete();
+	}
+
+	@Test
+	public void shouldFindAllByIdUsingConcurrentChunks() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42064, 'FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42068, 'FLUGHAFEN-LÖSCHFAHRZEUG', 13)");
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		SimpleR2dbcRepository<LegoSet, Integer> repository = new SimpleR2dbcRepository<>(entityInformation,
+				databaseClient, new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withIdChunkSize(1).withConcurrency(2));
+
+		repository.findAllById(Flux.just(42055, 42064, 42068)) //
+				.map(LegoSet::getName) //
+				.as(StepVerifier::create) //
+				.expectNext("SCHAUFELRADBAGGER", "FORSCHUNGSSCHIFF", "FLUGHAFEN-LÖSCHFAHRZEUG") //
+				.verifyComplete();
+
+		repository.deleteById(Flux.just(42055, 42064, 42068)) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		Map<String, Object> map = jdbc.queryForMap("SELECT COUNT(*) FROM repo_legoset");
+		assertThat(map).containsEntry("count", 0L);
+	}
+
 	@Test
 	public void shouldCount() {
 
@@ -317,6 +652,19 @@ public class SimpleR2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestS
 		assertThat(map).containsEntry("count", 0L);
 	}
 
+	@Test
+	public void shouldDeleteAll() {
+
+		jdbc.execute("INSERT INTO repo_legoset (id, name, manual) VALUES(42055, 'SCHAUFELRADBAGGER', 12)");
+
+		repository.deleteAll() //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		Map<String, Object> map = jdbc.queryForMap("SELECT COUNT(*) FROM repo_legoset");
+		assertThat(map).containsEntry("count", 0L);
+	}
+
 	@Test
 	public void shouldDeleteAllUsingIterable() {
 
@@ -347,6 +695,17 @@ public class SimpleR2dbcRepositoryIntegrationTests extends R2dbcIntegrationTestS
 		assertThat(map).containsEntry("count", 0L);
 	}
 
+	@SuppressWarnings("unchecked")
+	private SimpleR2dbcRepository<LegoSet, Integer> createChangeTrackingRepository() {
+
+		RelationalEntityInformation<LegoSet, Integer> entityInformation = new MappingRelationalEntityInformation<>(
+				(RelationalPersistentEntity<LegoSet>) mappingContext.getRequiredPersistentEntity(LegoSet.class));
+
+		return new SimpleR2dbcRepository<>(entityInformation, databaseClient,
+				new MappingR2dbcConverter(new BasicRelationalConverter(mappingContext)),
+				R2dbcRepositoryOptions.defaults().withChangeTracker(new EntityChangeTracker()));
+	}
+
 	@Data
 	@Table("repo_legoset")
 	@AllArgsConstructor